@@ -0,0 +1,236 @@
+package com.example.cache.common.bloomfilter;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bloom Filter(Cuckoo Filter 포함)의 "확실히 없음" 결과를 로컬에 캐시한다.
+ * <p>
+ * - "확실히 없음"은 해당 값이 추가되기 전까지 바뀌지 않으므로, 같은 값의 반복 조회는 네트워크 I/O 없이 응답한다.
+ *   (존재하지 않는 id를 반복 조회하는 스크래핑, 열거 공격 트래픽이 Redis까지 전달되지 않음)
+ * - 제거(Counting Bloom Filter, Cuckoo Filter)는 "없음"을 늘리기만 하므로 캐시를 무효화하지 않는다.
+ * - 값을 추가하면 로컬 캐시에서 제거하고, pub/sub으로 다른 노드에도 알려서 제거한다.
+ * - 조회 중에 같은 값(또는 필터 전체)이 무효화되었다면, 조회 결과가 이미 오래된 값일 수 있으므로 캐시하지 않는다.
+ *   (값 별 무효화 시점으로 비교하므로, 다른 값의 추가는 진행 중인 조회의 결과를 버리지 않음)
+ * - pub/sub 알림은 유실될 수 있으므로, 캐시는 TTL 후 만료되어 다시 필터를 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BloomFilterNegativeCache {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 무효화 알림 채널 (메시지: 필터 이름 + "\n" + 값, 값이 없으면 필터 전체 무효화)
+    public static final String INVALIDATION_CHANNEL = "bloom-filter-negative-cache:invalidated";
+
+    // 로컬에 캐시할 최대 "없음" 결과 수
+    public static final long MAXIMUM_SIZE = 100_000;
+
+    // 무효화 알림이 유실되었을 때 "없음" 결과가 유지되는 최대 시간
+    public static final Duration TTL = Duration.ofMinutes(1);
+
+    private final Cache<NegativeKey, Boolean> negatives = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    // 무효화 순서를 나타내는 시퀀스 (조회 시작 시점과 무효화 시점을 비교)
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 값 → 마지막으로 무효화된 시퀀스 (진행 중인 조회보다 오래 유지되면 되므로 "없음" 결과와 같은 TTL로 만료)
+    private final Cache<NegativeKey, Long> invalidatedSequences = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    // 필터 이름 → 필터 전체가 마지막으로 무효화된 시퀀스
+    private final ConcurrentHashMap<String, Long> allInvalidatedSequences = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidated(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL)
+        );
+    }
+
+    /**
+     * "없음"으로 캐시된 값이면 필터를 조회하지 않고 false를 반환한다.
+     *
+     * @param filterName  필터 이름 (전략 별로 구분되도록 지정)
+     * @param mightContain 실제 필터 조회
+     */
+    public boolean mightContain(String filterName, String value, Predicate<String> mightContain) {
+        NegativeKey negativeKey = new NegativeKey(filterName, value);
+        if (negatives.getIfPresent(negativeKey) != null) {
+            return false;
+        }
+
+        long startSequence = sequence.get();
+        boolean result = mightContain.test(value);
+        if (!result) {
+            putIfNotInvalidated(startSequence, List.of(negativeKey));
+        }
+        return result;
+    }
+
+    /**
+     * 필터에 "있을 수도 있음"인 id만 reader로 조회한다.
+     *
+     * @return 필터에 확실히 없으면 null
+     */
+    public <T> T read(String filterName, Long id, Predicate<String> mightContain, Function<Long, T> reader) {
+        if (!mightContain(filterName, String.valueOf(id), mightContain)) {
+            return null;
+        }
+        return reader.apply(id);
+    }
+
+    /**
+     * 필터에 "있을 수도 있음"인 id만 모아서 reader로 일괄 조회한다. (확실히 없는 id는 reader에 전달하지 않음)
+     */
+    public <T> List<T> readAll(
+            String filterName,
+            List<Long> ids,
+            Function<List<String>, Map<String, Boolean>> mightContainAll,
+            Function<List<Long>, List<T>> reader
+    ) {
+        Map<String, Boolean> mightContains = mightContainAll(
+                filterName,
+                ids.stream().map(String::valueOf).toList(),
+                mightContainAll
+        );
+        List<Long> mightContainIds = ids.stream()
+                .filter(id -> mightContains.get(String.valueOf(id)))
+                .toList();
+        return reader.apply(mightContainIds);
+    }
+
+    /**
+     * "없음"으로 캐시된 값은 제외하고, 나머지 값만 필터에서 일괄 조회한다.
+     *
+     * @param mightContainAll 실제 필터 일괄 조회
+     * @return 요청한 값 순서가 유지된 value → mightContain
+     */
+    public Map<String, Boolean> mightContainAll(
+            String filterName,
+            List<String> values,
+            Function<List<String>, Map<String, Boolean>> mightContainAll
+    ) {
+        List<String> uncachedValues = new ArrayList<>();
+        for (String value : new LinkedHashSet<>(values)) {
+            if (negatives.getIfPresent(new NegativeKey(filterName, value)) == null) {
+                uncachedValues.add(value);
+            }
+        }
+
+        long startSequence = sequence.get();
+        Map<String, Boolean> fetched = uncachedValues.isEmpty() ? Map.of() : mightContainAll.apply(uncachedValues);
+
+        List<NegativeKey> negativeKeys = new ArrayList<>();
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        for (String value : new LinkedHashSet<>(values)) {
+            boolean mightContain = fetched.getOrDefault(value, false);
+            if (fetched.containsKey(value) && !mightContain) {
+                negativeKeys.add(new NegativeKey(filterName, value));
+            }
+            result.put(value, mightContain);
+        }
+        putIfNotInvalidated(startSequence, negativeKeys);
+        return result;
+    }
+
+    /**
+     * 값이 추가되었으므로 모든 노드에서 "없음" 결과를 제거한다.
+     * - 필터에 추가한 이후에 호출해야 한다. (추가 전에 무효화하면 그 사이 조회한 "없음"이 다시 캐시될 수 있음)
+     */
+    public void invalidate(String filterName, String value) {
+        invalidateLocally(filterName, value);
+        publish(filterName + "\n" + value);
+    }
+
+    /**
+     * 필터 전체가 교체(재구축 등)되었으므로 모든 노드에서 해당 필터의 "없음" 결과를 제거한다.
+     */
+    public void invalidateAll(String filterName) {
+        invalidateAllLocally(filterName);
+        publish(filterName);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 알림이 실패해도 다른 노드의 캐시는 TTL 후 만료된다.
+            log.error("[BloomFilterNegativeCache.publish] message={}", message, e);
+        }
+    }
+
+    private void onInvalidated(String message) {
+        int separatorIndex = message.indexOf('\n');
+        if (separatorIndex < 0) {
+            invalidateAllLocally(message);
+            return;
+        }
+        invalidateLocally(message.substring(0, separatorIndex), message.substring(separatorIndex + 1));
+    }
+
+    private void invalidateLocally(String filterName, String value) {
+        // 무효화 시점을 먼저 기록해서, 진행 중인 조회가 무효화 이전의 결과를 캐시하지 못하게 한다.
+        NegativeKey negativeKey = new NegativeKey(filterName, value);
+        invalidatedSequences.asMap().merge(negativeKey, sequence.incrementAndGet(), Math::max);
+        negatives.invalidate(negativeKey);
+    }
+
+    private void invalidateAllLocally(String filterName) {
+        allInvalidatedSequences.merge(filterName, sequence.incrementAndGet(), Math::max);
+        negatives.asMap().keySet().removeIf(negativeKey -> negativeKey.filterName().equals(filterName));
+    }
+
+    /**
+     * 조회를 시작한 이후에 해당 값(또는 필터 전체)의 무효화가 없었을 때만 "없음" 결과를 캐시한다.
+     */
+    private void putIfNotInvalidated(long startSequence, List<NegativeKey> negativeKeys) {
+        for (NegativeKey negativeKey : negativeKeys) {
+            negatives.put(negativeKey, Boolean.TRUE);
+            // 캐시하는 도중에 무효화되었다면 방금 캐시한 결과를 되돌린다.
+            if (isInvalidatedAfter(negativeKey, startSequence)) {
+                negatives.invalidate(negativeKey);
+            }
+        }
+    }
+
+    private boolean isInvalidatedAfter(NegativeKey negativeKey, long startSequence) {
+        Long invalidatedSequence = invalidatedSequences.getIfPresent(negativeKey);
+        if (invalidatedSequence != null && invalidatedSequence > startSequence) {
+            return true;
+        }
+        Long allInvalidatedSequence = allInvalidatedSequences.get(negativeKey.filterName());
+        return allInvalidatedSequence != null && allInvalidatedSequence > startSequence;
+    }
+
+    private record NegativeKey(String filterName, String value) {
+    }
+
+}
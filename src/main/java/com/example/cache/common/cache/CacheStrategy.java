@@ -9,5 +9,10 @@ public enum CacheStrategy {
     SPLIT_SHARDED_BLOOM_FILTER,
     SPLIT_SHARDED_SUB_BLOOM_FILTER,
     JITTER,
-    PROBABILISTIC_EARLY_RECOMPUTATION
+    PROBABILISTIC_EARLY_RECOMPUTATION,
+    NEAR_CACHE,
+    STALE_WHILE_REVALIDATE,
+    LOCAL_REPLICA_BLOOM_FILTER,
+    COUNTING_BLOOM_FILTER,
+    CUCKOO_FILTER
 }
@@ -4,15 +4,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
-import java.util.List;
 import java.util.function.Supplier;
 
 @Slf4j
@@ -20,71 +19,72 @@ import java.util.function.Supplier;
 @Component
 @RequiredArgsConstructor
 public class CustomCacheAspect {
-    private final List<CustomCacheHandler> CustomCacheHandlers;
-    private final CustomCacheKeyGenerator CustomCacheKeyGenerator;
+    private final CustomCacheOperationSource customCacheOperationSource;
+    private final CustomCacheSingleFlight customCacheSingleFlight;
 
+    // 동일 key의 대표 요청을 기다리는 최대 시간 (초과 시 대기 중인 요청은 예외를 받는다)
+    private static final Duration SINGLE_FLIGHT_TIMEOUT = Duration.ofSeconds(3);
+
+    /*
+        캐시 미스로 Data Source를 조회할 때만 key 별 대표 요청 1건이 조회한다.
+
+        - 캐시 히트는 Single Flight를 거치지 않으므로, 동시 요청이 대표 요청을 기다리지 않는다.
+        - 대기 중인 요청은 대표 요청의 Data Source 조회 결과(또는 예외)를 그대로 공유받는다.
+        - 캐시 처리 중 예외가 발생해서 Data Source를 직접 조회할 때도 같은 Single Flight로 병합된다.
+     */
     @Around("@annotation(customCacheable)")
     public Object handleCacheable(ProceedingJoinPoint joinPoint, CustomCacheable CustomCacheable) {
-        CacheStrategy cacheStrategy = CustomCacheable.cacheStrategy();
-        CustomCacheHandler cacheHandler = findCacheHandler(cacheStrategy);
+        CustomCacheOperation operation = customCacheOperationSource.findCacheableOperation(findMethod(joinPoint), CustomCacheable);
+
+        String key = operation.genKey(joinPoint.getArgs());
+        Supplier<Object> dataSourceSupplier = createDataSourceSupplier(key, joinPoint);
 
-        String key = CustomCacheKeyGenerator.genKey(joinPoint, cacheStrategy, CustomCacheable.cacheName(), CustomCacheable.key());
-        Duration ttl = Duration.ofSeconds(CustomCacheable.ttlSeconds());
-        Supplier<Object> dataSourceSupplier = createDataSourceSupplier(joinPoint);
-        Class returnType = findReturnType(joinPoint);
+        log.info("[CustomCacheAspect.handleCacheable] key={}", key);
+        return fetch(operation, key, dataSourceSupplier);
+    }
 
+    private Object fetch(CustomCacheOperation operation, String key, Supplier<Object> dataSourceSupplier) {
         try {
-            log.info("[CustomCacheAspect.handleCacheable] key={}", key);
-            return cacheHandler.fetch(
+            return operation.getCacheHandler().fetch(
+                    operation.getCacheName(),
                     key,
-                    ttl,
+                    operation.getTtl(),
                     dataSourceSupplier,
-                    returnType
+                    operation.getDataType()
             );
         } catch (Exception e) {
-            log.error("[CustomCacheAspect.handleCacheable] key={}", key, e);
+            log.error("[CustomCacheAspect.fetch] key={}", key, e);
             return dataSourceSupplier.get();
         }
     }
 
-    private CustomCacheHandler findCacheHandler(CacheStrategy cacheStrategy) {
-        return CustomCacheHandlers.stream()
-                .filter(handler -> handler.supports(cacheStrategy))
-                .findFirst()
-                .orElseThrow();
-    }
-
-    private Supplier<Object> createDataSourceSupplier(ProceedingJoinPoint joinPoint) {
-        return () -> {
+    private Supplier<Object> createDataSourceSupplier(String key, ProceedingJoinPoint joinPoint) {
+        return () -> customCacheSingleFlight.execute(key, SINGLE_FLIGHT_TIMEOUT, () -> {
             try {
                 return joinPoint.proceed();
             } catch (Throwable e) {
                 throw new RuntimeException(e);
             }
-        };
+        });
     }
 
-    private Class findReturnType(JoinPoint joinPoint) {
-        Signature signature = joinPoint.getSignature();
-        MethodSignature methodSignature = (MethodSignature) signature;
-        return methodSignature.getReturnType();
+    private Method findMethod(JoinPoint joinPoint) {
+        return ((MethodSignature) joinPoint.getSignature()).getMethod();
     }
 
     @AfterReturning(pointcut = "@annotation(CustomCachePut)", returning = "result")
     public void handleCachePut(JoinPoint joinPoint, CustomCachePut CustomCachePut, Object result) {
-        CacheStrategy cacheStrategy = CustomCachePut.cacheStrategy();
-        CustomCacheHandler cacheHandler = findCacheHandler(cacheStrategy);
-        String key = CustomCacheKeyGenerator.genKey(joinPoint, cacheStrategy, CustomCachePut.cacheName(), CustomCachePut.key());
+        CustomCacheOperation operation = customCacheOperationSource.findPutOperation(findMethod(joinPoint), CustomCachePut);
+        String key = operation.genKey(joinPoint.getArgs());
         log.info("[CustomCacheAspect.handleCachePut] key={}", key);
-        cacheHandler.put(key, Duration.ofSeconds(CustomCachePut.ttlSeconds()), result);
+        operation.getCacheHandler().put(operation.getCacheName(), key, operation.getTtl(), result);
     }
 
     @AfterReturning(pointcut = "@annotation(CustomCacheEvict)")
     public void handleCacheEvict(JoinPoint joinPoint, CustomCacheEvict CustomCacheEvict) {
-        CacheStrategy cacheStrategy = CustomCacheEvict.cacheStrategy();
-        CustomCacheHandler cacheHandler = findCacheHandler(cacheStrategy);
-        String key = CustomCacheKeyGenerator.genKey(joinPoint, cacheStrategy, CustomCacheEvict.cacheName(), CustomCacheEvict.key());
+        CustomCacheOperation operation = customCacheOperationSource.findEvictOperation(findMethod(joinPoint), CustomCacheEvict);
+        String key = operation.genKey(joinPoint.getArgs());
         log.info("[CustomCacheAspect.handleCacheEvict] key={}", key);
-        cacheHandler.evict(key);
+        operation.getCacheHandler().evict(key);
     }
 }
@@ -0,0 +1,89 @@
+package com.example.cache.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 여러 id를 CustomCacheHandler.fetchAll로 한 번에 조회한다.
+ * <p>
+ * - key는 '#id' 형태의 CustomCacheable과 동일한 {cacheStrategy}:{cacheName}:{id} 형식으로 생성하므로,
+ *   단건 조회와 같은 캐시 데이터를 공유한다.
+ * - 캐시 미스 key의 Data Source 조회만 CustomCacheAspect와 같은 CustomCacheSingleFlight를 key 단위로 사용하므로,
+ *   다른 요청(단건/일괄)이 Data Source에서 조회 중인 key는 다시 조회하지 않고 그 결과를 공유한다. (캐시 히트는 기다리지 않음)
+ * - 캐시 처리 중 예외가 발생하면 모든 key를 같은 Single Flight로 Data Source에서 직접 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomCacheBatchFetcher {
+    private final CustomCacheHandlerRegistry customCacheHandlerRegistry;
+    private final CustomCacheSingleFlight customCacheSingleFlight;
+
+    // 다른 요청이 조회 중인 key를 기다리는 최대 시간 (CustomCacheAspect와 동일)
+    private static final Duration SINGLE_FLIGHT_TIMEOUT = Duration.ofSeconds(3);
+
+    /**
+     * @return ids 순서가 유지된 데이터 목록 (Data Source에도 없는 id는 제외)
+     */
+    public <ID, T> List<T> fetchAll(
+            CacheStrategy cacheStrategy,
+            String cacheName,
+            Duration ttl,
+            List<ID> ids,
+            Function<List<ID>, Map<ID, T>> dataSourceLoader,
+            Class<T> clazz
+    ) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        String prefix = cacheStrategy + ":" + cacheName + ":";
+        Map<String, ID> keyToId = new LinkedHashMap<>();
+        for (ID id : ids) {
+            keyToId.put(prefix + id, id);
+        }
+        List<String> keys = new ArrayList<>(keyToId.keySet());
+
+        log.info("[CustomCacheBatchFetcher.fetchAll] keys={}", keys);
+        Function<List<String>, Map<String, T>> missLoader = missedKeys -> customCacheSingleFlight.executeAll(
+                missedKeys,
+                SINGLE_FLIGHT_TIMEOUT,
+                leaderKeys -> load(leaderKeys, keyToId, dataSourceLoader)
+        );
+
+        Map<String, T> result;
+        try {
+            result = customCacheHandlerRegistry.find(cacheStrategy).fetchAll(cacheName, keys, ttl, missLoader, clazz);
+        } catch (Exception e) {
+            log.error("[CustomCacheBatchFetcher.fetchAll] keys={}", keys, e);
+            result = missLoader.apply(keys);
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    private <ID, T> Map<String, T> load(
+            List<String> keys,
+            Map<String, ID> keyToId,
+            Function<List<ID>, Map<ID, T>> dataSourceLoader
+    ) {
+        List<ID> ids = keys.stream().map(keyToId::get).toList();
+        Map<ID, T> sourceResults = dataSourceLoader.apply(ids);
+
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            T data = sourceResults.get(keyToId.get(key));
+            if (data != null) {
+                result.put(key, data);
+            }
+        }
+        return result;
+    }
+}
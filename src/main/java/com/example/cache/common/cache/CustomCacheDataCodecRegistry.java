@@ -0,0 +1,39 @@
+package com.example.cache.common.cache;
+
+import com.example.cache.serde.DataCodec;
+import com.example.cache.serde.DataCodecs;
+import com.example.cache.serde.DataCompressor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * cacheName 별 DataCodec, DataCompressor 저장소
+ * <p>
+ * - 저장 시점에만 사용한다. 조회 시에는 저장된 값의 헤더로 codec과 압축 여부를 판단하므로, 설정을 바꿔도 기존 값을 읽을 수 있다.
+ * - 지정하지 않은 cacheName은 JSON으로 압축 없이 저장한다.
+ */
+@Component
+public class CustomCacheDataCodecRegistry {
+
+    // 압축할 최소 크기 (이보다 작은 값은 압축 효과에 비해 CPU 비용이 큼)
+    public static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+
+    // 캐시 전략 핸들러가 실제로 저장하는 item 캐시는 JSON 문자열 파싱 비용이 없는 Smile로 저장
+    private final Map<String, DataCodec> dataCodecs = Map.of(
+            "item", DataCodecs.SMILE
+    );
+
+    // 임계값 이상인 값만 압축하므로, 작은 item은 압축 비용 없이 그대로 저장된다.
+    private final Map<String, DataCompressor> dataCompressors = Map.of(
+            "item", DataCompressor.deflate(COMPRESSION_THRESHOLD_BYTES)
+    );
+
+    public DataCodec find(String cacheName) {
+        return dataCodecs.getOrDefault(cacheName, DataCodecs.JSON);
+    }
+
+    public DataCompressor findCompressor(String cacheName) {
+        return dataCompressors.getOrDefault(cacheName, DataCompressor.NONE);
+    }
+}
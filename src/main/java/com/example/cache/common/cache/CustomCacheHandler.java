@@ -1,12 +1,62 @@
 package com.example.cache.common.cache;
 
+import com.example.cache.serde.DataType;
+
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public interface CustomCacheHandler {
-    <T> T fetch(String key, Duration ttl, Supplier<T> dataSourceSupplier, Class<T> clazz);
+    /**
+     * @param cacheName 저장할 codec, compressor를 찾을 cacheName
+     * @param dataType 미리 만들어둔 reader/writer (제네릭 타입 포함)
+     */
+    <T> T fetch(String cacheName, String key, Duration ttl, Supplier<T> dataSourceSupplier, DataType<T> dataType);
+
+    default <T> T fetch(String cacheName, String key, Duration ttl, Supplier<T> dataSourceSupplier, Class<T> clazz) {
+        return fetch(cacheName, key, ttl, dataSourceSupplier, DataType.of(clazz));
+    }
+
+    /**
+     * 여러 key를 한 번에 조회한다.
+     * <p>
+     * - 캐시 미스가 발생한 key 목록만 missLoader로 한 번에 조회하고, 조회 결과를 캐시에 저장한다.
+     * - missLoader 결과에 없는 key(Data Source에도 없는 데이터)는 반환 결과에서 제외된다.
+     * - 기본 구현은 key 별로 fetch를 호출하므로, 핸들러는 한 번의 왕복으로 처리하도록 재정의해야 한다.
+     *
+     * @return key 순서가 유지된 key → data
+     */
+    default <T> Map<String, T> fetchAll(
+            String cacheName,
+            List<String> keys,
+            Duration ttl,
+            Function<List<String>, Map<String, T>> missLoader,
+            DataType<T> dataType
+    ) {
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            T data = fetch(cacheName, key, ttl, () -> missLoader.apply(List.of(key)).get(key), dataType);
+            if (data != null) {
+                result.put(key, data);
+            }
+        }
+        return result;
+    }
+
+    default <T> Map<String, T> fetchAll(
+            String cacheName,
+            List<String> keys,
+            Duration ttl,
+            Function<List<String>, Map<String, T>> missLoader,
+            Class<T> clazz
+    ) {
+        return fetchAll(cacheName, keys, ttl, missLoader, DataType.of(clazz));
+    }
 
-    void put(String key, Duration ttl, Object value);
+    void put(String cacheName, String key, Duration ttl, Object value);
 
     void evict(String key);
 
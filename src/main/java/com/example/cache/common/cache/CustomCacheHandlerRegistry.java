@@ -0,0 +1,46 @@
+package com.example.cache.common.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CacheStrategy 별 CustomCacheHandler 저장소
+ * <p>
+ * - 애플리케이션 시작 시점에 한 번만 supports()로 매핑하고, 요청 시에는 EnumMap에서 바로 찾는다.
+ * - 하나의 전략을 2개 이상의 핸들러가 지원하면 시작 시점에 실패한다.
+ */
+@Component
+public class CustomCacheHandlerRegistry {
+
+    private final Map<CacheStrategy, CustomCacheHandler> cacheHandlers = new EnumMap<>(CacheStrategy.class);
+
+    public CustomCacheHandlerRegistry(List<CustomCacheHandler> cacheHandlers) {
+        for (CacheStrategy cacheStrategy : CacheStrategy.values()) {
+            List<CustomCacheHandler> supported = cacheHandlers.stream()
+                    .filter(cacheHandler -> cacheHandler.supports(cacheStrategy))
+                    .toList();
+
+            if (supported.size() > 1) {
+                throw new IllegalStateException(
+                        "Multiple CustomCacheHandlers support " + cacheStrategy + ". handlers=" + supported
+                );
+            }
+
+            if (supported.size() == 1) {
+                this.cacheHandlers.put(cacheStrategy, supported.getFirst());
+            }
+        }
+    }
+
+    public CustomCacheHandler find(CacheStrategy cacheStrategy) {
+        CustomCacheHandler cacheHandler = cacheHandlers.get(cacheStrategy);
+        if (cacheHandler == null) {
+            throw new IllegalStateException("No CustomCacheHandler supports " + cacheStrategy);
+        }
+        return cacheHandler;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.example.cache.common.cache;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 메서드 + 어노테이션 속성 별로 한 번만 만들어두는 캐시 key 생성기
+ * <p>
+ * - {cacheStrategy}:{cacheName}: prefix는 미리 만들어둔다.
+ * - key가 '#itemId'처럼 파라미터 하나를 그대로 참조하는 경우 SpEL을 거치지 않고 파라미터 값을 바로 사용한다.
+ * - 그 외의 key는 미리 파싱(컴파일)해둔 SpEL 표현식으로 계산한다.
+ */
+public class CustomCacheKeyExpression {
+
+    private static final Pattern SIMPLE_PARAMETER_PATTERN = Pattern.compile("^#([A-Za-z_$][A-Za-z0-9_$]*)$");
+
+    private final String prefix;
+    private final String[] parameterNames;
+    private final int simpleParameterIndex; // '#param' 형태가 아니라면 -1
+    private final Expression expression; // '#param' 형태라면 null
+
+    private CustomCacheKeyExpression(String prefix, String[] parameterNames, int simpleParameterIndex, Expression expression) {
+        this.prefix = prefix;
+        this.parameterNames = parameterNames;
+        this.simpleParameterIndex = simpleParameterIndex;
+        this.expression = expression;
+    }
+
+    static CustomCacheKeyExpression create(
+            CacheStrategy cacheStrategy,
+            String cacheName,
+            String keySpel,
+            String[] parameterNames,
+            ExpressionParser parser
+    ) {
+        String prefix = cacheStrategy + ":" + cacheName + ":";
+
+        int simpleParameterIndex = findSimpleParameterIndex(keySpel, parameterNames);
+        if (simpleParameterIndex >= 0) {
+            return new CustomCacheKeyExpression(prefix, parameterNames, simpleParameterIndex, null);
+        }
+        return new CustomCacheKeyExpression(prefix, parameterNames, -1, parser.parseExpression(keySpel));
+    }
+
+    private static int findSimpleParameterIndex(String keySpel, String[] parameterNames) {
+        Matcher matcher = SIMPLE_PARAMETER_PATTERN.matcher(keySpel.trim());
+        if (!matcher.matches()) {
+            return -1;
+        }
+        String parameterName = matcher.group(1);
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (parameterNames[i].equals(parameterName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return {cacheStrategy}:{cacheName}:{key}
+     */
+    public String genKey(Object[] args) {
+        if (simpleParameterIndex >= 0) {
+            return prefix + args[simpleParameterIndex];
+        }
+
+        EvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < args.length; i++) {
+            context.setVariable(parameterNames[i], args[i]);
+        }
+        return prefix + expression.getValue(context, String.class);
+    }
+
+}
@@ -1,29 +1,39 @@
 package com.example.cache.common.cache;
 
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Component
 public class CustomCacheKeyGenerator {
-    private final ExpressionParser parser = new SpelExpressionParser();
+    /*
+        MIXED 모드: 반복 실행되는 표현식은 바이트코드로 컴파일하여 실행하고,
+        컴파일이 불가능하거나 실패하면 인터프리터 방식으로 실행한다.
+     */
+    private final ExpressionParser parser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, CustomCacheKeyGenerator.class.getClassLoader())
+    );
+
+    // 메서드 + 어노테이션 속성 별로 한 번만 파싱한 key 표현식과 파라미터 이름
+    private final ConcurrentHashMap<KeyExpressionId, CustomCacheKeyExpression> keyExpressions = new ConcurrentHashMap<>();
 
     /**
-     * @return {cacheStrategy}:{cacheName}:{key}
+     * 메서드의 key 표현식을 미리 만들어둔다. (이미 만들어져 있다면 재사용)
      */
-    public String genKey(JoinPoint joinPoint, CacheStrategy cacheStrategy, String cacheName, String keySpel) {
-        EvaluationContext context = new StandardEvaluationContext();
-        String[] parameterNames = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
-        Object[] args = joinPoint.getArgs();
-        for (int i = 0; i < args.length; i++) {
-            context.setVariable(parameterNames[i], args[i]);
-        }
+    public CustomCacheKeyExpression compile(Method method, String[] parameterNames, CacheStrategy cacheStrategy, String cacheName, String keySpel) {
+        return keyExpressions.computeIfAbsent(
+                new KeyExpressionId(method, cacheStrategy, cacheName, keySpel),
+                id -> CustomCacheKeyExpression.create(cacheStrategy, cacheName, keySpel, parameterNames, parser)
+        );
+    }
 
-        return cacheStrategy + ":" + cacheName + ":"
-                + parser.parseExpression(keySpel).getValue(context, String.class);
+    private record KeyExpressionId(
+            Method method, CacheStrategy cacheStrategy, String cacheName, String keySpel
+    ) {
     }
 }
@@ -0,0 +1,58 @@
+package com.example.cache.common.cache;
+
+import com.example.cache.serde.DataType;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+
+/**
+ * 캐시 어노테이션이 붙은 메서드 1개에 대한 캐시 처리 정보
+ * <p>
+ * - 어노테이션 속성, 핸들러, key 표현식, 반환 타입을 메서드 별로 한 번만 계산해둔다.
+ * - 반환 타입은 제네릭 타입을 유지한 채로 reader/writer(DataType)를 미리 만들어둔다.
+ */
+@Getter
+@ToString
+public class CustomCacheOperation {
+
+    private CacheStrategy cacheStrategy;
+    private String cacheName;
+    private CustomCacheHandler cacheHandler;
+    private CustomCacheKeyExpression keyExpression;
+    private Duration ttl; // CustomCacheEvict는 ttl이 없으므로 null
+    private DataType<Object> dataType;
+
+    public static CustomCacheOperation create(
+            CacheStrategy cacheStrategy,
+            String cacheName,
+            CustomCacheHandler cacheHandler,
+            CustomCacheKeyExpression keyExpression,
+            Duration ttl,
+            Type returnType
+    ) {
+        CustomCacheOperation customCacheOperation = new CustomCacheOperation();
+        customCacheOperation.cacheStrategy = cacheStrategy;
+        customCacheOperation.cacheName = cacheName;
+        customCacheOperation.cacheHandler = cacheHandler;
+        customCacheOperation.keyExpression = keyExpression;
+        customCacheOperation.ttl = ttl;
+        customCacheOperation.dataType = castDataType(DataType.of(returnType));
+        return customCacheOperation;
+    }
+
+    // 어드바이스 메서드의 반환 값은 Object로 다루므로 DataType<Object>로 사용한다.
+    @SuppressWarnings("unchecked")
+    private static DataType<Object> castDataType(DataType<?> dataType) {
+        return (DataType<Object>) dataType;
+    }
+
+    /**
+     * @return {cacheStrategy}:{cacheName}:{key}
+     */
+    public String genKey(Object[] args) {
+        return keyExpression.genKey(args);
+    }
+
+}
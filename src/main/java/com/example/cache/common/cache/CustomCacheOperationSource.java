@@ -0,0 +1,110 @@
+package com.example.cache.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 어노테이션이 붙은 메서드 별 CustomCacheOperation 저장소
+ * <p>
+ * - 어노테이션 속성, 핸들러, key 표현식, 반환 타입(reader/writer)은 메서드 별로 한 번만 계산하고 재사용한다.
+ * - 애플리케이션 시작 시점에 모든 빈의 캐시 어노테이션을 미리 계산하여, 핸들러가 없는 전략을 사용하면 바로 실패한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomCacheOperationSource implements SmartInitializingSingleton {
+    private final ApplicationContext applicationContext;
+    private final CustomCacheHandlerRegistry customCacheHandlerRegistry;
+    private final CustomCacheKeyGenerator customCacheKeyGenerator;
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    private final ConcurrentHashMap<Method, CustomCacheOperation> cacheableOperations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, CustomCacheOperation> putOperations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, CustomCacheOperation> evictOperations = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> beanType = applicationContext.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            ReflectionUtils.doWithMethods(ClassUtils.getUserClass(beanType), this::resolve);
+        }
+        log.info("[CustomCacheOperationSource.afterSingletonsInstantiated] cacheable={}, put={}, evict={}",
+                cacheableOperations.size(), putOperations.size(), evictOperations.size());
+    }
+
+    private void resolve(Method method) {
+        CustomCacheable customCacheable = method.getAnnotation(CustomCacheable.class);
+        if (customCacheable != null) {
+            findCacheableOperation(method, customCacheable);
+        }
+        CustomCachePut customCachePut = method.getAnnotation(CustomCachePut.class);
+        if (customCachePut != null) {
+            findPutOperation(method, customCachePut);
+        }
+        CustomCacheEvict customCacheEvict = method.getAnnotation(CustomCacheEvict.class);
+        if (customCacheEvict != null) {
+            findEvictOperation(method, customCacheEvict);
+        }
+    }
+
+    public CustomCacheOperation findCacheableOperation(Method method, CustomCacheable customCacheable) {
+        return cacheableOperations.computeIfAbsent(method, m -> create(
+                m,
+                customCacheable.cacheStrategy(),
+                customCacheable.cacheName(),
+                customCacheable.key(),
+                Duration.ofSeconds(customCacheable.ttlSeconds())
+        ));
+    }
+
+    public CustomCacheOperation findPutOperation(Method method, CustomCachePut customCachePut) {
+        return putOperations.computeIfAbsent(method, m -> create(
+                m,
+                customCachePut.cacheStrategy(),
+                customCachePut.cacheName(),
+                customCachePut.key(),
+                Duration.ofSeconds(customCachePut.ttlSeconds())
+        ));
+    }
+
+    public CustomCacheOperation findEvictOperation(Method method, CustomCacheEvict customCacheEvict) {
+        return evictOperations.computeIfAbsent(method, m -> create(
+                m,
+                customCacheEvict.cacheStrategy(),
+                customCacheEvict.cacheName(),
+                customCacheEvict.key(),
+                null
+        ));
+    }
+
+    private CustomCacheOperation create(Method method, CacheStrategy cacheStrategy, String cacheName, String keySpel, Duration ttl) {
+        String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+        if (parameterNames == null) {
+            throw new IllegalStateException("Cannot discover parameter names. method=" + method);
+        }
+
+        return CustomCacheOperation.create(
+                cacheStrategy,
+                cacheName,
+                customCacheHandlerRegistry.find(cacheStrategy),
+                customCacheKeyGenerator.compile(method, parameterNames, cacheStrategy, cacheName, keySpel),
+                ttl,
+                method.getGenericReturnType()
+        );
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.cache.common.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Single Flight (요청 병합)
+ * <p>
+ * - 같은 JVM 안에서 동일한 key에 대한 Data Source 조회가 동시에 발생하면 최초 1건(대표 요청)만 실제로 조회한다.
+ * - 나머지 요청은 대표 요청의 결과(또는 예외)를 공유받는다.
+ * - 대표 요청이 timeout 안에 끝나지 않으면 대기 중인 요청은 예외를 받는다.
+ * - 일괄 조회(executeAll)도 key 단위로 같은 대표 요청을 공유하므로, 단건 조회와 일괄 조회가 서로 병합된다.
+ */
+@Component
+public class CustomCacheSingleFlight {
+
+    // key 별로 진행 중인 Data Source 조회
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlights = new ConcurrentHashMap<>();
+
+    public <T> T execute(String key, Duration timeout, Supplier<T> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            // 이미 진행 중인 조회가 있으면 결과를 기다린다
+            return await(key, inFlight, timeout);
+        }
+
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // 대기 중인 요청에도 동일한 예외를 전파
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlights.remove(key, flight);
+        }
+    }
+
+    /**
+     * 여러 key를 한 번에 조회한다.
+     * <p>
+     * - 진행 중인 조회가 없는 key만 loader로 한 번에 조회하고, 나머지 key는 진행 중인 조회의 결과를 기다린다.
+     * - 자신의 key를 먼저 조회한 뒤에 기다리므로, 서로의 key를 기다리는 교착 상태는 발생하지 않는다.
+     *
+     * @return key 순서가 유지된 key → data (loader 결과에 없는 key는 제외)
+     */
+    public <T> Map<String, T> executeAll(
+            List<String> keys,
+            Duration timeout,
+            Function<List<String>, Map<String, T>> loader
+    ) {
+        Map<String, CompletableFuture<Object>> flights = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Object>> otherInFlights = new LinkedHashMap<>();
+        for (String key : keys) {
+            CompletableFuture<Object> flight = new CompletableFuture<>();
+            CompletableFuture<Object> inFlight = inFlights.putIfAbsent(key, flight);
+            if (inFlight == null) {
+                flights.put(key, flight);
+            } else {
+                otherInFlights.put(key, inFlight);
+            }
+        }
+
+        Map<String, T> loaded = Map.of();
+        if (!flights.isEmpty()) {
+            try {
+                loaded = loader.apply(new ArrayList<>(flights.keySet()));
+                for (Map.Entry<String, CompletableFuture<Object>> flight : flights.entrySet()) {
+                    flight.getValue().complete(loaded.get(flight.getKey()));
+                }
+            } catch (Throwable e) {
+                // 대기 중인 요청에도 동일한 예외를 전파
+                flights.values().forEach(flight -> flight.completeExceptionally(e));
+                throw e;
+            } finally {
+                flights.forEach(inFlights::remove);
+            }
+        }
+
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            T data = flights.containsKey(key) ? loaded.get(key) : await(key, otherInFlights.get(key), timeout);
+            if (data != null) {
+                result.put(key, data);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(String key, CompletableFuture<Object> inFlight, Duration timeout) {
+        try {
+            return (T) inFlight.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("single flight timeout. key=" + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("single flight interrupted. key=" + key, e);
+        }
+    }
+}
@@ -1,23 +1,97 @@
 package com.example.cache.common.distributedlock;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
+/**
+ * Redis SET NX 기반 분산 락
+ * <p>
+ * - 락을 획득할 때마다 새로운 token을 값으로 저장하고, 해제할 때는 token이 같을 때만 삭제한다.
+ * - 작업이 락 TTL보다 오래 걸려서 다른 곳에서 락을 다시 획득했다면, 이전 소유자의 unlock은 새로운 락을 지우지 않는다.
+ */
 @Component
 @RequiredArgsConstructor
 public class DistributedLockProvider {
     private final StringRedisTemplate redisTemplate;
 
-    public boolean lock(String id, Duration ttl) {
-        Boolean result = redisTemplate.opsForValue().setIfAbsent(genKey(id), "", ttl);
-        return result != null && result;
+    // KEYS[1]: 락 Key, ARGV[1]: 획득할 때 저장한 token
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * @return 락을 획득했다면 해제할 때 사용할 token, 이미 다른 곳에서 획득했다면 null
+     */
+    public String lockOrNull(String id, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean result = redisTemplate.opsForValue().setIfAbsent(genKey(id), token, ttl);
+        return Boolean.TRUE.equals(result) ? token : null;
+    }
+
+    /**
+     * 여러 락을 파이프라인 1회로 획득한다.
+     *
+     * @return 획득한 락의 id → token (이미 다른 곳에서 획득한 id는 제외)
+     */
+    public Map<String, String> lockAll(List<String> ids, Duration ttl) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<String> tokens = ids.stream().map(id -> UUID.randomUUID().toString()).toList();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<?>) action -> {
+            StringRedisConnection conn = (StringRedisConnection) action;
+            for (int i = 0; i < ids.size(); i++) {
+                conn.set(genKey(ids.get(i)), tokens.get(i), Expiration.from(ttl), SetOption.ifAbsent());
+            }
+            return null;
+        });
+
+        Map<String, String> lockTokens = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                lockTokens.put(ids.get(i), tokens.get(i));
+            }
+        }
+        return lockTokens;
+    }
+
+    /**
+     * token이 같을 때만(이 token으로 획득한 락이 아직 유지되고 있을 때만) 해제한다.
+     */
+    public void unlock(String id, String token) {
+        redisTemplate.execute(UNLOCK, List.of(genKey(id)), token);
     }
 
-    public void unlock(String id) {
-        redisTemplate.delete(genKey(id));
+    /**
+     * lockAll로 획득한 락을 파이프라인 1회로 해제한다.
+     */
+    public void unlockAll(Map<String, String> lockTokens) {
+        if (lockTokens.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<?>) action -> {
+            StringRedisConnection conn = (StringRedisConnection) action;
+            lockTokens.forEach((id, token) ->
+                    conn.eval(UNLOCK.getScriptAsString(), ReturnType.INTEGER, 1, genKey(id), token));
+            return null;
+        });
     }
 
     private String genKey(String id) {
@@ -0,0 +1,69 @@
+package com.example.cache.common.redis;
+
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldGet;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldIncrBy;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldSet;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldSubCommand;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.connection.BitFieldSubCommands.Offset;
+
+import java.util.List;
+
+/**
+ * 여러 비트를 BITFIELD 명령 1개로 조회/설정하기 위한 서브 커맨드 생성기
+ * <p>
+ * - k개의 GETBIT/SETBIT 대신 'BITFIELD key GET u1 o1 GET u1 o2 ...' 형태로 한 번에 처리한다.
+ * - 응답은 서브 커맨드 순서대로 반환된다. (GET은 비트 값, SET은 이전 비트 값)
+ */
+public final class BitFieldCommands {
+
+    private static final BitFieldType BIT = BitFieldType.unsigned(1);
+
+    private BitFieldCommands() {
+    }
+
+    public static BitFieldSubCommands getBits(List<Long> offsets) {
+        BitFieldSubCommand[] subCommands = new BitFieldSubCommand[offsets.size()];
+        for (int i = 0; i < offsets.size(); i++) {
+            subCommands[i] = BitFieldGet.create(BIT, Offset.offset(offsets.get(i)));
+        }
+        return BitFieldSubCommands.create(subCommands);
+    }
+
+    public static BitFieldSubCommands setBits(List<Long> offsets) {
+        BitFieldSubCommand[] subCommands = new BitFieldSubCommand[offsets.size()];
+        for (int i = 0; i < offsets.size(); i++) {
+            subCommands[i] = BitFieldSet.create(BIT, Offset.offset(offsets.get(i)), 1);
+        }
+        return BitFieldSubCommands.create(subCommands);
+    }
+
+    /**
+     * 'BITFIELD key GET {type} o1 GET {type} o2 ...'
+     */
+    public static BitFieldSubCommands getValues(BitFieldType type, List<Long> offsets) {
+        BitFieldSubCommand[] subCommands = new BitFieldSubCommand[offsets.size()];
+        for (int i = 0; i < offsets.size(); i++) {
+            subCommands[i] = BitFieldGet.create(type, Offset.offset(offsets.get(i)));
+        }
+        return BitFieldSubCommands.create(subCommands);
+    }
+
+    /**
+     * 'BITFIELD key OVERFLOW SAT INCRBY {type} o1 {increment} OVERFLOW SAT INCRBY {type} o2 {increment} ...'
+     * <p>
+     * - 최댓값/최솟값을 넘으면 wrap-around 없이 최댓값/최솟값에 머문다.
+     */
+    public static BitFieldSubCommands incrementValuesSaturated(BitFieldType type, List<Long> offsets, long increment) {
+        BitFieldSubCommands subCommands = BitFieldSubCommands.create();
+        for (Long offset : offsets) {
+            subCommands = subCommands.incr(type)
+                    .valueAt(Offset.offset(offset))
+                    .overflow(BitFieldIncrBy.Overflow.SAT)
+                    .by(increment);
+        }
+        return subCommands;
+    }
+
+}
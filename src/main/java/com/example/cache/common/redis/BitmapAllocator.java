@@ -0,0 +1,261 @@
+package com.example.cache.common.redis;
+
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.connection.BitFieldSubCommands.Offset;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 대용량 Bitmap 메모리를 미리 할당한다.
+ * <p>
+ * - Redis는 비트 offset에 처음 접근할 때 문자열을 확장하므로, 큰 offset에 바로 접근하면 한 번에 큰 메모리 할당이 일어나 다른 명령이 지연된다.
+ * - Key마다 chunkBytes씩 순서대로 확장하고, 여러 Key(Split, Shard)의 확장 명령을 하나의 파이프라인으로 묶어 실행한다.
+ * - 동시에 실행하는 파이프라인 수는 concurrency로 제한하고, 초당 확장 횟수는 RateLimiter로 제한한다.
+ * - 파이프라인 응답 시간이 latencyBudget을 넘으면 확장 속도를 절반으로 줄이고, 넘지 않으면 조금씩 늘린다.
+ * - 확장된 크기는 STRLEN으로 확인하므로, 도중에 종료되어도 다시 호출하면 이어서 할당한다.
+ * - 'BITFIELD INCRBY u1 {offset} 0'으로 확장하므로 이미 설정된 비트는 바뀌지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BitmapAllocator {
+
+    private static final BitFieldType BIT = BitFieldType.unsigned(1);
+    private static final long IDLE_WAIT_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @param key     할당할 Bitmap Key
+     * @param bitSize 할당할 비트 수
+     */
+    public record Target(String key, long bitSize) {
+        long byteSize() {
+            return (bitSize + 7) / 8;
+        }
+    }
+
+    /**
+     * @param concurrency            동시에 실행하는 파이프라인 수
+     * @param pipelineSize           파이프라인 1개에 담는 확장 명령 수 (서로 다른 Key)
+     * @param chunkBytes             확장 명령 1개로 늘리는 크기
+     * @param latencyBudget          파이프라인 1개의 허용 응답 시간
+     * @param initialChunksPerSecond 초기 초당 확장 명령 수
+     * @param maxChunksPerSecond     최대 초당 확장 명령 수
+     */
+    public record Options(
+            int concurrency,
+            int pipelineSize,
+            long chunkBytes,
+            Duration latencyBudget,
+            double initialChunksPerSecond,
+            double maxChunksPerSecond
+    ) {
+        public static final Options DEFAULT = new Options(4, 8, 1024 * 1024, Duration.ofMillis(5), 100, 2000);
+    }
+
+    public long allocate(List<Target> targets) {
+        return allocate(targets, Options.DEFAULT);
+    }
+
+    /**
+     * @return 이번 호출에서 새로 할당한 byte 수
+     */
+    public long allocate(List<Target> targets, Options options) {
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> allocatedBytes = findAllocatedBytes(targets);
+        Queue<Cursor> cursors = new ConcurrentLinkedQueue<>();
+        long totalBytes = 0;
+        long alreadyAllocatedBytes = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            Target target = targets.get(i);
+            long allocated = Math.min(allocatedBytes.get(i), target.byteSize());
+            totalBytes += target.byteSize();
+            alreadyAllocatedBytes += allocated;
+            if (allocated < target.byteSize()) {
+                cursors.add(new Cursor(target, allocated));
+            }
+        }
+
+        Progress progress = new Progress(totalBytes, alreadyAllocatedBytes);
+        log.info("[BitmapAllocator.allocate] keyCount={}, totalBytes={}, alreadyAllocatedBytes={}",
+                targets.size(), totalBytes, alreadyAllocatedBytes);
+
+        // 큐에 있거나 다른 worker가 확장 중인(다시 큐에 넣을 수 있는) cursor 수
+        AtomicInteger remainingCursors = new AtomicInteger(cursors.size());
+        // 한 worker라도 실패하면 나머지 worker도 대기하지 않고 종료한다. (실패한 worker의 cursor는 다시 큐에 들어오지 않음)
+        AtomicBoolean failed = new AtomicBoolean();
+        RateLimiter rateLimiter = RateLimiter.create(options.initialChunksPerSecond());
+        ExecutorService executor = Executors.newFixedThreadPool(options.concurrency());
+        try {
+            // 먼저 끝난 worker부터 확인해서, 어느 worker가 실패하더라도 바로 실패로 처리한다.
+            CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < options.concurrency(); i++) {
+                completionService.submit(() -> {
+                    allocateChunks(cursors, remainingCursors, failed, rateLimiter, progress, options);
+                    return null;
+                });
+            }
+            for (int i = 0; i < options.concurrency(); i++) {
+                completionService.take().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bitmap allocation interrupted", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Bitmap allocation failed. " + progress, e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("[BitmapAllocator.allocate] completed. {}", progress);
+        return progress.allocatedBytes.get() - alreadyAllocatedBytes;
+    }
+
+    /**
+     * - 큐가 비어 있어도 다른 worker가 확장 중인 cursor를 다시 큐에 넣을 수 있으므로,
+     *   큐와 확장 중인 cursor가 모두 없을 때만 종료한다. (그 전에는 잠시 대기 후 다시 확인)
+     * - 파이프라인 실행에 실패하면 failed를 설정하고 예외를 던진다. 다른 worker는 failed를 보고 종료한다.
+     */
+    private void allocateChunks(
+            Queue<Cursor> cursors,
+            AtomicInteger remainingCursors,
+            AtomicBoolean failed,
+            RateLimiter rateLimiter,
+            Progress progress,
+            Options options
+    ) {
+        while (remainingCursors.get() > 0 && !failed.get()) {
+            List<Cursor> batch = new ArrayList<>(options.pipelineSize());
+            Cursor cursor;
+            while (batch.size() < options.pipelineSize() && (cursor = cursors.poll()) != null) {
+                batch.add(cursor);
+            }
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(IDLE_WAIT_NANOS);
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                continue;
+            }
+
+            rateLimiter.acquire(batch.size());
+
+            long start = System.nanoTime();
+            List<Long> nextBytes = batch.stream()
+                    .map(c -> Math.min(c.allocatedBytes + options.chunkBytes(), c.target.byteSize()))
+                    .toList();
+            try {
+                redisTemplate.executePipelined((RedisCallback<?>) action -> {
+                    StringRedisConnection conn = (StringRedisConnection) action;
+                    for (int i = 0; i < batch.size(); i++) {
+                        // 마지막 비트에 0을 더해서 값을 바꾸지 않고 문자열만 확장
+                        conn.bitfield(batch.get(i).target.key(), BitFieldSubCommands.create()
+                                .incr(BIT)
+                                .valueAt(Offset.offset(nextBytes.get(i) * 8 - 1))
+                                .by(0));
+                    }
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                failed.set(true);
+                throw e;
+            }
+            adjustRate(rateLimiter, Duration.ofNanos(System.nanoTime() - start), options);
+
+            for (int i = 0; i < batch.size(); i++) {
+                Cursor c = batch.get(i);
+                progress.add(nextBytes.get(i) - c.allocatedBytes);
+                c.allocatedBytes = nextBytes.get(i);
+                if (c.allocatedBytes < c.target.byteSize()) {
+                    cursors.add(c);
+                } else {
+                    remainingCursors.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * 응답 시간이 예산을 넘으면 속도를 절반으로, 아니면 10%씩 늘린다. (AIMD와 유사)
+     */
+    private void adjustRate(RateLimiter rateLimiter, Duration elapsed, Options options) {
+        double rate = rateLimiter.getRate();
+        if (elapsed.compareTo(options.latencyBudget()) > 0) {
+            rateLimiter.setRate(Math.max(1, rate / 2));
+        } else if (rate < options.maxChunksPerSecond()) {
+            rateLimiter.setRate(Math.min(options.maxChunksPerSecond(), rate * 1.1));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> findAllocatedBytes(List<Target> targets) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<?>) action -> {
+            StringRedisConnection conn = (StringRedisConnection) action;
+            targets.forEach(target -> conn.strLen(target.key()));
+            return null;
+        });
+        return (List<Long>) (List<?>) results;
+    }
+
+    private static class Cursor {
+        private final Target target;
+        private long allocatedBytes;
+
+        private Cursor(Target target, long allocatedBytes) {
+            this.target = target;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+
+    private static class Progress {
+        private static final int LOG_STEP_PERCENT = 10;
+
+        private final long totalBytes;
+        private final AtomicLong allocatedBytes;
+        private final AtomicLong loggedPercent = new AtomicLong();
+
+        private Progress(long totalBytes, long allocatedBytes) {
+            this.totalBytes = totalBytes;
+            this.allocatedBytes = new AtomicLong(allocatedBytes);
+        }
+
+        private void add(long bytes) {
+            long percent = allocatedBytes.addAndGet(bytes) * 100 / totalBytes;
+            long logged = loggedPercent.get();
+            if (percent >= logged + LOG_STEP_PERCENT && loggedPercent.compareAndSet(logged, percent)) {
+                log.info("[BitmapAllocator.allocate] progress={}%, allocatedBytes={}, totalBytes={}",
+                        percent, allocatedBytes.get(), totalBytes);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "allocatedBytes=" + allocatedBytes.get() + ", totalBytes=" + totalBytes;
+        }
+    }
+
+}
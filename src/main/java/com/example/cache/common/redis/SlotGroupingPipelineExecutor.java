@@ -0,0 +1,183 @@
+package com.example.cache.common.redis;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Key의 Cluster Slot 기준으로 명령을 묶어 파이프라인으로 실행하는 실행기
+ * <p>
+ * - 같은 노드가 담당하는 Slot의 명령을 하나의 파이프라인으로 묶고, 노드 별 파이프라인은 병렬로 실행한다. (노드 당 왕복 1회)
+ * - 단일 노드 Redis라면 모든 명령을 하나의 파이프라인으로 실행한다. (기존 executePipelined와 동일)
+ * - 응답은 명령 순서대로 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotGroupingPipelineExecutor {
+
+    private static final String STANDALONE_NODE = "standalone";
+    private static final String UNKNOWN_NODE = "unknown";
+    private static final Duration TOPOLOGY_REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 노드 별 파이프라인은 응답을 기다리는 동안 블로킹되므로 가상 스레드로 실행
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile ClusterTopologySnapshot topologySnapshot;
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @param commands        실행할 명령 목록
+     * @param keyOf           명령이 접근하는 Key (Slot 계산 기준)
+     * @param pipelineCommand 파이프라인에 명령을 추가하는 함수
+     * @return commands와 같은 순서의 응답
+     */
+    public <C> List<Object> execute(
+            List<C> commands,
+            Function<C, String> keyOf,
+            BiConsumer<StringRedisConnection, C> pipelineCommand
+    ) {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, List<Integer>> indexesByNode = groupByNode(commands, keyOf);
+        if (indexesByNode.size() == 1) {
+            return executePipelined(commands, pipelineCommand);
+        }
+
+        Object[] results = new Object[commands.size()];
+        CompletableFuture<?>[] futures = indexesByNode.values().stream()
+                .map(indexes -> CompletableFuture.runAsync(() -> {
+                    List<Object> nodeResults = executePipelined(
+                            indexes.stream().map(commands::get).toList(),
+                            pipelineCommand
+                    );
+                    for (int i = 0; i < indexes.size(); i++) {
+                        results[indexes.get(i)] = nodeResults.get(i);
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 여러 Key에 접근하는 명령(Lua 스크립트 등)을 명령 1개로 실행할 수 있는지 확인한다.
+     * <p>
+     * - 단일 노드 Redis라면 항상 true
+     * - Redis Cluster라면 모든 Key가 같은 Slot일 때만 true (Slot이 다르면 CROSSSLOT 오류가 발생함)
+     */
+    public boolean isSameSlot(List<String> keys) {
+        if (keys.isEmpty() || !isClusterAware()) {
+            return true;
+        }
+        int slot = ClusterSlotHashUtil.calculateSlot(keys.getFirst());
+        return keys.stream().allMatch(key -> ClusterSlotHashUtil.calculateSlot(key) == slot);
+    }
+
+    private <C> List<Object> executePipelined(List<C> commands, BiConsumer<StringRedisConnection, C> pipelineCommand) {
+        return redisTemplate.executePipelined((RedisCallback<?>) action -> {
+            StringRedisConnection conn = (StringRedisConnection) action;
+            commands.forEach(command -> pipelineCommand.accept(conn, command));
+            return null;
+        });
+    }
+
+    /**
+     * @return 노드 → 해당 노드가 담당하는 명령의 index 목록
+     */
+    private <C> Map<String, List<Integer>> groupByNode(List<C> commands, Function<C, String> keyOf) {
+        Map<Integer, List<Integer>> indexesBySlot = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            indexesBySlot.computeIfAbsent(ClusterSlotHashUtil.calculateSlot(keyOf.apply(commands.get(i))), slot -> new ArrayList<>())
+                    .add(i);
+        }
+
+        Map<Integer, String> nodeBySlot = findNodes(indexesBySlot.keySet());
+
+        Map<String, List<Integer>> indexesByNode = new LinkedHashMap<>();
+        indexesBySlot.forEach((slot, indexes) ->
+                indexesByNode.computeIfAbsent(nodeBySlot.get(slot), node -> new ArrayList<>()).addAll(indexes)
+        );
+        return indexesByNode;
+    }
+
+    private Map<Integer, String> findNodes(Set<Integer> slots) {
+        Map<Integer, String> nodeBySlot = new HashMap<>();
+        if (!isClusterAware()) {
+            slots.forEach(slot -> nodeBySlot.put(slot, STANDALONE_NODE));
+            return nodeBySlot;
+        }
+
+        List<RedisClusterNode> masterNodes = findMasterNodes();
+        for (Integer slot : slots) {
+            String node = masterNodes.stream()
+                    .filter(masterNode -> masterNode.servesSlot(slot))
+                    .findFirst()
+                    .map(RedisClusterNode::asString)
+                    .orElse(UNKNOWN_NODE);
+            nodeBySlot.put(slot, node);
+        }
+        return nodeBySlot;
+    }
+
+    /**
+     * Cluster Topology(마스터 노드 목록)는 TOPOLOGY_REFRESH_INTERVAL 동안 재사용한다. (호출마다 Cluster 연결을 열지 않음)
+     * - Topology가 바뀐 직후에는 노드 별 묶음이 어긋날 수 있지만, 명령은 클라이언트가 올바른 노드로 전달하므로 결과는 같다.
+     */
+    private List<RedisClusterNode> findMasterNodes() {
+        ClusterTopologySnapshot snapshot = topologySnapshot;
+        if (snapshot != null && System.nanoTime() - snapshot.loadedAtNanos() < TOPOLOGY_REFRESH_INTERVAL.toNanos()) {
+            return snapshot.masterNodes();
+        }
+
+        List<RedisClusterNode> masterNodes = new ArrayList<>();
+        try (RedisClusterConnection clusterConnection = redisTemplate.getRequiredConnectionFactory().getClusterConnection()) {
+            clusterConnection.clusterGetNodes().forEach(node -> {
+                if (node.isMaster()) {
+                    masterNodes.add(node);
+                }
+            });
+        }
+        topologySnapshot = new ClusterTopologySnapshot(List.copyOf(masterNodes), System.nanoTime());
+        return masterNodes;
+    }
+
+    private record ClusterTopologySnapshot(List<RedisClusterNode> masterNodes, long loadedAtNanos) {
+    }
+
+    private boolean isClusterAware() {
+        RedisConnectionFactory connectionFactory = redisTemplate.getRequiredConnectionFactory();
+        return connectionFactory instanceof LettuceConnectionFactory lettuceConnectionFactory
+                && lettuceConnectionFactory.isClusterAware();
+    }
+
+}
@@ -4,6 +4,7 @@ import com.example.cache.common.cache.CacheStrategy;
 import com.example.cache.model.ItemCreateRequest;
 import com.example.cache.model.ItemUpdateRequest;
 import com.example.cache.service.ItemCacheService;
+import com.example.cache.service.ItemCacheServiceRegistry;
 import com.example.cache.service.response.ItemPageResponse;
 import com.example.cache.service.response.ItemResponse;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +15,7 @@ import java.util.List;
 @RestController
 @RequiredArgsConstructor
 public class ItemController {
-    private final List<ItemCacheService> itemCacheServices;
+    private final ItemCacheServiceRegistry itemCacheServiceRegistry;
 
     @GetMapping("/cache-strategy/{cacheStrategy}/items/{itemId}")
     public ItemResponse read(
@@ -33,6 +34,14 @@ public class ItemController {
         return resolveCacheHandler(cacheStrategy).readAll(page, pageSize);
     }
 
+    @GetMapping("/cache-strategy/{cacheStrategy}/items/batch")
+    public List<ItemResponse> readAll(
+            @PathVariable CacheStrategy cacheStrategy,
+            @RequestParam List<Long> itemIds
+    ) {
+        return resolveCacheHandler(cacheStrategy).readAll(itemIds);
+    }
+
     @GetMapping("/cache-strategy/{cacheStrategy}/items/infinite-scroll")
     public ItemPageResponse readAllInfiniteScroll(
             @PathVariable CacheStrategy cacheStrategy,
@@ -68,9 +77,6 @@ public class ItemController {
     }
 
     private ItemCacheService resolveCacheHandler(CacheStrategy cacheStrategy) {
-        return itemCacheServices.stream()
-                .filter(itemCacheService -> itemCacheService.supports(cacheStrategy))
-                .findFirst()
-                .orElseThrow();
+        return itemCacheServiceRegistry.find(cacheStrategy);
     }
 }
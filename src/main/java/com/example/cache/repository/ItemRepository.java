@@ -6,6 +6,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentSkipListMap;
 
@@ -31,6 +32,18 @@ public class ItemRepository {
                 .toList();
     }
 
+    /**
+     * 여러 id를 한 번에 조회한다. (존재하지 않는 id는 제외, 요청한 id 순서 유지)
+     */
+    public List<Item> readAll(List<Long> itemIds) {
+        log.info("[ItemRepository.readAll] itemIds={}", itemIds);
+        return itemIds.stream()
+                .distinct()
+                .map(database::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     public List<Item> readAllInfiniteScroll(Long lastItemId, Long pageSize) {
         log.info("[ItemRepository.readAllInfiniteScroll] lastItemId={}, pageSize={}", lastItemId, pageSize);
         if (lastItemId == null) {
@@ -43,6 +56,21 @@ public class ItemRepository {
                 .toList();
     }
 
+    /**
+     * lastItemId 다음부터 chunkSize개의 id만 조회한다. (Bloom Filter 재구축 등 전체 id 순회용)
+     */
+    public List<Long> readAllIds(Long lastItemId, Long chunkSize) {
+        log.info("[ItemRepository.readAllIds] lastItemId={}, chunkSize={}", lastItemId, chunkSize);
+        if (lastItemId == null) {
+            return database.keySet().stream()
+                    .limit(chunkSize)
+                    .toList();
+        }
+        return database.tailMap(lastItemId, false).keySet().stream()
+                .limit(chunkSize)
+                .toList();
+    }
+
     public Item create(Item item) {
         log.info("[ItemRepository.create] item={}", item);
         database.put(item.getItemId(), item);
@@ -55,9 +83,12 @@ public class ItemRepository {
         return item;
     }
 
-    public void delete(Item item) {
+    /**
+     * @return 실제로 삭제했으면 true (이미 삭제된 데이터면 false)
+     */
+    public boolean delete(Item item) {
         log.info("[ItemRepository.delete] item={}", item);
-        database.remove(item.getItemId());
+        return database.remove(item.getItemId()) != null;
     }
 
     public long count() {
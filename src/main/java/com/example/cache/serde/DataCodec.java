@@ -0,0 +1,26 @@
+package com.example.cache.serde;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * 캐시 데이터 직렬화 방식(codec)
+ * <p>
+ * - id는 직렬화 결과의 첫 byte(헤더)에 기록되어, 저장된 값만 보고 어떤 codec으로 읽어야 하는지 알 수 있다.
+ *   (cacheName 별 codec을 바꾸더라도 기존에 저장된 값을 그대로 읽을 수 있음)
+ * - 헤더 id는 JSON 텍스트의 첫 글자가 될 수 없는 제어 문자(0x01 ~ 0x08) 범위를 사용한다.
+ * - JSON은 기존 형식과 호환되도록 헤더 없이 저장한다. (DataCodecs.JSON)
+ * - 타입 별 reader/writer는 DataType이 미리 만들어서 재사용한다.
+ */
+public interface DataCodec {
+
+    /**
+     * 헤더에 기록되는 codec id (헤더를 기록하지 않는 codec은 DataCodecs.NO_HEADER)
+     */
+    byte getId();
+
+    ObjectReader readerFor(JavaType type);
+
+    ObjectWriter writerFor(JavaType type);
+}
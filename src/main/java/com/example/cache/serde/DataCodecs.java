@@ -0,0 +1,62 @@
+package com.example.cache.serde;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용 가능한 DataCodec 목록
+ * - 새로운 codec은 DataCodec을 구현하고, 겹치지 않는 id로 CODECS에 추가한다.
+ * - DataCompressor.COMPRESSED(0x04)는 압축된 값의 헤더로 사용하므로 codec id로 사용할 수 없다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataCodecs {
+
+    // 헤더 없이 저장하는 codec의 id
+    public static final byte NO_HEADER = 0x00;
+
+    // 헤더 id로 사용할 수 있는 최대 값 (0x09부터는 JSON 텍스트 앞의 공백 문자와 겹침)
+    public static final byte MAX_HEADER_ID = 0x08;
+
+    public static final DataCodec JSON = new JsonDataCodec();
+    public static final DataCodec SMILE = new SmileDataCodec();
+
+    // 헤더 id → codec
+    private static final DataCodec[] CODECS = new DataCodec[MAX_HEADER_ID + 1];
+
+    static {
+        register(SMILE);
+    }
+
+    private static void register(DataCodec codec) {
+        byte id = codec.getId();
+        if (id <= NO_HEADER || id > MAX_HEADER_ID) {
+            throw new IllegalArgumentException("codec id must be in (0, " + MAX_HEADER_ID + "]. id=" + id);
+        }
+        if (id == DataCompressor.COMPRESSED) {
+            throw new IllegalArgumentException("codec id is reserved for compressed values. id=" + id);
+        }
+        if (CODECS[id] != null) {
+            throw new IllegalStateException("Duplicated codec id. id=" + id);
+        }
+        CODECS[id] = codec;
+    }
+
+    /**
+     * 저장된 값의 첫 byte로 codec을 찾는다.
+     * - 헤더가 아니라면(JSON 텍스트) JSON codec
+     * - 등록되지 않은 헤더 id라면 null (압축된 값은 DataCompressor로 먼저 압축을 풀어야 함)
+     */
+    public static DataCodec find(byte header) {
+        if (!hasHeader(header)) {
+            return JSON;
+        }
+        return CODECS[header];
+    }
+
+    /**
+     * 저장된 값에 헤더가 있는지 여부
+     */
+    public static boolean hasHeader(byte header) {
+        return header > NO_HEADER && header <= MAX_HEADER_ID;
+    }
+}
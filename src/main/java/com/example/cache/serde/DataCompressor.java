@@ -0,0 +1,134 @@
+package com.example.cache.serde;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 직렬화 결과가 임계값 이상일 때만 Deflater로 압축한다.
+ * <p>
+ * 압축 형식: [COMPRESSED(1)][원본 길이(4)][deflate 데이터]
+ * - 원본은 DataSerializer의 직렬화 결과(codec 헤더 포함)이므로, 압축을 풀면 기존과 같은 방법으로 역직렬화한다.
+ * - 헤더로 압축 여부를 구분하므로, 압축된 값과 압축되지 않은 값이 섞여 있어도 읽을 수 있다. (임계값을 바꿔도 기존 값을 그대로 읽음)
+ * - 작은 값은 압축해도 거의 줄지 않고 CPU만 사용하므로 압축하지 않는다.
+ * - 압축 결과가 원본보다 작지 않다면 원본을 그대로 저장한다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataCompressor {
+
+    // 압축된 값의 헤더 (DataCodecs의 헤더 id 범위 중 codec이 사용하지 않는 값)
+    public static final byte COMPRESSED = 0x04;
+
+    public static final int HEADER_SIZE = 1 + Integer.BYTES;
+
+    // 압축을 풀 수 있는 원본의 최대 크기 (헤더의 원본 길이가 손상되어도 큰 배열을 할당하지 않도록 제한)
+    public static final int MAX_DECOMPRESSED_BYTES = 64 * 1024 * 1024;
+
+    // 압축하지 않음
+    public static final DataCompressor NONE = new DataCompressor(Integer.MAX_VALUE, Deflater.NO_COMPRESSION);
+
+    // 압축할 최소 크기 (byte)
+    private final int thresholdBytes;
+
+    private final int level;
+
+    /**
+     * @param thresholdBytes 이 크기 이상인 값만 압축한다.
+     */
+    public static DataCompressor deflate(int thresholdBytes) {
+        return deflate(thresholdBytes, Deflater.BEST_SPEED);
+    }
+
+    public static DataCompressor deflate(int thresholdBytes, int level) {
+        if (thresholdBytes < 0) {
+            throw new IllegalArgumentException("thresholdBytes must not be negative. thresholdBytes=" + thresholdBytes);
+        }
+        return new DataCompressor(thresholdBytes, level);
+    }
+
+    /**
+     * 임계값 이상이고 압축으로 크기가 줄어들 때만 압축된 값을 반환한다. (그 외에는 data를 그대로 반환)
+     */
+    public byte[] compressIfLarge(byte[] data) {
+        byte[] compressed = compressOrNull(data, 0, data.length);
+        return compressed == null ? data : compressed;
+    }
+
+    /**
+     * data[offset, offset + length) 구간을 압축한다.
+     * - 임계값보다 작거나 압축해도 크기가 줄어들지 않으면 null
+     */
+    public byte[] compressOrNull(byte[] data, int offset, int length) {
+        if (length < thresholdBytes) {
+            return null;
+        }
+
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(data, offset, length);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_SIZE + length / 2);
+            out.write(COMPRESSED);
+            out.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(length).array());
+            byte[] buffer = new byte[Math.clamp(length, 64, 8 * 1024)];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+                if (out.size() >= length) {
+                    // 압축해도 줄어들지 않음
+                    return null;
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static boolean isCompressed(byte[] data, int offset, int length) {
+        return length >= HEADER_SIZE && data[offset] == COMPRESSED;
+    }
+
+    /**
+     * 압축된 값(헤더 포함)의 압축을 풀어서 원본을 반환한다.
+     * - 헤더의 원본 길이가 음수이거나 MAX_DECOMPRESSED_BYTES보다 크면 손상된 값으로 보고 DataFormatException
+     */
+    public static byte[] decompress(byte[] data, int offset, int length) throws DataFormatException {
+        int originalLength = ByteBuffer.wrap(data, offset + 1, Integer.BYTES).getInt();
+        if (originalLength < 0 || originalLength > MAX_DECOMPRESSED_BYTES) {
+            throw new DataFormatException("Invalid decompressed length. originalLength=" + originalLength);
+        }
+        byte[] original = new byte[originalLength];
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, offset + HEADER_SIZE, length - HEADER_SIZE);
+            int inflated = 0;
+            while (inflated < originalLength) {
+                int count = inflater.inflate(original, inflated, originalLength - inflated);
+                if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += count;
+            }
+            if (inflated != originalLength) {
+                throw new DataFormatException(
+                        "Unexpected decompressed length. expected=" + originalLength + ", actual=" + inflated
+                );
+            }
+            return original;
+        } finally {
+            inflater.end();
+        }
+    }
+}
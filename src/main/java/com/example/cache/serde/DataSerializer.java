@@ -1,29 +1,120 @@
 package com.example.cache.serde;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.OutputStream;
+import java.util.Arrays;
+
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DataSerializer {
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final byte[] EMPTY_PREFIX = new byte[0];
+
+    // 스레드 별로 재사용하는 직렬화 버퍼의 초기 크기, 재사용할 최대 크기
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<ReusableByteArrayOutputStream> buffers =
+            ThreadLocal.withInitial(() -> new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE));
 
-    public static String serializeOrException(Object data) {
+    /**
+     * codec과 dataType에 미리 만들어둔 writer로 byte[]에 바로 직렬화한다. (중간 String 없음)
+     * - 헤더를 사용하는 codec이라면 첫 byte에 codec id를 기록한다.
+     * - 직렬화 결과가 compressor의 임계값 이상이라면 압축한다.
+     */
+    public static byte[] serializeOrException(Object data, DataCodec codec, DataCompressor compressor, DataType<?> dataType) {
+        return serializeOrException(EMPTY_PREFIX, data, codec, compressor, dataType);
+    }
+
+    /**
+     * prefix(PER 헤더 등) 뒤에 이어서 직렬화한다.
+     * - 스레드 별로 재사용하는 버퍼에 직렬화하고, 결과 크기에 딱 맞는 byte[]로 한 번만 복사한다.
+     * - 압축은 prefix를 제외한 직렬화 결과에만 적용한다.
+     */
+    public static byte[] serializeOrException(
+            byte[] prefix,
+            Object data,
+            DataCodec codec,
+            DataCompressor compressor,
+            DataType<?> dataType
+    ) {
+        ReusableByteArrayOutputStream out = acquireBuffer();
         try {
-            return objectMapper.writeValueAsString(data);
+            out.write(prefix, 0, prefix.length);
+            writeOrException(data, codec, dataType, out);
+
+            byte[] compressed = compressor.compressOrNull(out.buffer(), prefix.length, out.size() - prefix.length);
+            if (compressed == null) {
+                return out.toByteArray();
+            }
+            byte[] result = Arrays.copyOf(prefix, prefix.length + compressed.length);
+            System.arraycopy(compressed, 0, result, prefix.length, compressed.length);
+            return result;
+        } finally {
+            releaseBuffer(out);
+        }
+    }
+
+    private static void writeOrException(Object data, DataCodec codec, DataType<?> dataType, OutputStream out) {
+        try {
+            if (codec.getId() != DataCodecs.NO_HEADER) {
+                out.write(codec.getId());
+            }
+            dataType.write(codec, data, out);
         } catch (Exception e) {
-            log.error("[DataSerializer.serializeOrException] data={}", data, e);
+            log.error("[DataSerializer.writeOrException] data={}, codec={}", data, codec.getClass().getSimpleName(), e);
             throw new RuntimeException(e);
         }
     }
 
-    public static <T> T deserializeOrNull(String data, Class<T> clazz) {
+    private static ReusableByteArrayOutputStream acquireBuffer() {
+        ReusableByteArrayOutputStream out = buffers.get();
+        out.reset();
+        return out;
+    }
+
+    private static void releaseBuffer(ReusableByteArrayOutputStream out) {
+        // 큰 값을 직렬화하면서 커진 버퍼는 스레드에 계속 남지 않도록 버린다.
+        if (out.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            buffers.remove();
+        }
+    }
+
+    /**
+     * 첫 byte(헤더)로 codec을 찾아서 역직렬화한다. (헤더가 없다면 JSON)
+     * - 압축된 값이라면 압축을 푼 뒤 역직렬화한다.
+     */
+    public static <T> T deserializeOrNull(byte[] data, DataType<T> dataType) {
+        if (data == null) {
+            return null;
+        }
+        return deserializeOrNull(data, 0, data.length, dataType);
+    }
+
+    /**
+     * data[offset, offset + length) 구간을 역직렬화한다.
+     */
+    public static <T> T deserializeOrNull(byte[] data, int offset, int length, DataType<T> dataType) {
+        if (data == null || length <= 0) {
+            return null;
+        }
         try {
-            return objectMapper.readValue(data, clazz);
+            if (DataCompressor.isCompressed(data, offset, length)) {
+                byte[] decompressed = DataCompressor.decompress(data, offset, length);
+                return deserializeOrNull(decompressed, 0, decompressed.length, dataType);
+            }
+            byte header = data[offset];
+            DataCodec codec = DataCodecs.find(header);
+            if (codec == null) {
+                log.error("[DataSerializer.deserializeOrNull] unknown codec. header={}", header);
+                return null;
+            }
+            int headerSize = DataCodecs.hasHeader(header) ? 1 : 0;
+            return dataType.read(codec, data, offset + headerSize, length - headerSize);
         } catch (Exception e) {
-            log.error("[DataSerializer.deserializeOrNull] data={}", data, e);
+            log.error("[DataSerializer.deserializeOrNull] length={}, dataType={}", length, dataType, e);
             return null;
         }
     }
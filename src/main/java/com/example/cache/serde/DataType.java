@@ -0,0 +1,79 @@
+package com.example.cache.serde;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 데이터 타입 별로 미리 만들어둔 codec 별 ObjectReader, ObjectWriter
+ * <p>
+ * - 타입 분석과 (역)직렬화기 탐색은 타입 별로 한 번만 수행하고, 조회 시에는 만들어둔 reader로 바로 역직렬화한다.
+ * - 제네릭 타입(List&lt;ItemResponse&gt; 등)은 JavaType으로 그대로 유지하므로, 요소 타입으로 역직렬화된다. (Map으로 역직렬화되지 않음)
+ * - 캐시 어노테이션이 붙은 메서드는 CustomCacheOperationSource가 애플리케이션 시작 시점에 반환 타입으로 미리 만들어둔다.
+ */
+@ToString(of = "javaType")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataType<T> {
+
+    // 타입 → DataType (OBJECT보다 먼저 초기화되어야 함)
+    private static final ConcurrentHashMap<Type, DataType<?>> dataTypes = new ConcurrentHashMap<>();
+
+    // 타입 제한이 없는 데이터 (실제 값의 클래스로 직렬화)
+    public static final DataType<Object> OBJECT = of(Object.class);
+
+    @Getter
+    private final JavaType javaType;
+
+    // codec id → reader, writer (등록되지 않은 id는 null)
+    private final ObjectReader[] readers;
+    private final ObjectWriter[] writers;
+
+    @SuppressWarnings("unchecked")
+    public static <T> DataType<T> of(Class<T> clazz) {
+        return (DataType<T>) of((Type) clazz);
+    }
+
+    /**
+     * 타입 별로 한 번만 만들고 재사용한다.
+     */
+    public static DataType<?> of(Type type) {
+        return dataTypes.computeIfAbsent(type, DataType::create);
+    }
+
+    private static DataType<?> create(Type type) {
+        JavaType javaType = TypeFactory.defaultInstance().constructType(type);
+        ObjectReader[] readers = new ObjectReader[DataCodecs.MAX_HEADER_ID + 1];
+        ObjectWriter[] writers = new ObjectWriter[DataCodecs.MAX_HEADER_ID + 1];
+        for (byte id = 0; id <= DataCodecs.MAX_HEADER_ID; id++) {
+            DataCodec codec = DataCodecs.find(id);
+            if (codec != null && codec.getId() == id) {
+                readers[id] = codec.readerFor(javaType);
+                writers[id] = codec.writerFor(javaType);
+            }
+        }
+        return new DataType<>(javaType, readers, writers);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Class<T> getRawClass() {
+        return (Class<T>) javaType.getRawClass();
+    }
+
+    public T read(DataCodec codec, byte[] data, int offset, int length) throws IOException {
+        return readers[codec.getId()].readValue(data, offset, length);
+    }
+
+    public void write(DataCodec codec, Object data, OutputStream out) throws IOException {
+        writers[codec.getId()].writeValue(out, data);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.cache.serde;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * JSON codec
+ * - 헤더 없이 JSON 그대로 저장하므로, 문자열로 저장된 기존 값과 서로 읽고 쓸 수 있다.
+ */
+public class JsonDataCodec implements DataCodec {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public byte getId() {
+        return DataCodecs.NO_HEADER;
+    }
+
+    @Override
+    public ObjectReader readerFor(JavaType type) {
+        return objectMapper.readerFor(type);
+    }
+
+    @Override
+    public ObjectWriter writerFor(JavaType type) {
+        return objectMapper.writerFor(type);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.cache.serde;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * 스레드 별로 재사용하는 직렬화 버퍼
+ * <p>
+ * - ByteArrayOutputStream과 달리 동기화하지 않고, reset 후 내부 배열을 그대로 재사용한다.
+ * - 직렬화가 끝나면 결과 크기에 딱 맞는 byte[]로 한 번만 복사한다.
+ * - 한 스레드에서만 사용해야 한다. (DataSerializer의 ThreadLocal)
+ */
+final class ReusableByteArrayOutputStream extends OutputStream {
+
+    private byte[] buffer;
+    private int count;
+
+    ReusableByteArrayOutputStream(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(minCapacity, buffer.length * 2));
+        }
+    }
+
+    void reset() {
+        count = 0;
+    }
+
+    int size() {
+        return count;
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * 복사 없이 내부 배열을 반환한다. (유효한 데이터는 [0, size()) 구간)
+     */
+    byte[] buffer() {
+        return buffer;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+}
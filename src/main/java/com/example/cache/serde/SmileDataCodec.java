@@ -0,0 +1,33 @@
+package com.example.cache.serde;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Smile(바이너리 JSON) codec
+ * - 필드 이름과 반복되는 짧은 문자열을 back-reference로 저장하므로, 같은 구조가 반복되는 목록 데이터에서 크기가 크게 줄어든다.
+ * - 텍스트 파싱(숫자 변환, 이스케이프 처리)이 없어 JSON보다 역직렬화가 빠르다.
+ */
+public class SmileDataCodec implements DataCodec {
+
+    public static final byte ID = 0x02;
+
+    private final SmileMapper smileMapper = new SmileMapper();
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public ObjectReader readerFor(JavaType type) {
+        return smileMapper.readerFor(type);
+    }
+
+    @Override
+    public ObjectWriter writerFor(JavaType type) {
+        return smileMapper.writerFor(type);
+    }
+}
@@ -6,11 +6,18 @@ import com.example.cache.model.ItemUpdateRequest;
 import com.example.cache.service.response.ItemPageResponse;
 import com.example.cache.service.response.ItemResponse;
 
+import java.util.List;
+
 public interface ItemCacheService {
     ItemResponse read(Long itemId);
 
     ItemPageResponse readAll(Long page, Long pageSize);
 
+    /**
+     * 여러 item을 한 번에 조회한다. (존재하지 않는 itemId는 제외, 요청한 itemId 순서 유지)
+     */
+    List<ItemResponse> readAll(List<Long> itemIds);
+
     ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize);
 
     ItemResponse create(ItemCreateRequest request);
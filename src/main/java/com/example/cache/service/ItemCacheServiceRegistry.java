@@ -0,0 +1,40 @@
+package com.example.cache.service;
+
+import com.example.cache.common.cache.CacheStrategy;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CacheStrategy 별 ItemCacheService 저장소
+ * <p>
+ * - 모든 CacheStrategy는 정확히 1개의 ItemCacheService를 가져야 하며, 그렇지 않으면 시작 시점에 실패한다.
+ */
+@Component
+public class ItemCacheServiceRegistry {
+
+    private final Map<CacheStrategy, ItemCacheService> itemCacheServices = new EnumMap<>(CacheStrategy.class);
+
+    public ItemCacheServiceRegistry(List<ItemCacheService> itemCacheServices) {
+        for (CacheStrategy cacheStrategy : CacheStrategy.values()) {
+            List<ItemCacheService> supported = itemCacheServices.stream()
+                    .filter(itemCacheService -> itemCacheService.supports(cacheStrategy))
+                    .toList();
+
+            if (supported.size() != 1) {
+                throw new IllegalStateException(
+                        "ItemCacheService must be exactly one for " + cacheStrategy + ". services=" + supported
+                );
+            }
+
+            this.itemCacheServices.put(cacheStrategy, supported.getFirst());
+        }
+    }
+
+    public ItemCacheService find(CacheStrategy cacheStrategy) {
+        return itemCacheServices.get(cacheStrategy);
+    }
+
+}
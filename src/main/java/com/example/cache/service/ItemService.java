@@ -9,6 +9,11 @@ import com.example.cache.service.response.ItemResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class ItemService {
@@ -27,6 +32,20 @@ public class ItemService {
         );
     }
 
+    public List<ItemResponse> readAll(List<Long> itemIds) {
+        return itemRepository.readAll(itemIds).stream()
+                .map(ItemResponse::from)
+                .toList();
+    }
+
+    /**
+     * @return itemId → ItemResponse (존재하지 않는 itemId는 제외)
+     */
+    public Map<Long, ItemResponse> readAllAsMap(List<Long> itemIds) {
+        return readAll(itemIds).stream()
+                .collect(Collectors.toMap(ItemResponse::itemId, Function.identity()));
+    }
+
     public ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize) {
         return ItemPageResponse.from(
                 itemRepository.readAllInfiniteScroll(lastItemId, pageSize),
@@ -34,6 +53,10 @@ public class ItemService {
         );
     }
 
+    public List<Long> readAllIds(Long lastItemId, Long chunkSize) {
+        return itemRepository.readAllIds(lastItemId, chunkSize);
+    }
+
     public ItemResponse create(ItemCreateRequest request) {
         return ItemResponse.from(
                 itemRepository.create(Item.create(request))
@@ -48,8 +71,13 @@ public class ItemService {
         );
     }
 
-    public void delete(Long itemId) {
-        itemRepository.read(itemId).ifPresent(itemRepository::delete);
+    /**
+     * @return 이 호출로 실제로 삭제했으면 true (존재하지 않거나 동시에 다른 요청이 먼저 삭제했으면 false)
+     */
+    public boolean delete(Long itemId) {
+        return itemRepository.read(itemId)
+                .map(itemRepository::delete)
+                .orElse(false);
     }
 
     public long count() {
@@ -1,28 +1,44 @@
 package com.example.cache.service.strategy.bloomfilter;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.stream.IntStream;
 
 @Getter
-@ToString
+@ToString(exclude = "seededHashFunctions")
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class BloomFilter {
 
+    private static final HashFunction DOUBLE_HASHING_HASH_FUNCTION = Hashing.murmur3_128();
+
+    // murmur3_128 결과(16 byte)를 h1, h2로 읽기 위한 스레드 별 버퍼
+    private static final ThreadLocal<byte[]> HASH_BYTES = ThreadLocal.withInitial(() -> new byte[16]);
+    private static final VarHandle LONG_LITTLE_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
     private String id;
     private long dataCount; // 데이터 수(n)
     private double falsePositiveRate; // 오차율(p)
     private long bitSize; // 비트 수(m)
     private int hashFunctionCount; // 해시 함수 수(k)
-    private List<BloomFilterHashFunction> hashFunctions;
+    private BloomFilterHashing hashing; // 비트 인덱스 생성 방식
+    private HashFunction[] seededHashFunctions; // SEEDED_MURMUR3 방식에서 사용하는 seed 별 해시 함수
 
     public static BloomFilter create(String id, long dataCount, double falsePositiveRate) {
+        return create(id, dataCount, falsePositiveRate, BloomFilterHashing.SEEDED_MURMUR3);
+    }
+
+    public static BloomFilter create(String id, long dataCount, double falsePositiveRate, BloomFilterHashing hashing) {
         if (dataCount <= 0) {
             throw new IllegalArgumentException();
         }
@@ -34,13 +50,9 @@ public class BloomFilter {
         long bitSize = calculateBitSize(dataCount, falsePositiveRate);
         int hashFunctionCount = calculateHashFunctionCount(dataCount, bitSize);
 
-        List<BloomFilterHashFunction> hashFunctions = IntStream.range(0, hashFunctionCount)
-                .mapToObj(seed ->
-                        (BloomFilterHashFunction) value -> Math.abs(Hashing.murmur3_128(seed)
-                                .hashString(value, StandardCharsets.UTF_8)
-                                .asLong() % bitSize)
-                )
-                .toList();
+        HashFunction[] seededHashFunctions = IntStream.range(0, hashFunctionCount)
+                .mapToObj(Hashing::murmur3_128)
+                .toArray(HashFunction[]::new);
 
         BloomFilter bloomFilter = new BloomFilter();
         bloomFilter.id = id;
@@ -48,7 +60,8 @@ public class BloomFilter {
         bloomFilter.falsePositiveRate = falsePositiveRate;
         bloomFilter.bitSize = bitSize;
         bloomFilter.hashFunctionCount = hashFunctionCount;
-        bloomFilter.hashFunctions = hashFunctions;
+        bloomFilter.hashing = hashing;
+        bloomFilter.seededHashFunctions = seededHashFunctions;
         return bloomFilter;
     }
 
@@ -70,10 +83,69 @@ public class BloomFilter {
         );
     }
 
-    public List<Long> hash(String value) {
-        return hashFunctions.stream()
-                .map(hashFunction -> hashFunction.hash(value))
-                .toList();
+    /**
+     * k개의 비트 인덱스 (boxing 없이 배열 1개만 생성)
+     */
+    public long[] hash(String value) {
+        long[] hashedIndexes = new long[hashFunctionCount];
+        hash(value, hashedIndexes);
+        return hashedIndexes;
+    }
+
+    /**
+     * k개의 비트 인덱스를 hashedIndexes[0 ~ k-1]에 채운다. (boxing, 중간 컬렉션 생성 없음)
+     *
+     * @param hashedIndexes 길이가 k 이상인 배열 (호출하는 쪽에서 재사용)
+     */
+    public void hash(String value, long[] hashedIndexes) {
+        if (hashing == BloomFilterHashing.DOUBLE_HASHING) {
+            doubleHash(value, hashedIndexes);
+            return;
+        }
+
+        for (int i = 0; i < hashFunctionCount; i++) {
+            hashedIndexes[i] = seededHash(value, i);
+        }
+    }
+
+    private long seededHash(String value, int seed) {
+        return Math.abs(seededHashFunctions[seed]
+                .hashString(value, StandardCharsets.UTF_8)
+                .asLong() % bitSize);
+    }
+
+    /**
+     * (h1 + i * h2) mod m
+     */
+    private void doubleHash(String value, long[] hashedIndexes) {
+        long[] halves = new long[2];
+        murmur3Halves(value, halves);
+        doubleHash(halves[0], halves[1], 0, bitSize, hashedIndexes, hashFunctionCount);
+    }
+
+    /**
+     * value의 murmur3_128 결과(16 byte)를 little-endian 8 byte씩 읽어서 h1, h2를 halves[0], halves[1]에 채운다.
+     * - DOUBLE_HASHING 방식과 SplitBloomFilter의 BLOCKED 방식이 같은 h1, h2를 사용한다.
+     */
+    public static void murmur3Halves(String value, long[] halves) {
+        HashCode hashCode = DOUBLE_HASHING_HASH_FUNCTION.hashString(value, StandardCharsets.UTF_8);
+        byte[] bytes = HASH_BYTES.get();
+        hashCode.writeBytesTo(bytes, 0, bytes.length);
+
+        halves[0] = (long) LONG_LITTLE_ENDIAN.get(bytes, 0);
+        halves[1] = (long) LONG_LITTLE_ENDIAN.get(bytes, 8);
+    }
+
+    /**
+     * hashedIndexes[i] = start + (h1 + i * h2) mod range (i = 0 ~ count-1)
+     * - 음수가 되지 않도록 부호 비트를 제거한 뒤 나머지 연산
+     */
+    public static void doubleHash(long h1, long h2, long start, long range, long[] hashedIndexes, int count) {
+        long combinedHash = h1;
+        for (int i = 0; i < count; i++) {
+            hashedIndexes[i] = start + (combinedHash & Long.MAX_VALUE) % range;
+            combinedHash += h2;
+        }
     }
 
 }
@@ -0,0 +1,24 @@
+package com.example.cache.service.strategy.bloomfilter;
+
+/**
+ * Bloom Filter 비트 인덱스 생성 방식
+ * <p>
+ * 방식에 따라 같은 값이라도 비트 위치가 달라지므로, 이미 데이터가 저장된 필터의 방식을 바꾸면 False Negative가 발생한다.
+ * 방식을 바꿀 때는 새로운 id(Redis Key)로 필터를 만들고 데이터를 다시 적재해야 한다.
+ */
+public enum BloomFilterHashing {
+
+    /**
+     * seed가 0 ~ k-1인 murmur3_128 해시를 k번 계산하여 각각 인덱스로 사용 (기존 방식)
+     */
+    SEEDED_MURMUR3,
+
+    /**
+     * murmur3_128 해시 1번으로 얻은 128비트(h1, h2)로 k개의 인덱스를 생성 (Kirsch–Mitzenmacher double hashing)
+     * <p>
+     * - i번째 인덱스 = (h1 + i * h2) mod m
+     * - k와 관계없이 해시 계산은 1번이며, 오차율은 k개의 독립 해시와 사실상 동일하다.
+     */
+    DOUBLE_HASHING
+
+}
@@ -0,0 +1,92 @@
+package com.example.cache.service.strategy.bloomfilter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Data Source의 전체 id로 Bloom Filter를 다시 만든다.
+ * <p>
+ * - 삭제된 데이터의 비트 제거, 재시작으로 초기화된 필터 복구 용도
+ * - id를 chunk 단위로 읽어 재구축용 Key에 BITFIELD로 추가하고, 완료되면 RENAME으로 원자적으로 교체한다.
+ * - 재구축 중 추가되는 값은 기존 필터와 재구축용 필터에 모두 반영된다. (BloomFilterRedisHandler.startRebuild)
+ * - 재구축이 한 번도 완료되지 않은 필터는 ready가 아니며, 호출하는 쪽에서 필터를 거치지 않고 Data Source를 조회해야 한다.
+ * - ready 여부는 Redis의 재구축 완료 Key로 판단하므로, 재구축을 직접 수행하지 않은 노드도 ready가 된다. (READY_CHECK_INTERVAL 동안 로컬에 캐시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BloomFilterRebuilder {
+
+    private static final long CHUNK_SIZE = 1000;
+    private static final Duration MARKER_TTL = Duration.ofMinutes(1); // chunk마다 연장
+    private static final long READY_CHECK_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final BloomFilterRedisHandler bloomFilterRedisHandler;
+
+    // Bloom Filter id → 마지막으로 확인한 ready 여부
+    private final ConcurrentHashMap<String, ReadyState> readyStates = new ConcurrentHashMap<>();
+
+    private record ReadyState(boolean ready, long checkedAtNanos) {
+        boolean isFresh(long nowNanos) {
+            return nowNanos - checkedAtNanos < READY_CHECK_INTERVAL_NANOS;
+        }
+    }
+
+    /**
+     * @param idChunkReader (lastId, chunkSize) → lastId 다음 id 목록 (lastId가 null이면 처음부터, 빈 목록이면 끝)
+     * @return 재구축한 필터로 교체했다면 true
+     */
+    public boolean rebuild(BloomFilter bloomFilter, BiFunction<Long, Long, List<Long>> idChunkReader) {
+        if (!bloomFilterRedisHandler.startRebuild(bloomFilter, MARKER_TTL)) {
+            log.info("[BloomFilterRebuilder.rebuild] already rebuilding. bloomFilterId={}", bloomFilter.getId());
+            return false;
+        }
+
+        long start = System.nanoTime();
+        long count = 0;
+        try {
+            Long lastId = null;
+            while (true) {
+                List<Long> ids = idChunkReader.apply(lastId, CHUNK_SIZE);
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                bloomFilterRedisHandler.addAllToRebuild(bloomFilter, ids.stream().map(String::valueOf).toList(), MARKER_TTL);
+                count += ids.size();
+                lastId = ids.getLast();
+                log.info("[BloomFilterRebuilder.rebuild] bloomFilterId={}, count={}", bloomFilter.getId(), count);
+            }
+        } catch (RuntimeException e) {
+            // 재구축 표시는 만료되고, 기존 필터는 그대로 사용된다.
+            log.error("[BloomFilterRebuilder.rebuild] bloomFilterId={}, count={}", bloomFilter.getId(), count, e);
+            return false;
+        }
+
+        boolean completed = bloomFilterRedisHandler.completeRebuild(bloomFilter);
+        if (completed) {
+            readyStates.put(bloomFilter.getId(), new ReadyState(true, System.nanoTime()));
+        }
+        log.info("[BloomFilterRebuilder.rebuild] bloomFilterId={}, count={}, completed={}, elapsedMillis={}",
+                bloomFilter.getId(), count, completed, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return completed;
+    }
+
+    public boolean isReady(BloomFilter bloomFilter) {
+        long nowNanos = System.nanoTime();
+        ReadyState readyState = readyStates.get(bloomFilter.getId());
+        if (readyState != null && readyState.isFresh(nowNanos)) {
+            return readyState.ready();
+        }
+        boolean ready = bloomFilterRedisHandler.isBuilt(bloomFilter);
+        readyStates.put(bloomFilter.getId(), new ReadyState(ready, nowNanos));
+        return ready;
+    }
+
+}
@@ -1,50 +1,52 @@
 package com.example.cache.service.strategy.bloomfilter;
 
+import com.example.cache.common.redis.BitFieldCommands;
+import com.example.cache.common.redis.BitmapAllocator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.connection.StringRedisConnection;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 public class BloomFilterRedisHandler {
 
     private final StringRedisTemplate redisTemplate;
+    private final BitmapAllocator bitmapAllocator;
 
     /**
      * 최초에 큰 메모리를 할당하려면 블로킹이 생길 수 있으며, 싱글 스레드 특성상 다른 연산에 지연이 생길 수도 있다.
      * BloomFilter 활성화 전에 내부 관리 도구에서 점차 메모리를 늘려가는 전략으로 미리 필요한 만큼 할당해둘 수 있다.
      *
+     * 할당은 BitmapAllocator가 chunk 단위로 속도를 조절하며 수행하고, 중단되어도 다시 호출하면 이어서 할당한다.
+     *
      * printExecutionTime_addToLargeBloomFilter와 printExecutionTime_addToLargeBloomFilterAfterInit의 속도 차이로 init()의 사용용도를 명확하게 알 수 있음
      */
     public void init(BloomFilter bloomFilter) {
-        String key = genKey(bloomFilter);
-        for (long offset = 0; offset < bloomFilter.getBitSize(); offset += 8L * 1024 * 1024 * 8 /* 8MB */) {
-            redisTemplate.opsForValue().setBit(key, offset, false);
-        }
+        bitmapAllocator.allocate(List.of(new BitmapAllocator.Target(genKey(bloomFilter), bloomFilter.getBitSize())));
     }
 
+    /**
+     * 재구축 중인지 같은 명령 안에서 확인해야 하므로, 파이프라인 대신 Lua 스크립트로 추가한다. (EXISTS 왕복 없음)
+     */
     public void add(BloomFilter bloomFilter, String value) {
-        redisTemplate.executePipelined((RedisCallback<?>) action -> {
-            StringRedisConnection conn = (StringRedisConnection) action;
-            String key = genKey(bloomFilter);
-            List<Long> hashedIndexes = bloomFilter.hash(value);
-            for (Long hashedIndex : hashedIndexes) {
-                conn.setBit(key, hashedIndex, true);
-            }
-            return null;
-        });
+        addByScript(bloomFilter, value);
     }
 
     public boolean mightContain(BloomFilter bloomFilter, String value) {
         return redisTemplate.executePipelined((RedisCallback<?>) action -> {
                     StringRedisConnection conn = (StringRedisConnection) action;
                     String key = genKey(bloomFilter);
-                    List<Long> hashedIndexes = bloomFilter.hash(value);
-                    for (Long hashedIndex : hashedIndexes) {
+                    for (long hashedIndex : bloomFilter.hash(value)) {
                         conn.getBit(key, hashedIndex);
                     }
                     return null;
@@ -54,15 +56,197 @@ public class BloomFilterRedisHandler {
                 .allMatch(Boolean.TRUE::equals);
     }
 
+    /**
+     * Lua 스크립트로 Redis 내부에서 비트를 설정한다. (명령 1개)
+     * - 재구축 중이라면 재구축 중인 필터에도 같은 스크립트 안에서 설정한다.
+     *
+     * @return 추가 전에 이미 존재했을 수도 있는 값이라면 true (모든 비트가 이미 1이었음)
+     */
+    public boolean addByScript(BloomFilter bloomFilter, String value) {
+        Long result = redisTemplate.execute(
+                BloomFilterScripts.ADD_WITH_REBUILD,
+                genRebuildKeys(bloomFilter),
+                BloomFilterScripts.addArgs(bloomFilter.hash(value))
+        );
+        return Long.valueOf(1).equals(result);
+    }
+
+    /**
+     * Lua 스크립트로 Redis 내부에서 존재 가능성을 조회한다.
+     * <p>
+     * - k개의 GETBIT 응답 대신 결과 1개만 응답받고, 0인 비트를 만나면 나머지 비트는 조회하지 않는다.
+     */
+    public boolean mightContainByScript(BloomFilter bloomFilter, String value) {
+        long[] hashedIndexes = bloomFilter.hash(value);
+        Long result = redisTemplate.execute(
+                BloomFilterScripts.MIGHT_CONTAIN,
+                Collections.nCopies(hashedIndexes.length, genKey(bloomFilter)),
+                BloomFilterScripts.mightContainArgs(List.of(hashedIndexes.length), hashedIndexes)
+        );
+        return Long.valueOf(1).equals(result);
+    }
+
+    /**
+     * 여러 값을 Lua 스크립트 1회로 추가한다.
+     * - 재구축 중이라면 재구축 중인 필터에도 같은 스크립트 안에서 설정한다.
+     */
+    public void addAll(BloomFilter bloomFilter, List<String> values) {
+        List<Long> offsets = new ArrayList<>();
+        for (String value : new LinkedHashSet<>(values)) {
+            addOffsets(bloomFilter, value, offsets);
+        }
+        if (offsets.isEmpty()) {
+            return;
+        }
+        redisTemplate.execute(
+                BloomFilterScripts.ADD_WITH_REBUILD,
+                genRebuildKeys(bloomFilter),
+                BloomFilterScripts.addArgs(offsets.stream().mapToLong(Long::longValue).toArray())
+        );
+    }
+
+    /**
+     * 여러 값의 존재 가능성을 BITFIELD GET 1회로 조회한다.
+     *
+     * @return 요청한 값 순서가 유지된 value → mightContain
+     */
+    public Map<String, Boolean> mightContainAll(BloomFilter bloomFilter, List<String> values) {
+        List<String> distinctValues = new ArrayList<>(new LinkedHashSet<>(values));
+        if (distinctValues.isEmpty()) {
+            return Map.of();
+        }
+
+        int hashFunctionCount = bloomFilter.getHashFunctionCount();
+        List<Long> offsets = new ArrayList<>(distinctValues.size() * hashFunctionCount);
+        for (String value : distinctValues) {
+            addOffsets(bloomFilter, value, offsets);
+        }
+
+        // 응답은 [value1의 k개 비트, value2의 k개 비트, ...] 순서
+        List<Long> bits = redisTemplate.opsForValue().bitField(genKey(bloomFilter), BitFieldCommands.getBits(offsets));
+
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        for (int valueIndex = 0; valueIndex < distinctValues.size(); valueIndex++) {
+            boolean mightContain = true;
+            for (int i = valueIndex * hashFunctionCount; i < (valueIndex + 1) * hashFunctionCount; i++) {
+                if (bits.get(i) != 1L) {
+                    mightContain = false;
+                    break;
+                }
+            }
+            result.put(distinctValues.get(valueIndex), mightContain);
+        }
+        return result;
+    }
+
+    /**
+     * 재구축 시작
+     * <p>
+     * - 재구축 표시 Key를 설정하면, 이후의 추가(add, addAll, addByScript)는 기존 필터와 재구축 중인 필터에 모두 반영된다.
+     * - 조회는 재구축이 완료될 때까지 기존 필터를 사용하므로 False Negative가 발생하지 않는다.
+     * - 재구축 표시는 markerTtl 후 만료되므로, 재구축 도중 종료되어도 이중 쓰기가 계속되지 않는다.
+     *
+     * @return 이미 다른 곳에서 재구축 중이라면 false
+     */
+    public boolean startRebuild(BloomFilter bloomFilter, Duration markerTtl) {
+        Boolean started = redisTemplate.opsForValue().setIfAbsent(genRebuildMarkerKey(bloomFilter), "1", markerTtl);
+        if (!Boolean.TRUE.equals(started)) {
+            return false;
+        }
+        redisTemplate.delete(genRebuildKey(bloomFilter));
+        return true;
+    }
+
+    /**
+     * 재구축 중인 필터에 여러 값을 BITFIELD SET 1회로 추가하고, 재구축 표시 만료 시간을 연장한다.
+     */
+    public void addAllToRebuild(BloomFilter bloomFilter, List<String> values, Duration markerTtl) {
+        List<Long> offsets = new ArrayList<>();
+        for (String value : new LinkedHashSet<>(values)) {
+            addOffsets(bloomFilter, value, offsets);
+        }
+
+        redisTemplate.executePipelined((RedisCallback<?>) action -> {
+            StringRedisConnection conn = (StringRedisConnection) action;
+            if (!offsets.isEmpty()) {
+                conn.bitfield(genRebuildKey(bloomFilter), BitFieldCommands.setBits(offsets));
+            }
+            conn.pExpire(genRebuildMarkerKey(bloomFilter), markerTtl.toMillis());
+            return null;
+        });
+    }
+
+    /**
+     * 재구축 완료
+     * - 재구축한 필터를 RENAME으로 원자적으로 교체하고 재구축 표시를 제거한다.
+     * - 재구축 완료 Key의 버전을 올려서, 재구축하지 않은 노드도 필터를 사용할 수 있음을 알 수 있게 한다.
+     *
+     * @return 재구축 표시가 만료되어 교체하지 않았다면 false
+     */
+    public boolean completeRebuild(BloomFilter bloomFilter) {
+        List<String> keys = new ArrayList<>(genRebuildKeys(bloomFilter));
+        keys.add(genBuiltKey(bloomFilter));
+        Long result = redisTemplate.execute(BloomFilterScripts.COMPLETE_REBUILD, keys);
+        return Long.valueOf(1).equals(result);
+    }
+
+    /**
+     * 재구축이 한 번이라도 완료되었는지 여부 (모든 노드가 같은 값을 본다)
+     */
+    public boolean isBuilt(BloomFilter bloomFilter) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(genBuiltKey(bloomFilter)));
+    }
+
+    private void addOffsets(BloomFilter bloomFilter, String value, List<Long> offsets) {
+        for (long hashedIndex : bloomFilter.hash(value)) {
+            offsets.add(hashedIndex);
+        }
+    }
+
     public void delete(BloomFilter bloomFilter) {
-        redisTemplate.delete(genKey(bloomFilter));
+        redisTemplate.delete(List.of(genKey(bloomFilter), genBuiltKey(bloomFilter)));
     }
 
-    private String genKey(BloomFilter bloomFilter) {
+    public String genKey(BloomFilter bloomFilter) {
         return genKey(bloomFilter.getId());
     }
 
+    /**
+     * 재구축 관련 Key와 같은 Slot에 있도록 id를 Hash Tag로 감싼다. (Redis Cluster에서 스크립트, RENAME 사용)
+     * 예) bloom-filter:{item}
+     */
     private String genKey(String id) {
-        return "bloom-filter:%s".formatted(id);
+        return "bloom-filter:{%s}".formatted(id);
+    }
+
+    /**
+     * 스크립트에 전달하는 Key 목록 (필터, 재구축 표시, 재구축 중인 필터)
+     */
+    private List<String> genRebuildKeys(BloomFilter bloomFilter) {
+        return List.of(genKey(bloomFilter), genRebuildMarkerKey(bloomFilter), genRebuildKey(bloomFilter));
+    }
+
+    /**
+     * 재구축 중인 필터 Key
+     * 예) bloom-filter:{item}:rebuild
+     */
+    private String genRebuildKey(BloomFilter bloomFilter) {
+        return genKey(bloomFilter.getId()) + ":rebuild";
+    }
+
+    /**
+     * 재구축 중임을 나타내는 Key
+     * 예) bloom-filter:{item}:rebuilding
+     */
+    private String genRebuildMarkerKey(BloomFilter bloomFilter) {
+        return genKey(bloomFilter.getId()) + ":rebuilding";
+    }
+
+    /**
+     * 재구축 완료 버전 Key (재구축이 완료될 때마다 1씩 증가)
+     * 예) bloom-filter:{item}:built
+     */
+    private String genBuiltKey(BloomFilter bloomFilter) {
+        return genKey(bloomFilter.getId()) + ":built";
     }
 }
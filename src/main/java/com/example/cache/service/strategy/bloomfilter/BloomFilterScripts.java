@@ -0,0 +1,132 @@
+package com.example.cache.service.strategy.bloomfilter;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bloom Filter 비트 조회/설정을 Redis 내부에서 수행하는 Lua 스크립트
+ * <p>
+ * - 클라이언트는 미리 계산한 비트 위치만 전달하고, 결과는 정수 1개로 받는다. (명령 1개, 응답 1개)
+ * - 비트마다 Key를 따로 전달하므로 Split/Shard 구조처럼 비트마다 Key가 달라도 동작한다.
+ * - 단, Redis Cluster에서는 모든 Key가 같은 Slot이어야 한다. (호출하는 쪽에서 확인하고, 다르면 파이프라인으로 실행)
+ * - 스크립트는 원자적으로 실행되므로 add와 동시에 실행되는 조회가 일부 비트만 설정된 상태를 보지 않는다.
+ */
+public final class BloomFilterScripts {
+
+    private BloomFilterScripts() {
+    }
+
+    /**
+     * ARGV[1]: 그룹 수(g), ARGV[2..g+1]: 그룹 별 비트 수, KEYS[i]/ARGV[g+1+i]: i번째 비트 위치
+     * <p>
+     * - 필터 1개의 k개 비트가 그룹 1개이며, 필터마다 k가 다를 수 있다. (Sub Filter 등)
+     * - 그룹 중 하나라도 모든 비트가 1이면 1, 아니면 0을 반환한다.
+     * - 0인 비트를 만나면 해당 그룹의 나머지 비트는 조회하지 않는다.
+     */
+    public static final RedisScript<Long> MIGHT_CONTAIN = new DefaultRedisScript<>("""
+            local groupCount = tonumber(ARGV[1])
+            local bitIndex = 1
+            for group = 1, groupCount do
+                local groupSize = tonumber(ARGV[1 + group])
+                local contained = 1
+                for i = bitIndex, bitIndex + groupSize - 1 do
+                    if redis.call('GETBIT', KEYS[i], ARGV[1 + groupCount + i]) == 0 then
+                        contained = 0
+                        break
+                    end
+                end
+                if contained == 1 then
+                    return 1
+                end
+                bitIndex = bitIndex + groupSize
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS/ARGV[1..]: 설정할 비트 위치
+     * <p>
+     * - 모든 비트를 1로 설정하고, 설정 전에 이미 모든 비트가 1이었다면 1(이미 존재했을 수도 있음), 아니면 0을 반환한다.
+     */
+    public static final RedisScript<Long> ADD = new DefaultRedisScript<>("""
+            local alreadyContained = 1
+            for i = 1, #KEYS do
+                if redis.call('SETBIT', KEYS[i], ARGV[i], 1) == 0 then
+                    alreadyContained = 0
+                end
+            end
+            return alreadyContained
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 필터 Key, KEYS[2]: 재구축 표시 Key, KEYS[3]: 재구축 중인 필터 Key / ARGV[1..]: 설정할 비트 위치
+     * <p>
+     * - ADD와 같지만, 재구축 중이라면 재구축 중인 필터에도 같은 비트를 설정한다. (재구축 완료 후 False Negative 방지)
+     * - 여러 값의 비트 위치를 한 번에 전달하면 일괄 추가로 사용할 수 있다. (반환 값은 모든 비트 기준)
+     */
+    public static final RedisScript<Long> ADD_WITH_REBUILD = new DefaultRedisScript<>("""
+            local rebuilding = redis.call('EXISTS', KEYS[2]) == 1
+            local alreadyContained = 1
+            for i = 1, #ARGV do
+                if redis.call('SETBIT', KEYS[1], ARGV[i], 1) == 0 then
+                    alreadyContained = 0
+                end
+                if rebuilding then
+                    redis.call('SETBIT', KEYS[3], ARGV[i], 1)
+                end
+            end
+            return alreadyContained
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 필터 Key, KEYS[2]: 재구축 표시 Key, KEYS[3]: 재구축 중인 필터 Key, KEYS[4]: 재구축 완료 버전 Key
+     * <p>
+     * - 재구축 표시가 남아있다면 재구축한 필터로 교체(RENAME)하고, 완료 버전을 올린 뒤 1을 반환한다.
+     * - 재구축 표시가 만료되었다면(이중 쓰기가 중단되었을 수 있음) 재구축한 필터를 버리고 0을 반환한다.
+     */
+    public static final RedisScript<Long> COMPLETE_REBUILD = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                redis.call('DEL', KEYS[3])
+                return 0
+            end
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                redis.call('RENAME', KEYS[3], KEYS[1])
+            else
+                redis.call('DEL', KEYS[1])
+            end
+            redis.call('DEL', KEYS[2])
+            redis.call('INCR', KEYS[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * MIGHT_CONTAIN 스크립트 인자 생성
+     *
+     * @param groupSizes 그룹(필터) 별 비트 수
+     * @param offsets    모든 그룹의 비트 offset (KEYS와 같은 순서)
+     */
+    public static Object[] mightContainArgs(List<Integer> groupSizes, long[] offsets) {
+        List<String> args = new ArrayList<>(1 + groupSizes.size() + offsets.length);
+        args.add(String.valueOf(groupSizes.size()));
+        groupSizes.forEach(groupSize -> args.add(String.valueOf(groupSize)));
+        for (long offset : offsets) {
+            args.add(String.valueOf(offset));
+        }
+        return args.toArray();
+    }
+
+    /**
+     * ADD 스크립트 인자 생성
+     */
+    public static Object[] addArgs(long[] offsets) {
+        Object[] args = new Object[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            args[i] = String.valueOf(offsets[i]);
+        }
+        return args;
+    }
+
+}
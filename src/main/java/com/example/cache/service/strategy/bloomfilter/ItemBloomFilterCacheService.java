@@ -1,5 +1,6 @@
 package com.example.cache.service.strategy.bloomfilter;
 
+import com.example.cache.common.bloomfilter.BloomFilterNegativeCache;
 import com.example.cache.common.cache.CacheStrategy;
 import com.example.cache.model.ItemCreateRequest;
 import com.example.cache.model.ItemUpdateRequest;
@@ -8,28 +9,62 @@ import com.example.cache.service.ItemService;
 import com.example.cache.service.response.ItemPageResponse;
 import com.example.cache.service.response.ItemResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ItemBloomFilterCacheService implements ItemCacheService {
 
     private final ItemService itemService;
     private final BloomFilterRedisHandler bloomFilterRedisHandler;
+    private final BloomFilterNegativeCache bloomFilterNegativeCache;
+    private final BloomFilterRebuilder bloomFilterRebuilder;
 
+    // 해시 계산 1번으로 k개 인덱스를 생성 (시작 시점에 Data Source 기준으로 재구축되므로 방식을 바꿔도 안전)
     private static final BloomFilter bloomFilter = BloomFilter.create(
             "item-bloom-filter",
             1000,
-            0.01
+            0.01,
+            BloomFilterHashing.DOUBLE_HASHING
     );
 
+    // 같은 id의 필터를 사용하는 다른 전략과 "없음" 결과가 섞이지 않도록 전략 이름을 포함
+    private static final String negativeCacheName = CacheStrategy.BLOOM_FILTER + ":" + bloomFilter.getId();
+
+    /**
+     * 시작 시점에 Data Source 기준으로 Bloom Filter 재구축 (재시작 시 Redis가 초기화되므로)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread.ofVirtual().start(this::rebuild);
+    }
+
+    public boolean rebuild() {
+        boolean rebuilt = bloomFilterRebuilder.rebuild(bloomFilter, itemService::readAllIds);
+        if (rebuilt) {
+            // 필터 전체가 교체되었으므로 이전 필터 기준의 "없음" 결과 제거
+            bloomFilterNegativeCache.invalidateAll(negativeCacheName);
+        }
+        return rebuilt;
+    }
+
     @Override
     public ItemResponse read(Long itemId) {
-        boolean result = bloomFilterRedisHandler.mightContain(bloomFilter, String.valueOf(itemId));
-        if (!result) {
-            return null;
+        // 재구축이 완료되기 전에는 False Negative가 발생할 수 있으므로 필터를 거치지 않음
+        if (!bloomFilterRebuilder.isReady(bloomFilter)) {
+            return itemService.read(itemId);
         }
-        return itemService.read(itemId);
+        // 같은 itemId의 "없음" 결과가 로컬에 캐시되어 있으면 Redis를 조회하지 않음
+        return bloomFilterNegativeCache.read(
+                negativeCacheName,
+                itemId,
+                value -> bloomFilterRedisHandler.mightContainByScript(bloomFilter, value),
+                itemService::read
+        );
     }
 
     @Override
@@ -37,6 +72,21 @@ public class ItemBloomFilterCacheService implements ItemCacheService {
         return itemService.readAll(page, pageSize);
     }
 
+    @Override
+    public List<ItemResponse> readAll(List<Long> itemIds) {
+        if (!bloomFilterRebuilder.isReady(bloomFilter)) {
+            return itemService.readAll(itemIds);
+        }
+
+        // Bloom Filter 일괄 조회 후, 존재하지 않는 itemId는 Data Source 조회 대상에서 제외
+        return bloomFilterNegativeCache.readAll(
+                negativeCacheName,
+                itemIds,
+                values -> bloomFilterRedisHandler.mightContainAll(bloomFilter, values),
+                itemService::readAll
+        );
+    }
+
     @Override
     public ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize) {
         return itemService.readAllInfiniteScroll(lastItemId, pageSize);
@@ -45,7 +95,8 @@ public class ItemBloomFilterCacheService implements ItemCacheService {
     @Override
     public ItemResponse create(ItemCreateRequest request) {
         ItemResponse itemResponse = itemService.create(request);
-        bloomFilterRedisHandler.add(bloomFilter, String.valueOf(itemResponse.itemId()));
+        bloomFilterRedisHandler.addByScript(bloomFilter, String.valueOf(itemResponse.itemId()));
+        bloomFilterNegativeCache.invalidate(negativeCacheName, String.valueOf(itemResponse.itemId()));
         return itemResponse;
     }
 
@@ -0,0 +1,47 @@
+package com.example.cache.service.strategy.countingbloomfilter;
+
+import com.example.cache.service.strategy.splitbloomfilter.SplitBloomFilter;
+import com.example.cache.service.strategy.splitshardedbloomfilter.SplitShardedBloomFilter;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Counting Bloom Filter
+ * <p>
+ * - 비트 대신 4비트 카운터(0 ~ 15)를 사용하여, 추가 시 k개 카운터를 1 증가시키고 삭제 시 1 감소시킨다.
+ * - 카운터 배치는 Split + Sharding 구조를 그대로 사용한다. (Shard → Split Key → Split 내부 카운터 위치)
+ * - Split 1개는 BIT_SPLIT_UNIT개의 카운터를 담당하므로, Split Key 1개의 크기는 BIT_SPLIT_UNIT * 4 비트이다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CountingBloomFilter {
+
+    public static final int COUNTER_BITS = 4;
+    public static final long MAX_COUNT = (1L << COUNTER_BITS) - 1; // 15 (포화 상태, 이후로는 감소시키지 않음)
+
+    private String id;
+    private SplitShardedBloomFilter splitShardedBloomFilter;
+
+    public static CountingBloomFilter create(String id, long dataCount, double falsePositiveRate, int shardCount) {
+        CountingBloomFilter countingBloomFilter = new CountingBloomFilter();
+        countingBloomFilter.id = id;
+        countingBloomFilter.splitShardedBloomFilter = SplitShardedBloomFilter.create(id, dataCount, falsePositiveRate, shardCount);
+        return countingBloomFilter;
+    }
+
+    public SplitBloomFilter findShard(String value) {
+        return splitShardedBloomFilter.findShard(value);
+    }
+
+    /**
+     * Split 내부에서 카운터의 비트 offset
+     * 예) 3번째 카운터 → 3 * 4 = 12번째 비트부터 4비트
+     */
+    public static long calCounterOffset(long hashedIndex) {
+        return (hashedIndex % SplitBloomFilter.BIT_SPLIT_UNIT) * COUNTER_BITS;
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.example.cache.service.strategy.countingbloomfilter;
+
+import com.example.cache.common.redis.BitFieldCommands;
+import com.example.cache.service.strategy.splitbloomfilter.SplitBloomFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+@Component
+@RequiredArgsConstructor
+public class CountingBloomFilterRedisHandler {
+
+    private static final BitFieldType COUNTER = BitFieldType.unsigned(CountingBloomFilter.COUNTER_BITS);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 데이터 추가
+     * <p>
+     * - k개 카운터를 Split Key 별로 모아서, Key 별 'BITFIELD OVERFLOW SAT INCRBY' 1회를 하나의 파이프라인으로 실행한다.
+     * - 카운터가 15에 도달하면 더 이상 증가하지 않는다. (포화)
+     */
+    public void add(CountingBloomFilter countingBloomFilter, String value) {
+        addAll(countingBloomFilter, List.of(value));
+    }
+
+    /**
+     * 여러 값 일괄 추가
+     * - 같은 값이 여러 번 포함되면 그만큼 카운터가 증가한다.
+     */
+    public void addAll(CountingBloomFilter countingBloomFilter, List<String> values) {
+        Map<String, List<Long>> offsetsByKey = new LinkedHashMap<>();
+        for (String value : values) {
+            collectCounterPositions(countingBloomFilter, value, offsetsByKey, new ArrayList<>());
+        }
+        if (offsetsByKey.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<?>) action -> {
+            StringRedisConnection conn = (StringRedisConnection) action;
+            offsetsByKey.forEach((key, offsets) -> conn.bitfield(key, BitFieldCommands.incrementValuesSaturated(COUNTER, offsets, 1)));
+            return null;
+        });
+    }
+
+    /**
+     * 데이터 존재 가능성 조회
+     * <p>
+     * - k개 카운터가 모두 1 이상이면 "있을 수도 있음", 하나라도 0이면 "확실히 없음"
+     */
+    public boolean mightContain(CountingBloomFilter countingBloomFilter, String value) {
+        return mightContainAll(countingBloomFilter, List.of(value)).get(value);
+    }
+
+    /**
+     * 여러 값의 존재 가능성 일괄 조회
+     * <p>
+     * - 카운터 offset을 Split Key 별로 모아서, Key 별 BITFIELD GET 1회를 하나의 파이프라인으로 실행한다.
+     *
+     * @return 요청한 값 순서가 유지된 value → mightContain
+     */
+    public Map<String, Boolean> mightContainAll(CountingBloomFilter countingBloomFilter, List<String> values) {
+        Map<String, List<Long>> offsetsByKey = new LinkedHashMap<>();
+        Map<String, List<CounterPosition>> counterPositionsByValue = new LinkedHashMap<>();
+        for (String value : values) {
+            if (!counterPositionsByValue.containsKey(value)) {
+                List<CounterPosition> counterPositions = new ArrayList<>();
+                collectCounterPositions(countingBloomFilter, value, offsetsByKey, counterPositions);
+                counterPositionsByValue.put(value, counterPositions);
+            }
+        }
+
+        Map<String, List<Long>> countsByKey = getCounts(offsetsByKey);
+
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        counterPositionsByValue.forEach((value, counterPositions) -> result.put(
+                value,
+                counterPositions.stream()
+                        .allMatch(counterPosition -> countsByKey.get(counterPosition.key()).get(counterPosition.index()) > 0)
+        ));
+        return result;
+    }
+
+    /**
+     * 데이터 삭제
+     * <p>
+     * - Lua 스크립트로 k개 카운터를 원자적으로 1 감소시킨다. (포화된 카운터는 유지)
+     * - 존재하지 않는 값(카운터 중 하나라도 0)이라면 아무것도 감소시키지 않는다.
+     * - 추가한 적 없는 값을 삭제하면 다른 값의 카운터가 감소하여 False Negative가 발생할 수 있으므로,
+     *   실제로 존재하던 데이터를 삭제할 때만 호출해야 한다.
+     *
+     * @return 카운터를 감소시켰다면 true
+     */
+    public boolean remove(CountingBloomFilter countingBloomFilter, String value) {
+        SplitBloomFilter shard = countingBloomFilter.findShard(value);
+        long[] hashedIndexes = shard.hash(value);
+
+        List<String> keys = new ArrayList<>(hashedIndexes.length);
+        List<String> args = new ArrayList<>(hashedIndexes.length + 1);
+        args.add(String.valueOf(CountingBloomFilter.MAX_COUNT));
+        for (long hashedIndex : hashedIndexes) {
+            keys.add(genKey(shard, shard.findSplitIndex(hashedIndex)));
+            args.add(String.valueOf(CountingBloomFilter.calCounterOffset(hashedIndex)));
+        }
+
+        Long result = redisTemplate.execute(CountingBloomFilterScripts.REMOVE, keys, args.toArray());
+        return Long.valueOf(1).equals(result);
+    }
+
+    /**
+     * 값의 k개 카운터 위치를 Split Key 별 offset 목록에 추가한다.
+     */
+    private void collectCounterPositions(
+            CountingBloomFilter countingBloomFilter,
+            String value,
+            Map<String, List<Long>> offsetsByKey,
+            List<CounterPosition> counterPositions
+    ) {
+        SplitBloomFilter shard = countingBloomFilter.findShard(value);
+        for (long hashedIndex : shard.hash(value)) {
+            String key = genKey(shard, shard.findSplitIndex(hashedIndex));
+            List<Long> offsets = offsetsByKey.computeIfAbsent(key, k -> new ArrayList<>());
+            counterPositions.add(new CounterPosition(key, offsets.size()));
+            offsets.add(CountingBloomFilter.calCounterOffset(hashedIndex));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, List<Long>> getCounts(Map<String, List<Long>> offsetsByKey) {
+        if (offsetsByKey.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> keys = new ArrayList<>(offsetsByKey.keySet());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<?>) action -> {
+            StringRedisConnection conn = (StringRedisConnection) action;
+            for (String key : keys) {
+                conn.bitfield(key, BitFieldCommands.getValues(COUNTER, offsetsByKey.get(key)));
+            }
+            return null;
+        });
+
+        Map<String, List<Long>> countsByKey = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            countsByKey.put(keys.get(i), (List<Long>) results.get(i));
+        }
+        return countsByKey;
+    }
+
+    private record CounterPosition(String key, int index) {
+    }
+
+    /**
+     * Counting Bloom Filter 삭제
+     * - 모든 Shard의 모든 Split Key 삭제
+     */
+    public void delete(CountingBloomFilter countingBloomFilter) {
+        List<String> keys = countingBloomFilter.getSplitShardedBloomFilter().getShards().stream()
+                .flatMap(shard -> LongStream.range(0, shard.getSplitCount())
+                        .mapToObj(splitIndex -> genKey(shard, splitIndex)))
+                .toList();
+        redisTemplate.delete(keys);
+    }
+
+    /**
+     * Counting Bloom Filter Redis Key 생성 규칙
+     * <p>
+     * - Shard id를 Hash Tag로 사용하여 한 Shard의 모든 Split Key가 같은 Slot에 저장된다. (SplitBloomFilterKeyMode.HASH_TAGGED와 동일)
+     * - remove의 Lua 스크립트는 한 Shard의 Split Key들만 다루므로 Redis Cluster에서도 CROSSSLOT 없이 실행된다.
+     * <p>
+     * 예)
+     * counting-bloom-filter:{item:shard:0}:split:0
+     * counting-bloom-filter:{item:shard:0}:split:1
+     */
+    private String genKey(SplitBloomFilter shard, long splitIndex) {
+        return "counting-bloom-filter:{%s}:split:%s"
+                .formatted(shard.getId(), splitIndex);
+    }
+
+}
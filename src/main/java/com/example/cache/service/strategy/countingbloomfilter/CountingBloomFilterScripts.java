@@ -0,0 +1,38 @@
+package com.example.cache.service.strategy.countingbloomfilter;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Counting Bloom Filter 카운터 감소를 Redis 내부에서 수행하는 Lua 스크립트
+ * <p>
+ * - 카운터 조회와 감소 사이에 다른 요청이 끼어들지 않도록 원자적으로 실행한다.
+ */
+public final class CountingBloomFilterScripts {
+
+    private CountingBloomFilterScripts() {
+    }
+
+    /**
+     * KEYS[i]/ARGV[i + 1]: i번째 카운터의 Split Key, 비트 offset / ARGV[1]: 포화 카운터 값
+     * <p>
+     * - 카운터 중 하나라도 0이면 존재하지 않는 값이므로 아무것도 감소시키지 않고 0을 반환한다.
+     * - 포화된 카운터는 실제 개수를 알 수 없으므로 감소시키지 않는다. (감소시키면 False Negative 발생 가능)
+     * - 모든 카운터를 감소시켰다면 1을 반환한다.
+     */
+    public static final RedisScript<Long> REMOVE = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                if redis.call('BITFIELD', KEYS[i], 'GET', 'u4', ARGV[i + 1])[1] == 0 then
+                    return 0
+                end
+            end
+            local maxCount = tonumber(ARGV[1])
+            for i = 1, #KEYS do
+                if redis.call('BITFIELD', KEYS[i], 'GET', 'u4', ARGV[i + 1])[1] < maxCount then
+                    redis.call('BITFIELD', KEYS[i], 'OVERFLOW', 'SAT', 'INCRBY', 'u4', ARGV[i + 1], -1)
+                end
+            end
+            return 1
+            """, Long.class);
+
+}
@@ -0,0 +1,97 @@
+package com.example.cache.service.strategy.countingbloomfilter;
+
+import com.example.cache.common.bloomfilter.BloomFilterNegativeCache;
+import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.model.ItemCreateRequest;
+import com.example.cache.model.ItemUpdateRequest;
+import com.example.cache.service.ItemCacheService;
+import com.example.cache.service.ItemService;
+import com.example.cache.service.response.ItemPageResponse;
+import com.example.cache.service.response.ItemResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Counting Bloom Filter 전략
+ * - 삭제된 itemId는 필터에서도 제거되므로, 삭제 이후의 조회가 Data Source로 전달되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemCountingBloomFilterCacheService implements ItemCacheService {
+
+    private final ItemService itemService;
+    private final CountingBloomFilterRedisHandler countingBloomFilterRedisHandler;
+    private final BloomFilterNegativeCache bloomFilterNegativeCache;
+
+    private static final CountingBloomFilter countingBloomFilter = CountingBloomFilter.create(
+            "item-counting-bloom-filter",
+            1000,
+            0.01,
+            4
+    );
+
+    private static final String negativeCacheName = CacheStrategy.COUNTING_BLOOM_FILTER + ":" + countingBloomFilter.getId();
+
+    @Override
+    public ItemResponse read(Long itemId) {
+        // 같은 itemId의 "없음" 결과가 로컬에 캐시되어 있으면 Redis를 조회하지 않음
+        return bloomFilterNegativeCache.read(
+                negativeCacheName,
+                itemId,
+                value -> countingBloomFilterRedisHandler.mightContain(countingBloomFilter, value),
+                itemService::read
+        );
+    }
+
+    @Override
+    public ItemPageResponse readAll(Long page, Long pageSize) {
+        return itemService.readAll(page, pageSize);
+    }
+
+    @Override
+    public List<ItemResponse> readAll(List<Long> itemIds) {
+        // Counting Bloom Filter 일괄 조회 후, 존재하지 않는 itemId는 Data Source 조회 대상에서 제외
+        return bloomFilterNegativeCache.readAll(
+                negativeCacheName,
+                itemIds,
+                values -> countingBloomFilterRedisHandler.mightContainAll(countingBloomFilter, values),
+                itemService::readAll
+        );
+    }
+
+    @Override
+    public ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize) {
+        return itemService.readAllInfiniteScroll(lastItemId, pageSize);
+    }
+
+    @Override
+    public ItemResponse create(ItemCreateRequest request) {
+        ItemResponse itemResponse = itemService.create(request);
+        countingBloomFilterRedisHandler.add(countingBloomFilter, String.valueOf(itemResponse.itemId()));
+        bloomFilterNegativeCache.invalidate(negativeCacheName, String.valueOf(itemResponse.itemId()));
+        return itemResponse;
+    }
+
+    @Override
+    public ItemResponse update(Long itemId, ItemUpdateRequest request) {
+        return itemService.update(itemId, request);
+    }
+
+    @Override
+    public void delete(Long itemId) {
+        // 추가한 적 없는 itemId의 카운터를 감소시키지 않도록, 실제로 존재하던 데이터만 필터에서 제거
+        // (동시에 같은 itemId를 삭제해도 Data Source에서 실제로 삭제한 요청만 제거)
+        if (!itemService.delete(itemId)) {
+            return;
+        }
+        countingBloomFilterRedisHandler.remove(countingBloomFilter, String.valueOf(itemId));
+    }
+
+    @Override
+    public boolean supports(CacheStrategy cacheStrategy) {
+        return CacheStrategy.COUNTING_BLOOM_FILTER == cacheStrategy;
+    }
+
+}
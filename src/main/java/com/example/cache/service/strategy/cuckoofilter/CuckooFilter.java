@@ -0,0 +1,102 @@
+package com.example.cache.service.strategy.cuckoofilter;
+
+import com.google.common.hash.Hashing;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cuckoo Filter
+ * <p>
+ * - 값 대신 f비트 fingerprint를 버킷(슬롯 b개)에 저장하고, 값마다 후보 버킷 2개(i1, i2) 중 하나에 들어간다.
+ * - 조회는 후보 버킷 2개(2b개 슬롯)만 확인하고, fingerprint를 지우는 방식으로 삭제할 수 있다.
+ * - i2 = i1 XOR hash(fingerprint) 이므로, 저장된 fingerprint만으로 다른 후보 버킷을 계산할 수 있다. (재배치 시 원래 값이 필요 없음)
+ * <p>
+ * Redis에는 하나의 String Key에 (버킷 * b + 슬롯) 순서로 f비트씩 저장하고, BITFIELD u{f}로 접근한다.
+ * fingerprint 0은 빈 슬롯을 의미한다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CuckooFilter {
+
+    public static final int BUCKET_SIZE = 4; // 버킷 당 슬롯 수(b)
+    public static final double LOAD_FACTOR = 0.95; // b = 4일 때 삽입 실패 없이 채울 수 있는 비율
+    public static final int MAX_KICKS = 500; // 삽입 시 최대 재배치 횟수
+
+    // Lua 스크립트에서도 같은 값으로 다른 후보 버킷을 계산한다. (fingerprint * 상수 < 2^53 이므로 Lua number로 정확히 계산됨)
+    public static final long ALT_INDEX_MULTIPLIER = 0x5bd1e995L;
+    private static final int MAX_FINGERPRINT_BITS = 16;
+    private static final long MAX_BUCKET_COUNT = 1L << 31; // Lua bit 연산은 32비트 정수 범위에서만 동작
+
+    private String id;
+    private long dataCount; // 데이터 수(n)
+    private double falsePositiveRate; // 오차율(p)
+    private int fingerprintBits; // fingerprint 비트 수(f)
+    private long bucketCount; // 버킷 수 (2의 거듭제곱)
+
+    public static CuckooFilter create(String id, long dataCount, double falsePositiveRate) {
+        CuckooFilter cuckooFilter = new CuckooFilter();
+        cuckooFilter.id = id;
+        cuckooFilter.dataCount = dataCount;
+        cuckooFilter.falsePositiveRate = falsePositiveRate;
+        cuckooFilter.fingerprintBits = calFingerprintBits(falsePositiveRate);
+        cuckooFilter.bucketCount = calBucketCount(dataCount);
+        if (cuckooFilter.bucketCount > MAX_BUCKET_COUNT) {
+            throw new IllegalArgumentException("dataCount is too large. dataCount=" + dataCount);
+        }
+        return cuckooFilter;
+    }
+
+    /**
+     * f >= log2(2b / p)
+     * - 조회 시 2b개의 fingerprint와 비교하므로, 각 비교의 충돌 확률(1 / 2^f)의 2b배가 오차율이 된다.
+     */
+    private static int calFingerprintBits(double falsePositiveRate) {
+        int fingerprintBits = (int) Math.ceil(Math.log(2.0 * BUCKET_SIZE / falsePositiveRate) / Math.log(2));
+        return Math.min(Math.max(fingerprintBits, 1), MAX_FINGERPRINT_BITS);
+    }
+
+    /**
+     * 버킷 수 = n / (b * LOAD_FACTOR) 이상인 2의 거듭제곱
+     * - 2의 거듭제곱이어야 i1 XOR hash(fingerprint)가 항상 버킷 범위 안에 있다.
+     */
+    private static long calBucketCount(long dataCount) {
+        long bucketCount = Math.max(1, (long) Math.ceil(dataCount / (BUCKET_SIZE * LOAD_FACTOR)));
+        long highestOneBit = Long.highestOneBit(bucketCount);
+        return highestOneBit == bucketCount ? bucketCount : highestOneBit << 1;
+    }
+
+    public long getBitSize() {
+        return bucketCount * BUCKET_SIZE * fingerprintBits;
+    }
+
+    public Position findPosition(String value) {
+        long hash = Hashing.murmur3_128()
+                .hashString(value, StandardCharsets.UTF_8)
+                .asLong();
+
+        // 상위 32비트로 fingerprint(1 ~ 2^f - 1), 하위 비트로 버킷을 결정
+        long fingerprint = ((hash >>> 32) % ((1L << fingerprintBits) - 1)) + 1;
+        long index = hash & (bucketCount - 1);
+        return new Position(fingerprint, index, findAltIndex(index, fingerprint));
+    }
+
+    public long findAltIndex(long index, long fingerprint) {
+        return index ^ ((fingerprint * ALT_INDEX_MULTIPLIER) % bucketCount);
+    }
+
+    /**
+     * 버킷의 슬롯 비트 offset
+     */
+    public long calOffset(long bucketIndex, int slotIndex) {
+        return (bucketIndex * BUCKET_SIZE + slotIndex) * fingerprintBits;
+    }
+
+    public record Position(long fingerprint, long index, long altIndex) {
+    }
+
+}
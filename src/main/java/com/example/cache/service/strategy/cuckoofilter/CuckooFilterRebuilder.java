@@ -0,0 +1,100 @@
+package com.example.cache.service.strategy.cuckoofilter;
+
+import com.example.cache.common.distributedlock.DistributedLockProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Data Source의 전체 id로 Cuckoo Filter를 다시 만든다.
+ * <p>
+ * - 필터가 가득 차서 degraded로 표시된 필터를 복구하는 용도 (삭제로 생긴 빈 슬롯과 재배치로 다시 자리를 찾는다)
+ * - id를 chunk 단위로 읽어 재구축용 Key에 추가하고, 완료되면 필터를 교체하면서 degraded 표시를 삭제한다.
+ * - 교체 전에 기존 필터에만 추가된 값은 교체로 사라지므로, 교체 후 마지막 id 이후의 id를 다시 읽어 추가한다. (id는 증가하는 순서로 생성됨)
+ * - 데이터 수가 필터 용량(dataCount)을 넘으면 재구축도 실패하고 degraded가 유지된다. 이 경우 dataCount를 늘려야 한다.
+ * - 재구축에 실패하면 락을 해제하지 않고 만료되게 두어, 용량이 부족한 동안 추가 실패마다 전체 재구축이 반복되지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CuckooFilterRebuilder {
+
+    private static final long CHUNK_SIZE = 1000;
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(1);
+
+    private final CuckooFilterRedisHandler cuckooFilterRedisHandler;
+    private final DistributedLockProvider distributedLockProvider;
+
+    /**
+     * @param idChunkReader (lastId, chunkSize) → lastId 다음 id 목록 (lastId가 null이면 처음부터, 빈 목록이면 끝)
+     * @return 재구축한 필터로 교체했다면 true
+     */
+    public boolean rebuild(CuckooFilter cuckooFilter, BiFunction<Long, Long, List<Long>> idChunkReader) {
+        String lockKey = genRebuildLockKey(cuckooFilter);
+        String lockToken = distributedLockProvider.lockOrNull(lockKey, REBUILD_LOCK_TTL);
+        if (lockToken == null) {
+            log.info("[CuckooFilterRebuilder.rebuild] already rebuilding or recently failed. cuckooFilterId={}", cuckooFilter.getId());
+            return false;
+        }
+
+        long start = System.nanoTime();
+        long count = 0;
+        try {
+            cuckooFilterRedisHandler.cancelRebuild(cuckooFilter);
+
+            Long lastId = null;
+            while (true) {
+                List<Long> ids = idChunkReader.apply(lastId, CHUNK_SIZE);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                if (!cuckooFilterRedisHandler.addAllToRebuild(cuckooFilter, toValues(ids))) {
+                    log.error("[CuckooFilterRebuilder.rebuild] cuckoo filter is full. increase dataCount. cuckooFilterId={}, dataCount={}, count={}",
+                            cuckooFilter.getId(), cuckooFilter.getDataCount(), count);
+                    cuckooFilterRedisHandler.cancelRebuild(cuckooFilter);
+                    return false;
+                }
+                count += ids.size();
+                lastId = ids.getLast();
+            }
+
+            cuckooFilterRedisHandler.completeRebuild(cuckooFilter);
+
+            // 교체 직전까지 기존 필터에만 추가된 값 반영 (교체 후 추가된 값이 중복으로 추가되면 False Positive만 생김)
+            while (true) {
+                List<Long> ids = idChunkReader.apply(lastId, CHUNK_SIZE);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                if (!cuckooFilterRedisHandler.addAll(cuckooFilter, toValues(ids))) {
+                    cuckooFilterRedisHandler.markDegraded(cuckooFilter);
+                }
+                count += ids.size();
+                lastId = ids.getLast();
+            }
+        } catch (RuntimeException e) {
+            // 기존 필터와 degraded 표시는 그대로 사용된다.
+            log.error("[CuckooFilterRebuilder.rebuild] cuckooFilterId={}, count={}", cuckooFilter.getId(), count, e);
+            cuckooFilterRedisHandler.cancelRebuild(cuckooFilter);
+            return false;
+        }
+
+        distributedLockProvider.unlock(lockKey, lockToken);
+        log.info("[CuckooFilterRebuilder.rebuild] cuckooFilterId={}, count={}, elapsedMillis={}",
+                cuckooFilter.getId(), count, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return true;
+    }
+
+    private List<String> toValues(List<Long> ids) {
+        return ids.stream().map(String::valueOf).toList();
+    }
+
+    private String genRebuildLockKey(CuckooFilter cuckooFilter) {
+        return "cuckoo-filter:rebuild:%s".formatted(cuckooFilter.getId());
+    }
+
+}
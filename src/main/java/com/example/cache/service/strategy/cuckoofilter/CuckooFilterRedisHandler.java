@@ -0,0 +1,261 @@
+package com.example.cache.service.strategy.cuckoofilter;
+
+import com.example.cache.common.redis.BitFieldCommands;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CuckooFilterRedisHandler {
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 데이터 추가
+     * <p>
+     * - Lua 스크립트로 후보 버킷 2개에 저장하고, 자리가 없으면 Redis 내부에서 재배치한다. (명령 1개)
+     *
+     * @return 필터가 가득 차서 추가하지 못했다면 false
+     */
+    public boolean add(CuckooFilter cuckooFilter, String value) {
+        CuckooFilter.Position position = cuckooFilter.findPosition(value);
+        Long result = redisTemplate.execute(
+                CuckooFilterScripts.INSERT,
+                List.of(genKey(cuckooFilter)),
+                scriptArgs(cuckooFilter, position, String.valueOf(CuckooFilter.MAX_KICKS))
+        );
+        if (!Long.valueOf(1).equals(result)) {
+            log.warn("[CuckooFilterRedisHandler.add] cuckoo filter is full. id={}, value={}", cuckooFilter.getId(), value);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 여러 값 일괄 추가
+     * - 값마다 삽입 스크립트 1회를 하나의 파이프라인으로 실행한다. (네트워크 왕복 1회)
+     *
+     * @return 필터가 가득 차서 추가하지 못한 값이 있다면 false
+     */
+    public boolean addAll(CuckooFilter cuckooFilter, List<String> values) {
+        return insertAll(genKey(cuckooFilter), cuckooFilter, values);
+    }
+
+    /**
+     * 재구축용 Key에 여러 값 일괄 추가
+     *
+     * @return 필터가 가득 차서 추가하지 못한 값이 있다면 false
+     */
+    public boolean addAllToRebuild(CuckooFilter cuckooFilter, List<String> values) {
+        return insertAll(genRebuildKey(cuckooFilter), cuckooFilter, values);
+    }
+
+    private boolean insertAll(String key, CuckooFilter cuckooFilter, List<String> values) {
+        if (values.isEmpty()) {
+            return true;
+        }
+
+        String script = CuckooFilterScripts.INSERT.getScriptAsString();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<?>) action -> {
+            StringRedisConnection conn = (StringRedisConnection) action;
+            for (String value : values) {
+                List<String> keysAndArgs = new ArrayList<>();
+                keysAndArgs.add(key);
+                for (Object arg : scriptArgs(cuckooFilter, cuckooFilter.findPosition(value), String.valueOf(CuckooFilter.MAX_KICKS))) {
+                    keysAndArgs.add((String) arg);
+                }
+                conn.eval(script, ReturnType.INTEGER, 1, keysAndArgs.toArray(String[]::new));
+            }
+            return null;
+        });
+
+        long failedCount = results.stream().filter(result -> !Long.valueOf(1).equals(result)).count();
+        if (failedCount > 0) {
+            log.warn("[CuckooFilterRedisHandler.insertAll] cuckoo filter is full. key={}, failedCount={}", key, failedCount);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 데이터 존재 가능성 조회
+     * <p>
+     * - 후보 버킷 2개의 슬롯(2b개)을 BITFIELD GET 1회로 조회하고, fingerprint가 하나라도 일치하면 "있을 수도 있음"
+     * - degraded 표시를 같은 파이프라인으로 확인하고, degraded라면 항상 "있을 수도 있음" (네트워크 왕복 1회)
+     */
+    @SuppressWarnings("unchecked")
+    public boolean mightContain(CuckooFilter cuckooFilter, String value) {
+        CuckooFilter.Position position = cuckooFilter.findPosition(value);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<?>) action -> {
+            StringRedisConnection conn = (StringRedisConnection) action;
+            conn.exists(genDegradedKey(cuckooFilter));
+            conn.bitfield(
+                    genKey(cuckooFilter),
+                    BitFieldCommands.getValues(fingerprintType(cuckooFilter), candidateOffsets(cuckooFilter, position))
+            );
+            return null;
+        });
+        if (Boolean.TRUE.equals(results.get(0))) {
+            return true;
+        }
+        List<Long> fingerprints = (List<Long>) results.get(1);
+        return fingerprints != null && fingerprints.contains(position.fingerprint());
+    }
+
+    /**
+     * 여러 값의 존재 가능성 일괄 조회
+     * <p>
+     * - 값마다 후보 버킷 2개에 대한 BITFIELD GET 1회를 하나의 파이프라인으로 실행한다. (네트워크 왕복 1회)
+     * - degraded 표시도 같은 파이프라인으로 확인하고, degraded라면 모든 값이 "있을 수도 있음"
+     *
+     * @return 요청한 값 순서가 유지된 value → mightContain
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Boolean> mightContainAll(CuckooFilter cuckooFilter, List<String> values) {
+        List<String> distinctValues = new ArrayList<>(new LinkedHashSet<>(values));
+        if (distinctValues.isEmpty()) {
+            return Map.of();
+        }
+
+        String key = genKey(cuckooFilter);
+        BitFieldType fingerprintType = fingerprintType(cuckooFilter);
+        List<CuckooFilter.Position> positions = distinctValues.stream()
+                .map(cuckooFilter::findPosition)
+                .toList();
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<?>) action -> {
+            StringRedisConnection conn = (StringRedisConnection) action;
+            conn.exists(genDegradedKey(cuckooFilter));
+            for (CuckooFilter.Position position : positions) {
+                conn.bitfield(key, BitFieldCommands.getValues(fingerprintType, candidateOffsets(cuckooFilter, position)));
+            }
+            return null;
+        });
+
+        boolean degraded = Boolean.TRUE.equals(results.get(0));
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        for (int i = 0; i < distinctValues.size(); i++) {
+            if (degraded) {
+                result.put(distinctValues.get(i), true);
+                continue;
+            }
+            List<Long> fingerprints = (List<Long>) results.get(i + 1);
+            result.put(distinctValues.get(i), fingerprints.contains(positions.get(i).fingerprint()));
+        }
+        return result;
+    }
+
+    /**
+     * 데이터 삭제
+     * <p>
+     * - 후보 버킷 2개에서 fingerprint 1개를 제거한다.
+     * - 추가한 적 없는 값을 삭제하면 fingerprint가 같은 다른 값이 제거될 수 있으므로,
+     *   실제로 존재하던 데이터를 삭제할 때만 호출해야 한다.
+     *
+     * @return fingerprint를 제거했다면 true
+     */
+    public boolean remove(CuckooFilter cuckooFilter, String value) {
+        CuckooFilter.Position position = cuckooFilter.findPosition(value);
+        Long result = redisTemplate.execute(
+                CuckooFilterScripts.DELETE,
+                List.of(genKey(cuckooFilter)),
+                scriptArgs(cuckooFilter, position)
+        );
+        return Long.valueOf(1).equals(result);
+    }
+
+    /**
+     * 필터를 degraded로 표시한다.
+     * <p>
+     * - 필터가 가득 차서 추가하지 못한 값이 있으면, 그 값은 필터에서 "없음"으로 조회된다. (false negative)
+     * - degraded로 표시된 필터는 조회 시 항상 "있을 수도 있음"을 반환해서, 필터를 사용하지 않고 Data Source를 조회하게 한다.
+     * - 필터를 삭제하거나 재구축을 완료하면 degraded 표시도 함께 삭제된다. (CuckooFilterRebuilder)
+     */
+    public void markDegraded(CuckooFilter cuckooFilter) {
+        log.warn("[CuckooFilterRedisHandler.markDegraded] id={}", cuckooFilter.getId());
+        redisTemplate.opsForValue().set(genDegradedKey(cuckooFilter), "1");
+    }
+
+    /**
+     * 재구축용 Key로 필터를 교체하고 degraded 표시를 삭제한다. (스크립트 1회로 원자적으로 처리)
+     */
+    public void completeRebuild(CuckooFilter cuckooFilter) {
+        redisTemplate.execute(
+                CuckooFilterScripts.COMPLETE_REBUILD,
+                List.of(genRebuildKey(cuckooFilter), genKey(cuckooFilter), genDegradedKey(cuckooFilter))
+        );
+    }
+
+    public void cancelRebuild(CuckooFilter cuckooFilter) {
+        redisTemplate.delete(genRebuildKey(cuckooFilter));
+    }
+
+    public void delete(CuckooFilter cuckooFilter) {
+        redisTemplate.delete(List.of(genKey(cuckooFilter), genDegradedKey(cuckooFilter), genRebuildKey(cuckooFilter)));
+    }
+
+    private List<Long> candidateOffsets(CuckooFilter cuckooFilter, CuckooFilter.Position position) {
+        List<Long> offsets = new ArrayList<>(CuckooFilter.BUCKET_SIZE * 2);
+        for (long bucketIndex : new long[]{position.index(), position.altIndex()}) {
+            for (int slotIndex = 0; slotIndex < CuckooFilter.BUCKET_SIZE; slotIndex++) {
+                offsets.add(cuckooFilter.calOffset(bucketIndex, slotIndex));
+            }
+        }
+        return offsets;
+    }
+
+    private Object[] scriptArgs(CuckooFilter cuckooFilter, CuckooFilter.Position position, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                String.valueOf(cuckooFilter.getBucketCount()),
+                String.valueOf(CuckooFilter.BUCKET_SIZE),
+                String.valueOf(cuckooFilter.getFingerprintBits()),
+                String.valueOf(CuckooFilter.ALT_INDEX_MULTIPLIER),
+                String.valueOf(position.fingerprint()),
+                String.valueOf(position.index()),
+                String.valueOf(position.altIndex())
+        ));
+        args.addAll(List.of(extraArgs));
+        return args.toArray();
+    }
+
+    private BitFieldType fingerprintType(CuckooFilter cuckooFilter) {
+        return BitFieldType.unsigned(cuckooFilter.getFingerprintBits());
+    }
+
+    /**
+     * Cuckoo Filter Redis Key 생성 규칙
+     * - 필터 id를 Hash Tag로 사용하여, 재구축 교체 스크립트가 다루는 Key들이 같은 Slot에 저장된다.
+     * 예) cuckoo-filter:{item}
+     */
+    public String genKey(CuckooFilter cuckooFilter) {
+        return "cuckoo-filter:{%s}".formatted(cuckooFilter.getId());
+    }
+
+    /**
+     * 예) cuckoo-filter:{item}:degraded
+     */
+    private String genDegradedKey(CuckooFilter cuckooFilter) {
+        return genKey(cuckooFilter) + ":degraded";
+    }
+
+    /**
+     * 예) cuckoo-filter:{item}:rebuild
+     */
+    private String genRebuildKey(CuckooFilter cuckooFilter) {
+        return genKey(cuckooFilter) + ":rebuild";
+    }
+
+}
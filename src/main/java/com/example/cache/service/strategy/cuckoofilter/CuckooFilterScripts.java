@@ -0,0 +1,128 @@
+package com.example.cache.service.strategy.cuckoofilter;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Cuckoo Filter 삽입/삭제를 Redis 내부에서 수행하는 Lua 스크립트
+ * <p>
+ * - 삽입 중 재배치(kick)가 여러 번 일어나도 명령 1개로 원자적으로 처리한다.
+ * <p>
+ * 공통 인자
+ * - KEYS[1]: Cuckoo Filter Key
+ * - ARGV[1]: 버킷 수, ARGV[2]: 버킷 당 슬롯 수, ARGV[3]: fingerprint 비트 수, ARGV[4]: 다른 후보 버킷 계산용 곱셈 상수
+ * - ARGV[5]: fingerprint, ARGV[6]: 후보 버킷 i1, ARGV[7]: 후보 버킷 i2
+ */
+public final class CuckooFilterScripts {
+
+    private CuckooFilterScripts() {
+    }
+
+    private static final String COMMON = """
+            local bucketCount = tonumber(ARGV[1])
+            local bucketSize = tonumber(ARGV[2])
+            local fingerprintBits = tonumber(ARGV[3])
+            local multiplier = tonumber(ARGV[4])
+            local fingerprint = tonumber(ARGV[5])
+            local index = tonumber(ARGV[6])
+            local altIndex = tonumber(ARGV[7])
+            local type = 'u' .. fingerprintBits
+
+            local function offset(bucket, slot)
+                return (bucket * bucketSize + slot) * fingerprintBits
+            end
+
+            local function get(bucket, slot)
+                return redis.call('BITFIELD', KEYS[1], 'GET', type, offset(bucket, slot))[1]
+            end
+
+            local function set(bucket, slot, value)
+                return redis.call('BITFIELD', KEYS[1], 'SET', type, offset(bucket, slot), value)[1]
+            end
+            """;
+
+    /**
+     * 삽입
+     * <p>
+     * - 후보 버킷 2개 중 빈 슬롯이 있으면 저장하고 1을 반환한다.
+     * - 빈 슬롯이 없으면 임의의 fingerprint를 꺼내 그 fingerprint의 다른 후보 버킷으로 옮기는 과정을 최대 maxKicks번 반복한다.
+     * - 끝까지 자리를 찾지 못하면 재배치를 모두 되돌리고 0을 반환한다. (기존 fingerprint가 유실되지 않음)
+     * - ARGV[8]: 최대 재배치 횟수
+     */
+    public static final RedisScript<Long> INSERT = new DefaultRedisScript<>(COMMON + """
+            local maxKicks = tonumber(ARGV[8])
+
+            local function tryInsert(bucket, value)
+                for slot = 0, bucketSize - 1 do
+                    if get(bucket, slot) == 0 then
+                        set(bucket, slot, value)
+                        return true
+                    end
+                end
+                return false
+            end
+
+            if tryInsert(index, fingerprint) or tryInsert(altIndex, fingerprint) then
+                return 1
+            end
+
+            local kickedBuckets = {}
+            local kickedSlots = {}
+            local kickedValues = {}
+            local bucket = index
+            if math.random(0, 1) == 1 then
+                bucket = altIndex
+            end
+            local value = fingerprint
+            for kick = 1, maxKicks do
+                local slot = math.random(0, bucketSize - 1)
+                local victim = set(bucket, slot, value)
+                kickedBuckets[kick] = bucket
+                kickedSlots[kick] = slot
+                kickedValues[kick] = victim
+
+                value = victim
+                bucket = bit.bxor(bucket, (value * multiplier) % bucketCount)
+                if tryInsert(bucket, value) then
+                    return 1
+                end
+            end
+
+            for kick = #kickedBuckets, 1, -1 do
+                set(kickedBuckets[kick], kickedSlots[kick], kickedValues[kick])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 삭제
+     * - 후보 버킷 2개에서 fingerprint 1개를 찾아 비우고 1을 반환한다. 없으면 0을 반환한다.
+     */
+    public static final RedisScript<Long> DELETE = new DefaultRedisScript<>(COMMON + """
+            for _, bucket in ipairs({index, altIndex}) do
+                for slot = 0, bucketSize - 1 do
+                    if get(bucket, slot) == fingerprint then
+                        set(bucket, slot, 0)
+                        return 1
+                    end
+                end
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 재구축 완료
+     * - 재구축용 Key로 필터를 교체하고 degraded 표시를 삭제한다. (추가된 값이 없어 재구축용 Key가 없다면 빈 필터로 교체)
+     * - KEYS[1]: 재구축용 Key, KEYS[2]: Cuckoo Filter Key, KEYS[3]: degraded Key
+     */
+    public static final RedisScript<Long> COMPLETE_REBUILD = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            else
+                redis.call('DEL', KEYS[2])
+            end
+            redis.call('DEL', KEYS[3])
+            return 1
+            """, Long.class);
+
+}
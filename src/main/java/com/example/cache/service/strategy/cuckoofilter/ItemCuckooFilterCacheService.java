@@ -0,0 +1,112 @@
+package com.example.cache.service.strategy.cuckoofilter;
+
+import com.example.cache.common.bloomfilter.BloomFilterNegativeCache;
+import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.model.ItemCreateRequest;
+import com.example.cache.model.ItemUpdateRequest;
+import com.example.cache.service.ItemCacheService;
+import com.example.cache.service.ItemService;
+import com.example.cache.service.response.ItemPageResponse;
+import com.example.cache.service.response.ItemResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Cuckoo Filter 전략
+ * - Bloom Filter 전략과 같은 방식으로 존재하지 않는 itemId를 걸러내며, 삭제된 itemId는 필터에서도 제거된다.
+ * - 필터가 가득 차서 추가에 실패하면 degraded로 표시하고(조회 시 필터를 거치지 않음), Data Source 기준으로 재구축하여 표시를 해제한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemCuckooFilterCacheService implements ItemCacheService {
+
+    private final ItemService itemService;
+    private final CuckooFilterRedisHandler cuckooFilterRedisHandler;
+    private final BloomFilterNegativeCache bloomFilterNegativeCache;
+    private final CuckooFilterRebuilder cuckooFilterRebuilder;
+
+    private static final CuckooFilter cuckooFilter = CuckooFilter.create(
+            "item-cuckoo-filter",
+            1000,
+            0.01
+    );
+
+    private static final String negativeCacheName = CacheStrategy.CUCKOO_FILTER + ":" + cuckooFilter.getId();
+
+    public boolean rebuild() {
+        boolean rebuilt = cuckooFilterRebuilder.rebuild(cuckooFilter, itemService::readAllIds);
+        if (rebuilt) {
+            // 필터 전체가 교체되었으므로 이전 필터 기준의 "없음" 결과 제거
+            bloomFilterNegativeCache.invalidateAll(negativeCacheName);
+        }
+        return rebuilt;
+    }
+
+    @Override
+    public ItemResponse read(Long itemId) {
+        // 같은 itemId의 "없음" 결과가 로컬에 캐시되어 있으면 Redis를 조회하지 않음
+        return bloomFilterNegativeCache.read(
+                negativeCacheName,
+                itemId,
+                value -> cuckooFilterRedisHandler.mightContain(cuckooFilter, value),
+                itemService::read
+        );
+    }
+
+    @Override
+    public ItemPageResponse readAll(Long page, Long pageSize) {
+        return itemService.readAll(page, pageSize);
+    }
+
+    @Override
+    public List<ItemResponse> readAll(List<Long> itemIds) {
+        // Cuckoo Filter 일괄 조회 후, 존재하지 않는 itemId는 Data Source 조회 대상에서 제외
+        return bloomFilterNegativeCache.readAll(
+                negativeCacheName,
+                itemIds,
+                values -> cuckooFilterRedisHandler.mightContainAll(cuckooFilter, values),
+                itemService::readAll
+        );
+    }
+
+    @Override
+    public ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize) {
+        return itemService.readAllInfiniteScroll(lastItemId, pageSize);
+    }
+
+    @Override
+    public ItemResponse create(ItemCreateRequest request) {
+        ItemResponse itemResponse = itemService.create(request);
+        if (!cuckooFilterRedisHandler.add(cuckooFilter, String.valueOf(itemResponse.itemId()))) {
+            // 필터가 가득 차서 추가하지 못한 itemId가 계속 없는 것으로 조회되지 않도록, 필터를 degraded로 표시 (이후 조회는 필터를 거치지 않음)
+            // 삭제로 빈 슬롯이 생겼다면 재구축으로 다시 채워 넣고 degraded 표시를 해제한다.
+            cuckooFilterRedisHandler.markDegraded(cuckooFilter);
+            Thread.ofVirtual().start(this::rebuild);
+        }
+        bloomFilterNegativeCache.invalidate(negativeCacheName, String.valueOf(itemResponse.itemId()));
+        return itemResponse;
+    }
+
+    @Override
+    public ItemResponse update(Long itemId, ItemUpdateRequest request) {
+        return itemService.update(itemId, request);
+    }
+
+    @Override
+    public void delete(Long itemId) {
+        // fingerprint가 같은 다른 itemId를 제거하지 않도록, 실제로 존재하던 데이터만 필터에서 제거
+        // (동시에 같은 itemId를 삭제해도 Data Source에서 실제로 삭제한 요청만 제거)
+        if (!itemService.delete(itemId)) {
+            return;
+        }
+        cuckooFilterRedisHandler.remove(cuckooFilter, String.valueOf(itemId));
+    }
+
+    @Override
+    public boolean supports(CacheStrategy cacheStrategy) {
+        return CacheStrategy.CUCKOO_FILTER == cacheStrategy;
+    }
+
+}
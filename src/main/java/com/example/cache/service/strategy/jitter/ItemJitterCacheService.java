@@ -1,6 +1,7 @@
 package com.example.cache.service.strategy.jitter;
 
 import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.common.cache.CustomCacheBatchFetcher;
 import com.example.cache.common.cache.CustomCacheEvict;
 import com.example.cache.common.cache.CustomCachePut;
 import com.example.cache.common.cache.CustomCacheable;
@@ -13,17 +14,25 @@ import com.example.cache.service.response.ItemResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ItemJitterCacheService implements ItemCacheService {
     private final ItemService itemService;
+    private final CustomCacheBatchFetcher customCacheBatchFetcher;
+
+    // 단건 조회(read)와 일괄 조회(readAll)가 같은 캐시 데이터를 공유하도록 한 곳에서 정의한다.
+    private static final String ITEM_CACHE_NAME = "item";
+    private static final long ITEM_CACHE_TTL_SECONDS = 5;
 
     @Override
     @CustomCacheable(
             cacheStrategy = CacheStrategy.JITTER,
-            cacheName = "item",
+            cacheName = ITEM_CACHE_NAME,
             key = "#itemId",
-            ttlSeconds = 5
+            ttlSeconds = ITEM_CACHE_TTL_SECONDS
     )
     public ItemResponse read(Long itemId) {
         return itemService.read(itemId);
@@ -34,6 +43,18 @@ public class ItemJitterCacheService implements ItemCacheService {
         return itemService.readAll(page, pageSize);
     }
 
+    @Override
+    public List<ItemResponse> readAll(List<Long> itemIds) {
+        return customCacheBatchFetcher.fetchAll(
+                CacheStrategy.JITTER,
+                ITEM_CACHE_NAME,
+                Duration.ofSeconds(ITEM_CACHE_TTL_SECONDS),
+                itemIds,
+                itemService::readAllAsMap,
+                ItemResponse.class
+        );
+    }
+
     @Override
     public ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize) {
         return itemService.readAllInfiniteScroll(lastItemId, pageSize);
@@ -47,9 +68,9 @@ public class ItemJitterCacheService implements ItemCacheService {
     @Override
     @CustomCachePut(
             cacheStrategy = CacheStrategy.JITTER,
-            cacheName = "item",
+            cacheName = ITEM_CACHE_NAME,
             key = "#itemId",
-            ttlSeconds = 5
+            ttlSeconds = ITEM_CACHE_TTL_SECONDS
     )
     public ItemResponse update(Long itemId, ItemUpdateRequest request) {
         return itemService.update(itemId, request);
@@ -58,7 +79,7 @@ public class ItemJitterCacheService implements ItemCacheService {
     @Override
     @CustomCacheEvict(
             cacheStrategy = CacheStrategy.JITTER,
-            cacheName = "item",
+            cacheName = ITEM_CACHE_NAME,
             key = "#itemId"
     )
     public void delete(Long itemId) {
@@ -1,13 +1,22 @@
 package com.example.cache.service.strategy.jitter;
 
 import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.common.cache.CustomCacheDataCodecRegistry;
 import com.example.cache.common.cache.CustomCacheHandler;
 import com.example.cache.serde.DataSerializer;
+import com.example.cache.serde.DataType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
 
@@ -15,49 +24,139 @@ import java.util.random.RandomGenerator;
 @RequiredArgsConstructor
 public class JitterCacheHandler implements CustomCacheHandler {
 
-    private final StringRedisTemplate redisTemplate;
+    // 캐시 값은 String 변환 없이 byte[]로 읽고 쓴다.
+    private final RedisTemplate<String, byte[]> bytesRedisTemplate;
+    private final CustomCacheDataCodecRegistry customCacheDataCodecRegistry;
 
     // TTL에 적용할 jitter 범위 (±3초)
     private static final int JITTER_RANGE_SECONDS = 3;
 
     @Override
-    public <T> T fetch(String key, Duration ttl, Supplier<T> dataSourceSupplier, Class<T> clazz) {
+    public <T> T fetch(String cacheName, String key, Duration ttl, Supplier<T> dataSourceSupplier, DataType<T> dataType) {
         // 1. 캐시 조회
-        String cached = redisTemplate.opsForValue().get(key);
+        byte[] cached = bytesRedisTemplate.opsForValue().get(key);
         if (cached == null) {
             // 캐시 미스 → Data Source 조회 후 캐시 갱신
-            return refresh(key, ttl, dataSourceSupplier);
+            return refresh(cacheName, key, ttl, dataSourceSupplier, dataType);
         }
 
         // 2. 역직렬화 실패 시 캐시 무효로 판단
-        T data = DataSerializer.deserializeOrNull(cached, clazz);
+        T data = DataSerializer.deserializeOrNull(cached, dataType);
         if (data == null) {
-            return refresh(key, ttl, dataSourceSupplier);
+            return refresh(cacheName, key, ttl, dataSourceSupplier, dataType);
         }
 
         // 3. 캐시 히트
         return data;
     }
 
+    @Override
+    public <T> Map<String, T> fetchAll(
+            String cacheName,
+            List<String> keys,
+            Duration ttl,
+            Function<List<String>, Map<String, T>> missLoader,
+            DataType<T> dataType
+    ) {
+        // 1. 캐시 일괄 조회 (MGET 1회)
+        List<byte[]> cachedValues = bytesRedisTemplate.opsForValue().multiGet(keys);
+
+        Map<String, T> cachedData = new LinkedHashMap<>();
+        List<String> missedKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] cached = cachedValues == null ? null : cachedValues.get(i);
+            // 캐시 미스 또는 역직렬화 실패 시 캐시 무효로 판단
+            T data = cached == null ? null : DataSerializer.deserializeOrNull(cached, dataType);
+            if (data == null) {
+                missedKeys.add(keys.get(i));
+            } else {
+                cachedData.put(keys.get(i), data);
+            }
+        }
+
+        if (missedKeys.isEmpty()) {
+            return cachedData;
+        }
+
+        // 2. 캐시 미스 key만 Data Source 일괄 조회 후, key 별 jitter TTL로 일괄 갱신 (파이프라인 1회)
+        Map<String, T> sourceResults = missLoader.apply(missedKeys);
+        putAll(cacheName, sourceResults, ttl, dataType);
+
+        // 3. 요청한 key 순서대로 병합
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            T data = cachedData.containsKey(key) ? cachedData.get(key) : sourceResults.get(key);
+            if (data != null) {
+                result.put(key, data);
+            }
+        }
+        return result;
+    }
+
     /**
      * Data Source에서 데이터를 조회하고
      * jitter가 적용된 TTL로 캐시를 갱신한다.
      */
-    private <T> T refresh(String key, Duration ttl, Supplier<T> dataSourceSupplier) {
+    private <T> T refresh(String cacheName, String key, Duration ttl, Supplier<T> dataSourceSupplier, DataType<T> dataType) {
         T sourceResult = dataSourceSupplier.get();
-        put(key, ttl, sourceResult);
+        put(cacheName, key, ttl, sourceResult, dataType);
         return sourceResult;
     }
 
     @Override
-    public void put(String key, Duration ttl, Object value) {
-        redisTemplate.opsForValue().set(
+    public void put(String cacheName, String key, Duration ttl, Object value) {
+        put(cacheName, key, ttl, value, DataType.OBJECT);
+    }
+
+    private void put(String cacheName, String key, Duration ttl, Object value, DataType<?> dataType) {
+        bytesRedisTemplate.opsForValue().set(
                 key,
-                DataSerializer.serializeOrException(value),
+                serialize(cacheName, value, dataType),
                 applyJitter(ttl)
         );
     }
 
+    /**
+     * 여러 데이터를 파이프라인으로 한 번에 저장한다.
+     * key마다 jitter를 따로 적용하여, 함께 저장된 데이터도 만료 시점이 분산되도록 한다.
+     * null 데이터는 저장하지 않는다.
+     */
+    private void putAll(String cacheName, Map<String, ?> values, Duration ttl, DataType<?> dataType) {
+        Map<String, byte[]> serializedValues = new LinkedHashMap<>();
+        values.forEach((key, value) -> {
+            if (value != null) {
+                serializedValues.put(
+                        key,
+                        serialize(cacheName, value, dataType)
+                );
+            }
+        });
+        if (serializedValues.isEmpty()) {
+            return;
+        }
+
+        bytesRedisTemplate.executePipelined((RedisCallback<?>) connection -> {
+            serializedValues.forEach((key, value) -> connection.stringCommands().setEx(
+                    key.getBytes(StandardCharsets.UTF_8),
+                    applyJitter(ttl).getSeconds(),
+                    value
+            ));
+            return null;
+        });
+    }
+
+    /**
+     * cacheName 별 codec과 dataType의 writer로 직렬화하고, 임계값 이상이면 압축한다.
+     */
+    private byte[] serialize(String cacheName, Object value, DataType<?> dataType) {
+        return DataSerializer.serializeOrException(
+                value,
+                customCacheDataCodecRegistry.find(cacheName),
+                customCacheDataCodecRegistry.findCompressor(cacheName),
+                dataType
+        );
+    }
+
     /**
      * TTL에 랜덤 jitter를 적용하여
      * 캐시 만료 시점을 분산시킨다.
@@ -78,7 +177,7 @@ public class JitterCacheHandler implements CustomCacheHandler {
 
     @Override
     public void evict(String key) {
-        redisTemplate.delete(key);
+        bytesRedisTemplate.delete(key);
     }
 
     @Override
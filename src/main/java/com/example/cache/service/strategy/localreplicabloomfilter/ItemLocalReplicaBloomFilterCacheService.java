@@ -0,0 +1,91 @@
+package com.example.cache.service.strategy.localreplicabloomfilter;
+
+import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.model.ItemCreateRequest;
+import com.example.cache.model.ItemUpdateRequest;
+import com.example.cache.service.ItemCacheService;
+import com.example.cache.service.ItemService;
+import com.example.cache.service.response.ItemPageResponse;
+import com.example.cache.service.response.ItemResponse;
+import com.example.cache.service.strategy.bloomfilter.BloomFilter;
+import com.example.cache.service.strategy.bloomfilter.BloomFilterHashing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BLOOM_FILTER 전략과 같은 Redis Bloom Filter를 로컬 복제본으로 조회하는 전략
+ * - 존재하지 않는 itemId 조회는 Redis 조회 없이 로컬 비트맵에서 바로 걸러진다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemLocalReplicaBloomFilterCacheService implements ItemCacheService {
+
+    private final ItemService itemService;
+    private final LocalReplicaBloomFilterHandler localReplicaBloomFilterHandler;
+
+    // ItemBloomFilterCacheService와 동일한 Bloom Filter (동일한 Redis Key 사용)
+    private static final BloomFilter bloomFilter = BloomFilter.create(
+            "item-bloom-filter",
+            1000,
+            0.01,
+            BloomFilterHashing.DOUBLE_HASHING
+    );
+
+    @Override
+    public ItemResponse read(Long itemId) {
+        boolean result = localReplicaBloomFilterHandler.mightContain(bloomFilter, String.valueOf(itemId));
+        if (!result) {
+            return null;
+        }
+        return itemService.read(itemId);
+    }
+
+    @Override
+    public ItemPageResponse readAll(Long page, Long pageSize) {
+        return itemService.readAll(page, pageSize);
+    }
+
+    @Override
+    public List<ItemResponse> readAll(List<Long> itemIds) {
+        // 로컬 복제본 일괄 조회 후, 존재하지 않는 itemId는 Data Source 조회 대상에서 제외
+        Map<String, Boolean> mightContains = localReplicaBloomFilterHandler.mightContainAll(
+                bloomFilter,
+                itemIds.stream().map(String::valueOf).toList()
+        );
+        List<Long> mightContainItemIds = itemIds.stream()
+                .filter(itemId -> mightContains.get(String.valueOf(itemId)))
+                .toList();
+        return itemService.readAll(mightContainItemIds);
+    }
+
+    @Override
+    public ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize) {
+        return itemService.readAllInfiniteScroll(lastItemId, pageSize);
+    }
+
+    @Override
+    public ItemResponse create(ItemCreateRequest request) {
+        ItemResponse itemResponse = itemService.create(request);
+        localReplicaBloomFilterHandler.add(bloomFilter, String.valueOf(itemResponse.itemId()));
+        return itemResponse;
+    }
+
+    @Override
+    public ItemResponse update(Long itemId, ItemUpdateRequest request) {
+        return itemService.update(itemId, request);
+    }
+
+    @Override
+    public void delete(Long itemId) {
+        itemService.delete(itemId);
+    }
+
+    @Override
+    public boolean supports(CacheStrategy cacheStrategy) {
+        return CacheStrategy.LOCAL_REPLICA_BLOOM_FILTER == cacheStrategy;
+    }
+
+}
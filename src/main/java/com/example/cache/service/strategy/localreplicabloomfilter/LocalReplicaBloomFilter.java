@@ -0,0 +1,94 @@
+package com.example.cache.service.strategy.localreplicabloomfilter;
+
+import com.example.cache.service.strategy.bloomfilter.BloomFilter;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Redis Bloom Filter 비트맵의 로컬(On-Heap) 읽기 전용 복제본
+ * <p>
+ * - Redis 비트맵과 동일한 비트 순서로 long 배열에 저장한다.
+ *   (Redis는 byte 단위 big-endian이며 offset 0이 첫 번째 byte의 최상위 비트)
+ * - 비트는 설정만 되고 해제되지 않으므로, 동기화도 OR 병합으로만 수행한다.
+ *   동기화 도중 로컬에서 추가된 비트가 이전 상태로 덮어써지지 않는다. (False Negative 방지)
+ */
+@Getter
+@ToString(exclude = {"words", "hashedIndexesBuffer"})
+public class LocalReplicaBloomFilter {
+
+    private final BloomFilter bloomFilter;
+    private final long byteSize;
+    private final AtomicLongArray words;
+
+    // 조회마다 인덱스 배열을 새로 만들지 않도록 스레드 별로 재사용
+    private final ThreadLocal<long[]> hashedIndexesBuffer;
+
+    // 다음에 동기화할 byte 위치 (동기화 스레드에서만 접근)
+    private long syncCursor;
+
+    private LocalReplicaBloomFilter(BloomFilter bloomFilter) {
+        this.bloomFilter = bloomFilter;
+        this.byteSize = (bloomFilter.getBitSize() + 7) / 8;
+        this.words = new AtomicLongArray((int) ((bloomFilter.getBitSize() + 63) / 64));
+        this.hashedIndexesBuffer = ThreadLocal.withInitial(() -> new long[bloomFilter.getHashFunctionCount()]);
+    }
+
+    public static LocalReplicaBloomFilter create(BloomFilter bloomFilter) {
+        return new LocalReplicaBloomFilter(bloomFilter);
+    }
+
+    public boolean mightContain(String value) {
+        long[] hashedIndexes = hashedIndexesBuffer.get();
+        bloomFilter.hash(value, hashedIndexes);
+        for (int i = 0; i < bloomFilter.getHashFunctionCount(); i++) {
+            if (!getBit(hashedIndexes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void add(String value) {
+        long[] hashedIndexes = hashedIndexesBuffer.get();
+        bloomFilter.hash(value, hashedIndexes);
+        for (int i = 0; i < bloomFilter.getHashFunctionCount(); i++) {
+            words.accumulateAndGet(wordIndex(hashedIndexes[i]), bitMask(hashedIndexes[i]), (word, mask) -> word | mask);
+        }
+    }
+
+    private boolean getBit(long offset) {
+        return (words.get(wordIndex(offset)) & bitMask(offset)) != 0;
+    }
+
+    private int wordIndex(long offset) {
+        return (int) (offset >>> 6);
+    }
+
+    private long bitMask(long offset) {
+        return 1L << (63 - (offset & 63));
+    }
+
+    /**
+     * Redis에서 조회한 byte 구간을 로컬 비트맵에 OR 병합한다.
+     */
+    public void merge(long byteOffset, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            long mask = (bytes[i] & 0xFFL) << ((7 - ((byteOffset + i) & 7)) * 8);
+            if (mask != 0) {
+                words.accumulateAndGet((int) ((byteOffset + i) >>> 3), mask, (word, m) -> word | m);
+            }
+        }
+    }
+
+    /**
+     * 다음 동기화 구간의 시작 byte를 반환하고 커서를 이동한다. (마지막 구간 이후에는 처음부터 다시)
+     */
+    long nextSyncCursor(int chunkBytes) {
+        long start = syncCursor;
+        syncCursor = start + chunkBytes >= byteSize ? 0 : start + chunkBytes;
+        return start;
+    }
+
+}
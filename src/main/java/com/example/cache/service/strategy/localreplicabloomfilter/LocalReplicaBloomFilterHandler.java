@@ -0,0 +1,177 @@
+package com.example.cache.service.strategy.localreplicabloomfilter;
+
+import com.example.cache.service.strategy.bloomfilter.BloomFilter;
+import com.example.cache.service.strategy.bloomfilter.BloomFilterRedisHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Bloom Filter(BloomFilterRedisHandler와 동일한 Key)를 로컬 복제본으로 조회하는 핸들러
+ * <p>
+ * - 조회는 네트워크 I/O 없이 로컬 비트맵에서만 수행한다.
+ * - 추가는 Redis에 먼저 쓰고(write-through) 로컬 비트맵에도 바로 반영한 뒤, pub/sub으로 다른 노드에 추가된 값을 알린다.
+ *   알림을 받은 노드는 같은 해시로 로컬 비트맵에 바로 반영하므로, 비트맵 크기와 관계없이 pub/sub 지연 안에 조회된다.
+ * - pub/sub 알림은 유실될 수 있고, 이 핸들러를 거치지 않고 추가된 값(BLOOM_FILTER 전략 등)은 알림이 없으므로,
+ *   백그라운드에서 GETRANGE로 일정 크기 구간씩 순회하며 Redis 비트맵을 가져온다. (유실 보정용)
+ *   (구간 단위로 나누어 조회하므로 큰 비트맵도 Redis를 오래 점유하지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalReplicaBloomFilterHandler {
+
+    private final StringRedisTemplate redisTemplate;
+    private final BloomFilterRedisHandler bloomFilterRedisHandler;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 추가 알림 채널 (메시지: Bloom Filter id + "\n" + 값)
+    public static final String ADDED_CHANNEL = "local-replica-bloom-filter:added";
+
+    // 한 번의 GETRANGE로 동기화할 최대 byte 수
+    public static final int SYNC_CHUNK_BYTES = 64 * 1024;
+
+    // 동기화 주기 (주기마다 복제본 별로 1개 구간씩 동기화)
+    private static final Duration SYNC_INTERVAL = Duration.ofMillis(100);
+
+    // Bloom Filter id → 로컬 복제본
+    private final ConcurrentHashMap<String, LocalReplicaBloomFilter> replicas = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService syncExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("local-replica-bloom-filter-sync").daemon().factory()
+    );
+
+    @PostConstruct
+    public void start() {
+        subscribe();
+        syncExecutor.scheduleWithFixedDelay(
+                this::syncAll,
+                SYNC_INTERVAL.toMillis(),
+                SYNC_INTERVAL.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    public void stopSync() {
+        syncExecutor.shutdownNow();
+    }
+
+    /**
+     * 다른 노드의 추가 알림을 받아서 로컬 복제본에 반영한다.
+     * - 아직 복제본이 없는 필터는 무시한다. (복제본을 만들 때 Redis 전체를 동기화하므로)
+     */
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onAdded(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(ADDED_CHANNEL)
+        );
+    }
+
+    public void add(BloomFilter bloomFilter, String value) {
+        bloomFilterRedisHandler.addByScript(bloomFilter, value);
+        findReplica(bloomFilter).add(value);
+        publish(bloomFilter.getId() + "\n" + value);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(ADDED_CHANNEL, message);
+        } catch (Exception e) {
+            // 알림이 실패해도 다른 노드는 백그라운드 동기화로 반영한다.
+            log.error("[LocalReplicaBloomFilterHandler.publish] message={}", message, e);
+        }
+    }
+
+    private void onAdded(String message) {
+        int separatorIndex = message.indexOf('\n');
+        if (separatorIndex < 0) {
+            return;
+        }
+        LocalReplicaBloomFilter replica = replicas.get(message.substring(0, separatorIndex));
+        if (replica != null) {
+            replica.add(message.substring(separatorIndex + 1));
+        }
+    }
+
+    public boolean mightContain(BloomFilter bloomFilter, String value) {
+        return findReplica(bloomFilter).mightContain(value);
+    }
+
+    public Map<String, Boolean> mightContainAll(BloomFilter bloomFilter, List<String> values) {
+        LocalReplicaBloomFilter replica = findReplica(bloomFilter);
+
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        for (String value : values) {
+            result.computeIfAbsent(value, replica::mightContain);
+        }
+        return result;
+    }
+
+    public void delete(BloomFilter bloomFilter) {
+        bloomFilterRedisHandler.delete(bloomFilter);
+        replicas.remove(bloomFilter.getId());
+    }
+
+    /**
+     * 최초 조회 시 복제본을 만들고 전체 구간을 동기화한다.
+     * (동기화 전의 빈 복제본으로 조회하면 존재하는 값도 없다고 판단하기 때문)
+     */
+    private LocalReplicaBloomFilter findReplica(BloomFilter bloomFilter) {
+        return replicas.computeIfAbsent(bloomFilter.getId(), id -> {
+            LocalReplicaBloomFilter replica = LocalReplicaBloomFilter.create(bloomFilter);
+            syncFully(replica);
+            return replica;
+        });
+    }
+
+    private void syncAll() {
+        for (LocalReplicaBloomFilter replica : replicas.values()) {
+            try {
+                syncNextChunk(replica);
+            } catch (Exception e) {
+                log.error("[LocalReplicaBloomFilterHandler.syncAll] bloomFilterId={}", replica.getBloomFilter().getId(), e);
+            }
+        }
+    }
+
+    private void syncFully(LocalReplicaBloomFilter replica) {
+        for (long start = 0; start < replica.getByteSize(); start += SYNC_CHUNK_BYTES) {
+            sync(replica, start);
+        }
+    }
+
+    private void syncNextChunk(LocalReplicaBloomFilter replica) {
+        sync(replica, replica.nextSyncCursor(SYNC_CHUNK_BYTES));
+    }
+
+    private void sync(LocalReplicaBloomFilter replica, long start) {
+        long end = Math.min(start + SYNC_CHUNK_BYTES, replica.getByteSize()) - 1;
+        byte[] key = bloomFilterRedisHandler.genKey(replica.getBloomFilter()).getBytes(StandardCharsets.UTF_8);
+
+        // 비트맵은 바이너리이므로 문자열로 변환하지 않고 byte 그대로 조회
+        byte[] bytes = redisTemplate.execute(
+                (RedisCallback<byte[]>) connection -> connection.stringCommands().getRange(key, start, end)
+        );
+        if (bytes != null && bytes.length > 0) {
+            replica.merge(start, bytes);
+        }
+    }
+
+}
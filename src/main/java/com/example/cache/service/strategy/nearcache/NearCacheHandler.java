@@ -0,0 +1,172 @@
+package com.example.cache.service.strategy.nearcache;
+
+import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.common.cache.CustomCacheHandler;
+import com.example.cache.serde.DataType;
+import com.example.cache.service.strategy.jitter.JitterCacheHandler;
+import com.example.cache.service.strategy.per.ProbabilisticEarlyRecomputationCacheHandler;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 2단계(Near Cache) 캐시 핸들러
+ * <p>
+ * - L1: 애플리케이션 메모리(On-Heap)에 위치한 작은 로컬 캐시
+ * - L2: Redis (cache.near-cache.remote-strategy로 JITTER 또는 PROBABILISTIC_EARLY_RECOMPUTATION 핸들러를 선택, 기본값 JITTER)
+ * - 소수의 Hot Key 조회는 네트워크 왕복과 역직렬화 없이 L1에서 바로 응답한다.
+ * - L1 TTL은 어노테이션의 ttl을 따르되 LOCAL_CACHE_MAX_TTL을 넘지 않는다.
+ * - L1은 노드마다 따로 존재하므로, 다른 노드에서 발생한 변경은 L1 TTL만큼 늦게 반영될 수 있다.
+ */
+@Component
+public class NearCacheHandler implements CustomCacheHandler {
+
+    // L1 미스 시 조회/갱신을 위임할 L2 핸들러
+    private final CustomCacheHandler remoteCacheHandler;
+
+    // L1 캐시에 보관할 최대 엔트리 수 (초과 시 오래 사용되지 않은 엔트리부터 제거)
+    private static final long LOCAL_CACHE_MAXIMUM_SIZE = 10_000;
+
+    // L1 캐시 최대 TTL (다른 노드의 변경 사항이 반영되지 않을 수 있는 최대 시간)
+    private static final Duration LOCAL_CACHE_MAX_TTL = Duration.ofSeconds(10);
+
+    /*
+        L1 캐시에는 역직렬화가 끝난 객체를 만료 시점과 함께 보관한다.
+        동일한 인스턴스가 여러 요청에 공유되므로, 불변 객체(record 등)를 캐싱하는 용도로 사용해야 한다.
+        (엔트리 별 TTL은 조회 시 만료 시점으로 판단하고, expireAfterWrite는 최대 TTL이 지난 엔트리를 정리하는 용도)
+     */
+    private final Cache<String, LocalEntry> localCache = CacheBuilder.newBuilder()
+            .maximumSize(LOCAL_CACHE_MAXIMUM_SIZE)
+            .expireAfterWrite(LOCAL_CACHE_MAX_TTL)
+            .build();
+
+    public NearCacheHandler(
+            JitterCacheHandler jitterCacheHandler,
+            ProbabilisticEarlyRecomputationCacheHandler probabilisticEarlyRecomputationCacheHandler,
+            @Value("${cache.near-cache.remote-strategy:JITTER}") CacheStrategy remoteCacheStrategy
+    ) {
+        this.remoteCacheHandler = Stream.<CustomCacheHandler>of(jitterCacheHandler, probabilisticEarlyRecomputationCacheHandler)
+                .filter(cacheHandler -> cacheHandler.supports(remoteCacheStrategy))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Unsupported near cache remote strategy. remoteCacheStrategy=" + remoteCacheStrategy
+                ));
+    }
+
+    @Override
+    public <T> T fetch(String cacheName, String key, Duration ttl, Supplier<T> dataSourceSupplier, DataType<T> dataType) {
+        // 1. L1 조회 (네트워크 I/O 없음)
+        Class<T> rawClass = dataType.getRawClass();
+        Object local = getLocal(key);
+        if (rawClass.isInstance(local)) {
+            return rawClass.cast(local);
+        }
+
+        // 2. L1 미스 → L2(Redis) 조회. L2 미스 시 Data Source 조회 및 L2 갱신까지 위임
+        T data = remoteCacheHandler.fetch(cacheName, key, ttl, dataSourceSupplier, dataType);
+
+        // 3. L1 갱신
+        putLocal(key, ttl, data);
+        return data;
+    }
+
+    @Override
+    public <T> Map<String, T> fetchAll(
+            String cacheName,
+            List<String> keys,
+            Duration ttl,
+            Function<List<String>, Map<String, T>> missLoader,
+            DataType<T> dataType
+    ) {
+        // 1. L1 조회
+        Class<T> rawClass = dataType.getRawClass();
+        Map<String, T> localData = new LinkedHashMap<>();
+        List<String> localMissedKeys = new ArrayList<>();
+        for (String key : keys) {
+            Object local = getLocal(key);
+            if (rawClass.isInstance(local)) {
+                localData.put(key, rawClass.cast(local));
+            } else {
+                localMissedKeys.add(key);
+            }
+        }
+
+        if (localMissedKeys.isEmpty()) {
+            return localData;
+        }
+
+        // 2. L1 미스 key만 L2(Redis)에서 일괄 조회. L2 미스 처리까지 위임
+        Map<String, T> remoteData = remoteCacheHandler.fetchAll(cacheName, localMissedKeys, ttl, missLoader, dataType);
+
+        // 3. L1 갱신 후 요청한 key 순서대로 병합
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            if (localData.containsKey(key)) {
+                result.put(key, localData.get(key));
+                continue;
+            }
+            T data = remoteData.get(key);
+            putLocal(key, ttl, data);
+            if (data != null) {
+                result.put(key, data);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void put(String cacheName, String key, Duration ttl, Object value) {
+        remoteCacheHandler.put(cacheName, key, ttl, value);
+        putLocal(key, ttl, value);
+    }
+
+    @Override
+    public void evict(String key) {
+        remoteCacheHandler.evict(key);
+        localCache.invalidate(key);
+    }
+
+    private Object getLocal(String key) {
+        LocalEntry localEntry = localCache.getIfPresent(key);
+        if (localEntry == null) {
+            return null;
+        }
+        if (localEntry.isExpired()) {
+            localCache.invalidate(key);
+            return null;
+        }
+        return localEntry.value();
+    }
+
+    private void putLocal(String key, Duration ttl, Object value) {
+        // null은 L1에 저장하지 않는다. (기존 L1 데이터가 남아있지 않도록 무효화)
+        if (value == null) {
+            localCache.invalidate(key);
+            return;
+        }
+        Duration localTtl = ttl.compareTo(LOCAL_CACHE_MAX_TTL) < 0 ? ttl : LOCAL_CACHE_MAX_TTL;
+        localCache.put(key, new LocalEntry(value, System.nanoTime() + localTtl.toNanos()));
+    }
+
+    private record LocalEntry(Object value, long expiredAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiredAtNanos >= 0;
+        }
+    }
+
+    @Override
+    public boolean supports(CacheStrategy cacheStrategy) {
+        return CacheStrategy.NEAR_CACHE == cacheStrategy;
+    }
+
+}
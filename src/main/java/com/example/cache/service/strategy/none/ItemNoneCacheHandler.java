@@ -2,11 +2,16 @@ package com.example.cache.service.strategy.none;
 
 import com.example.cache.common.cache.CacheStrategy;
 import com.example.cache.common.cache.CustomCacheHandler;
+import com.example.cache.serde.DataType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 @Slf4j
@@ -14,13 +19,34 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class ItemNoneCacheHandler implements CustomCacheHandler {
     @Override
-    public <T> T fetch(String key, Duration ttl, Supplier<T> dataSourceSupplier, Class<T> clazz) {
+    public <T> T fetch(String cacheName, String key, Duration ttl, Supplier<T> dataSourceSupplier, DataType<T> dataType) {
         log.info("[ItemNoneCacheHandler.fetch] key={}", key);
         return dataSourceSupplier.get();
     }
 
     @Override
-    public void put(String key, Duration ttl, Object value) {
+    public <T> Map<String, T> fetchAll(
+            String cacheName,
+            List<String> keys,
+            Duration ttl,
+            Function<List<String>, Map<String, T>> missLoader,
+            DataType<T> dataType
+    ) {
+        log.info("[ItemNoneCacheHandler.fetchAll] keys={}", keys);
+        Map<String, T> sourceResults = missLoader.apply(keys);
+
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            T data = sourceResults.get(key);
+            if (data != null) {
+                result.put(key, data);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void put(String cacheName, String key, Duration ttl, Object value) {
         log.info("[ItemNoneCacheHandler.put] key={}", key);
     }
 
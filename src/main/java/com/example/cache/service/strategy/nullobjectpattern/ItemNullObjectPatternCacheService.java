@@ -11,6 +11,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ItemNullObjectPatternCacheService implements ItemCacheService {
@@ -37,6 +39,14 @@ public class ItemNullObjectPatternCacheService implements ItemCacheService {
         return itemService.readAll(page, pageSize);
     }
 
+    /**
+     * Spring Cache 추상화(Cache)는 여러 key 일괄 조회를 지원하지 않으므로, 캐시를 거치지 않고 Data Source에서 한 번에 조회한다.
+     */
+    @Override
+    public List<ItemResponse> readAll(List<Long> itemIds) {
+        return itemService.readAll(itemIds);
+    }
+
     @Override
     public ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize) {
         return itemService.readAllInfiniteScroll(lastItemId, pageSize);
@@ -1,19 +1,40 @@
 package com.example.cache.service.strategy.per;
 
+import com.example.cache.serde.DataCodec;
+import com.example.cache.serde.DataCompressor;
 import com.example.cache.serde.DataSerializer;
+import com.example.cache.serde.DataType;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.random.RandomGenerator;
 
+/**
+ * PER 캐시 엔트리
+ * <p>
+ * 저장 형식: [version(1)][computationTimeMillis(8)][expiredAtMillis(8)][payload]
+ * - payload는 DataSerializer가 codec으로 직렬화한 byte[]를 그대로 이어 붙인다. (데이터를 JSON 문자열로 한 번 더 감싸지 않음)
+ * - payload는 압축될 수 있다. (DataCompressor 헤더로 구분)
+ * - 재계산 여부는 고정 크기 헤더만 읽어서 판단하고, payload는 실제로 반환할 때만 역직렬화한다.
+ */
 @Getter
-@ToString
+@ToString(exclude = "bytes")
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CacheData {
 
-    // 실제 캐시에 저장될 데이터 (직렬화된 형태)
-    private String data;
+    // 저장 형식 버전 (이전 형식(JSON 문자열)의 첫 byte '{'와 겹치지 않는 값)
+    public static final byte FORMAT_VERSION = 0x01;
+
+    public static final int HEADER_SIZE = 1 + Long.BYTES + Long.BYTES;
+
+    // 헤더 + payload (Redis에 저장되는 값 그대로)
+    @Getter(AccessLevel.NONE)
+    private byte[] bytes;
 
     // 캐시 데이터를 재계산하는 데 걸린 시간 (PER 알고리즘의 delta)
     private long computationTimeMillis;
@@ -27,20 +48,66 @@ public class CacheData {
         - data: 실제 비즈니스 데이터
         - computationTimeMillis: 데이터 계산에 소요된 시간 (delta)
         - ttl: 캐시 TTL
-    */
-    public static CacheData of(Object data, long computationTimeMillis, Duration ttl) {
+        - payload는 dataType에 미리 만들어둔 writer와 codec으로 직렬화하고, compressor의 임계값 이상이면 압축한다. (헤더는 압축하지 않음)
+     */
+    public static CacheData of(
+            Object data,
+            long computationTimeMillis,
+            Duration ttl,
+            DataCodec codec,
+            DataCompressor compressor,
+            DataType<?> dataType
+    ) {
         CacheData cacheData = new CacheData();
-        cacheData.data = DataSerializer.serializeOrException(data);
         cacheData.computationTimeMillis = computationTimeMillis;
         cacheData.expiredAtMillis = Instant.now().plus(ttl).toEpochMilli();
+
+        byte[] header = ByteBuffer.allocate(HEADER_SIZE)
+                .put(FORMAT_VERSION)
+                .putLong(cacheData.computationTimeMillis)
+                .putLong(cacheData.expiredAtMillis)
+                .array();
+        cacheData.bytes = DataSerializer.serializeOrException(header, data, codec, compressor, dataType);
+        return cacheData;
+    }
+
+    /*
+        저장된 값에서 헤더만 읽는다. (payload는 역직렬화하지 않음)
+
+        - 값이 없거나, 헤더 크기보다 작거나, 형식 버전이 다르면 null
+     */
+    public static CacheData parseOrNull(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_SIZE || bytes[0] != FORMAT_VERSION) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.wrap(bytes);
+        CacheData cacheData = new CacheData();
+        cacheData.bytes = bytes;
+        cacheData.computationTimeMillis = header.getLong(1);
+        cacheData.expiredAtMillis = header.getLong(1 + Long.BYTES);
         return cacheData;
     }
 
     /*
-        직렬화된 데이터를 요청 타입으로 역직렬화
+        Redis에 저장할 값 (헤더 + payload)
+     */
+    public byte[] toBytes() {
+        return bytes;
+    }
+
+    public int getDataSize() {
+        return bytes.length - HEADER_SIZE;
+    }
+
+    /*
+        payload를 요청 타입으로 역직렬화
      */
-    public <T> T parseData(Class<T> dataType) {
-        return DataSerializer.deserializeOrNull(data, dataType);
+    public <T> T parseData(Class<T> clazz) {
+        return parseData(DataType.of(clazz));
+    }
+
+    public <T> T parseData(DataType<T> dataType) {
+        return DataSerializer.deserializeOrNull(bytes, HEADER_SIZE, getDataSize(), dataType);
     }
 
     /*
@@ -1,6 +1,7 @@
 package com.example.cache.service.strategy.per;
 
 import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.common.cache.CustomCacheBatchFetcher;
 import com.example.cache.common.cache.CustomCacheEvict;
 import com.example.cache.common.cache.CustomCachePut;
 import com.example.cache.common.cache.CustomCacheable;
@@ -13,18 +14,26 @@ import com.example.cache.service.response.ItemResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ItemProbabilisticEarlyRecomputationCacheService implements ItemCacheService {
 
     private final ItemService itemService;
+    private final CustomCacheBatchFetcher customCacheBatchFetcher;
+
+    // 단건 조회(read)와 일괄 조회(readAll)가 같은 캐시 데이터를 공유하도록 한 곳에서 정의한다.
+    private static final String ITEM_CACHE_NAME = "item";
+    private static final long ITEM_CACHE_TTL_SECONDS = 5;
 
     @Override
     @CustomCacheable(
             cacheStrategy = CacheStrategy.PROBABILISTIC_EARLY_RECOMPUTATION,
-            cacheName = "item",
+            cacheName = ITEM_CACHE_NAME,
             key = "#itemId",
-            ttlSeconds = 5
+            ttlSeconds = ITEM_CACHE_TTL_SECONDS
     )
     public ItemResponse read(Long itemId) {
         return itemService.read(itemId);
@@ -35,6 +44,18 @@ public class ItemProbabilisticEarlyRecomputationCacheService implements ItemCach
         return itemService.readAll(page, pageSize);
     }
 
+    @Override
+    public List<ItemResponse> readAll(List<Long> itemIds) {
+        return customCacheBatchFetcher.fetchAll(
+                CacheStrategy.PROBABILISTIC_EARLY_RECOMPUTATION,
+                ITEM_CACHE_NAME,
+                Duration.ofSeconds(ITEM_CACHE_TTL_SECONDS),
+                itemIds,
+                itemService::readAllAsMap,
+                ItemResponse.class
+        );
+    }
+
     @Override
     public ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize) {
         return itemService.readAllInfiniteScroll(lastItemId, pageSize);
@@ -48,9 +69,9 @@ public class ItemProbabilisticEarlyRecomputationCacheService implements ItemCach
     @Override
     @CustomCachePut(
             cacheStrategy = CacheStrategy.PROBABILISTIC_EARLY_RECOMPUTATION,
-            cacheName = "item",
+            cacheName = ITEM_CACHE_NAME,
             key = "#itemId",
-            ttlSeconds = 5
+            ttlSeconds = ITEM_CACHE_TTL_SECONDS
     )
     public ItemResponse update(Long itemId, ItemUpdateRequest request) {
         return itemService.update(itemId, request);
@@ -59,7 +80,7 @@ public class ItemProbabilisticEarlyRecomputationCacheService implements ItemCach
     @Override
     @CustomCacheEvict(
             cacheStrategy = CacheStrategy.PROBABILISTIC_EARLY_RECOMPUTATION,
-            cacheName = "item",
+            cacheName = ITEM_CACHE_NAME,
             key = "#itemId"
     )
     public void delete(Long itemId) {
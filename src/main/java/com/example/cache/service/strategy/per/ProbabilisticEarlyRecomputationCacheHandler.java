@@ -1,24 +1,34 @@
 package com.example.cache.service.strategy.per;
 
 import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.common.cache.CustomCacheDataCodecRegistry;
 import com.example.cache.common.cache.CustomCacheHandler;
-import com.example.cache.serde.DataSerializer;
+import com.example.cache.serde.DataType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor
 public class ProbabilisticEarlyRecomputationCacheHandler implements CustomCacheHandler {
 
-    private final StringRedisTemplate redisTemplate;
+    // CacheData는 바이너리 헤더 + payload 형식이므로 byte[]로 읽고 쓴다.
+    private final RedisTemplate<String, byte[]> bytesRedisTemplate;
+    private final CustomCacheDataCodecRegistry customCacheDataCodecRegistry;
 
     @Override
-    public <T> T fetch(String key, Duration ttl, Supplier<T> dataSourceSupplier, Class<T> clazz) {
+    public <T> T fetch(String cacheName, String key, Duration ttl, Supplier<T> dataSourceSupplier, DataType<T> dataType) {
         /*
             PER 기반 캐시 조회 진입점
 
@@ -26,16 +36,17 @@ public class ProbabilisticEarlyRecomputationCacheHandler implements CustomCacheH
               → refresh 수행
             - 그렇지 않으면 캐시 데이터 그대로 반환
          */
-        String cached = redisTemplate.opsForValue().get(key);
+        byte[] cached = bytesRedisTemplate.opsForValue().get(key);
         if (cached == null) {
             // 캐시 미스 → 즉시 재계산
-            return refresh(key, ttl, dataSourceSupplier);
+            return refresh(cacheName, key, ttl, dataSourceSupplier, dataType);
         }
 
-        CacheData cacheData = DataSerializer.deserializeOrNull(cached, CacheData.class);
+        // 헤더만 읽는다. (payload는 반환할 때만 역직렬화)
+        CacheData cacheData = CacheData.parseOrNull(cached);
         if (cacheData == null) {
-            // 캐시 데이터 파싱 실패 → 안전하게 재계산
-            return refresh(key, ttl, dataSourceSupplier);
+            // 헤더 파싱 실패(이전 형식 포함) → 안전하게 재계산
+            return refresh(cacheName, key, ttl, dataSourceSupplier, dataType);
         }
 
         if (cacheData.shouldRecompute(1)) {
@@ -46,20 +57,105 @@ public class ProbabilisticEarlyRecomputationCacheHandler implements CustomCacheH
                 - 재계산 비용(delta)이 클수록
                 - 확률적으로 일부 요청만 재계산 책임을 가짐
              */
-            return refresh(key, ttl, dataSourceSupplier);
+            return refresh(cacheName, key, ttl, dataSourceSupplier, dataType);
         }
 
-        T data = cacheData.parseData(clazz);
+        T data = cacheData.parseData(dataType);
         if (data == null) {
             // 데이터 역직렬화 실패 시 재계산
-            return refresh(key, ttl, dataSourceSupplier);
+            return refresh(cacheName, key, ttl, dataSourceSupplier, dataType);
         }
 
         // 캐시 히트 & 재계산 조건 미충족 → 즉시 반환
         return data;
     }
 
-    private <T> T refresh(String key, Duration ttl, Supplier<T> dataSourceSupplier) {
+    @Override
+    public <T> Map<String, T> fetchAll(
+            String cacheName,
+            List<String> keys,
+            Duration ttl,
+            Function<List<String>, Map<String, T>> missLoader,
+            DataType<T> dataType
+    ) {
+        /*
+            PER 기반 일괄 조회
+
+            - 캐시는 MGET 1회로 조회하고, 재계산 여부는 엔트리마다 따로 판단한다.
+            - 재계산 대상 key만 모아서 missLoader로 한 번에 조회하고, 파이프라인 1회로 저장한다.
+         */
+        List<byte[]> cachedValues = bytesRedisTemplate.opsForValue().multiGet(keys);
+
+        Map<String, T> cachedData = new LinkedHashMap<>();
+        List<String> recomputeKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] cached = cachedValues == null ? null : cachedValues.get(i);
+            T data = parseOrNull(cached, dataType);
+            if (data == null) {
+                recomputeKeys.add(keys.get(i));
+            } else {
+                cachedData.put(keys.get(i), data);
+            }
+        }
+
+        if (recomputeKeys.isEmpty()) {
+            return cachedData;
+        }
+
+        /*
+            일괄 재계산 수행
+
+            - 재계산 소요 시간은 일괄 조회 전체 시간으로 측정하여 각 엔트리의 delta로 저장한다.
+              (다음 재계산도 일괄 조회로 수행된다고 가정)
+         */
+        long startMillis = Instant.now().toEpochMilli();
+        Map<String, T> sourceResults = missLoader.apply(recomputeKeys);
+        long computationTimeMillis = Instant.now().toEpochMilli() - startMillis;
+        putAll(cacheName, sourceResults, ttl, computationTimeMillis, dataType);
+
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            T data = cachedData.containsKey(key) ? cachedData.get(key) : sourceResults.get(key);
+            if (data != null) {
+                result.put(key, data);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 캐시 미존재 / 파싱 실패 / 확률적 재계산 조건 충족 시 null을 반환한다.
+     */
+    private <T> T parseOrNull(byte[] cached, DataType<T> dataType) {
+        CacheData cacheData = CacheData.parseOrNull(cached);
+        if (cacheData == null || cacheData.shouldRecompute(1)) {
+            return null;
+        }
+        return cacheData.parseData(dataType);
+    }
+
+    private void putAll(String cacheName, Map<String, ?> values, Duration ttl, long computationTimeMillis, DataType<?> dataType) {
+        Map<String, byte[]> serializedValues = new LinkedHashMap<>();
+        values.forEach((key, value) -> {
+            if (value != null) {
+                serializedValues.put(key, create(cacheName, value, computationTimeMillis, ttl, dataType).toBytes());
+            }
+        });
+        if (serializedValues.isEmpty()) {
+            return;
+        }
+
+        bytesRedisTemplate.executePipelined((RedisCallback<?>) connection -> {
+            serializedValues.forEach((key, value) -> connection.stringCommands().setEx(
+                    key.getBytes(StandardCharsets.UTF_8),
+                    ttl.getSeconds(),
+                    value
+            ));
+            return null;
+        });
+    }
+
+    private <T> T refresh(String cacheName, String key, Duration ttl, Supplier<T> dataSourceSupplier, DataType<T> dataType) {
         /*
             실제 데이터 재계산 수행
 
@@ -71,36 +167,46 @@ public class ProbabilisticEarlyRecomputationCacheHandler implements CustomCacheH
         T sourceResult = dataSourceSupplier.get();
         long computationTimeMillis = Instant.now().toEpochMilli() - startMillis;
 
-        put(key, ttl, sourceResult, computationTimeMillis);
+        put(cacheName, key, ttl, sourceResult, computationTimeMillis, dataType);
         return sourceResult;
     }
 
-    private void put(String key, Duration ttl, Object data, long computationTimeMillis) {
+    private void put(String cacheName, String key, Duration ttl, Object data, long computationTimeMillis, DataType<?> dataType) {
         /*
             캐시 저장
 
             - 실제 데이터 + 재계산 소요 시간(delta) + 만료 시점(expiry)을 함께 저장
             - TTL은 Redis 레벨에서도 함께 설정
          */
-        CacheData cacheData = CacheData.of(data, computationTimeMillis, ttl);
-        redisTemplate.opsForValue()
-                .set(key, DataSerializer.serializeOrException(cacheData), ttl);
+        CacheData cacheData = create(cacheName, data, computationTimeMillis, ttl, dataType);
+        bytesRedisTemplate.opsForValue().set(key, cacheData.toBytes(), ttl);
+    }
+
+    private CacheData create(String cacheName, Object data, long computationTimeMillis, Duration ttl, DataType<?> dataType) {
+        return CacheData.of(
+                data,
+                computationTimeMillis,
+                ttl,
+                customCacheDataCodecRegistry.find(cacheName),
+                customCacheDataCodecRegistry.findCompressor(cacheName),
+                dataType
+        );
     }
 
     @Override
-    public void put(String key, Duration ttl, Object value) {
+    public void put(String cacheName, String key, Duration ttl, Object value) {
         /*
             외부 put 호출용 기본 구현
 
             - 명시적인 재계산 시간이 없으므로
               delta는 기본값(예: 100ms)으로 설정
          */
-        put(key, ttl, value, 100);
+        put(cacheName, key, ttl, value, 100, DataType.OBJECT);
     }
 
     @Override
     public void evict(String key) {
-        redisTemplate.delete(key);
+        bytesRedisTemplate.delete(key);
     }
 
     @Override
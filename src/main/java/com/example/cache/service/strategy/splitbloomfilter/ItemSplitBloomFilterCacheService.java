@@ -1,5 +1,6 @@
 package com.example.cache.service.strategy.splitbloomfilter;
 
+import com.example.cache.common.bloomfilter.BloomFilterNegativeCache;
 import com.example.cache.common.cache.CacheStrategy;
 import com.example.cache.model.ItemCreateRequest;
 import com.example.cache.model.ItemUpdateRequest;
@@ -10,26 +11,35 @@ import com.example.cache.service.response.ItemResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ItemSplitBloomFilterCacheService implements ItemCacheService {
 
     private final ItemService itemService;
     private final SplitBloomFilterRedisHandler splitBloomFilterRedisHandler;
+    private final BloomFilterNegativeCache bloomFilterNegativeCache;
 
+    // Split Key를 같은 Slot에 두어서, Redis Cluster에서도 스크립트 1회로 추가/조회 (Slot이 다르면 파이프라인으로 나눠 실행됨)
     private static final SplitBloomFilter bloomFilter = SplitBloomFilter.create(
             "item-bloom-filter",
             1000,
-            0.01
+            0.01,
+            new SplitBloomFilter.Options(SplitBloomFilterLayout.SCATTERED, SplitBloomFilterKeyMode.HASH_TAGGED)
     );
 
+    private static final String negativeCacheName = CacheStrategy.SPLIT_BLOOM_FILTER + ":" + bloomFilter.getId();
+
     @Override
     public ItemResponse read(Long itemId) {
-        boolean result = splitBloomFilterRedisHandler.mightContain(bloomFilter, String.valueOf(itemId));
-        if (!result) {
-            return null;
-        }
-        return itemService.read(itemId);
+        // 같은 itemId의 "없음" 결과가 로컬에 캐시되어 있으면 Redis를 조회하지 않음
+        return bloomFilterNegativeCache.read(
+                negativeCacheName,
+                itemId,
+                value -> splitBloomFilterRedisHandler.mightContainByScript(bloomFilter, value),
+                itemService::read
+        );
     }
 
     @Override
@@ -37,6 +47,17 @@ public class ItemSplitBloomFilterCacheService implements ItemCacheService {
         return itemService.readAll(page, pageSize);
     }
 
+    @Override
+    public List<ItemResponse> readAll(List<Long> itemIds) {
+        // Bloom Filter 일괄 조회 후, 존재하지 않는 itemId는 Data Source 조회 대상에서 제외
+        return bloomFilterNegativeCache.readAll(
+                negativeCacheName,
+                itemIds,
+                values -> splitBloomFilterRedisHandler.mightContainAll(bloomFilter, values),
+                itemService::readAll
+        );
+    }
+
     @Override
     public ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize) {
         return itemService.readAllInfiniteScroll(lastItemId, pageSize);
@@ -45,7 +66,8 @@ public class ItemSplitBloomFilterCacheService implements ItemCacheService {
     @Override
     public ItemResponse create(ItemCreateRequest request) {
         ItemResponse itemResponse = itemService.create(request);
-        splitBloomFilterRedisHandler.add(bloomFilter, String.valueOf(itemResponse.itemId()));
+        splitBloomFilterRedisHandler.addByScript(bloomFilter, String.valueOf(itemResponse.itemId()));
+        bloomFilterNegativeCache.invalidate(negativeCacheName, String.valueOf(itemResponse.itemId()));
         return itemResponse;
     }
 
@@ -14,11 +14,28 @@ public class SplitBloomFilter {
     private String id;
     private BloomFilter bloomFilter;
     private long splitCount;
+    private SplitBloomFilterLayout layout;
+    private SplitBloomFilterKeyMode keyMode;
 
     //	public static final long BIT_SPLIT_UNIT = 1L << 32; // 2^32 비트맵의 최대 크기로 설정해야하지만, 테스트를 고려해 아래와 같이 낮은 값으로 설정
     public static final long BIT_SPLIT_UNIT = 1L << 10; // 2^10 == 1024
 
+    // BLOCKED 방식의 블록 크기 (BIT_SPLIT_UNIT의 약수여야 블록이 Split 경계를 넘지 않음)
+    public static final long BLOCK_BIT_SIZE = 512;
+
+    /**
+     * @param layout  비트 배치 방식
+     * @param keyMode Redis Key 생성 방식
+     */
+    public record Options(SplitBloomFilterLayout layout, SplitBloomFilterKeyMode keyMode) {
+        public static final Options DEFAULT = new Options(SplitBloomFilterLayout.SCATTERED, SplitBloomFilterKeyMode.PLAIN);
+    }
+
     public static SplitBloomFilter create(String id, long dataCount, double falsePositiveRate) {
+        return create(id, dataCount, falsePositiveRate, Options.DEFAULT);
+    }
+
+    public static SplitBloomFilter create(String id, long dataCount, double falsePositiveRate, Options options) {
         BloomFilter bloomFilter = BloomFilter.create(id, dataCount, falsePositiveRate);
 
         /*
@@ -32,10 +49,45 @@ public class SplitBloomFilter {
         splitBloomFilter.id = id;
         splitBloomFilter.bloomFilter = bloomFilter;
         splitBloomFilter.splitCount = splitCount;
+        splitBloomFilter.layout = options.layout();
+        splitBloomFilter.keyMode = options.keyMode();
         return splitBloomFilter;
     }
 
-    public long findSplitIndex(Long hashedIndex) {
+    /**
+     * 값의 k개 비트 인덱스 (전체 비트 배열 기준)
+     */
+    public long[] hash(String value) {
+        if (layout == SplitBloomFilterLayout.BLOCKED) {
+            return blockedHash(value);
+        }
+        return bloomFilter.hash(value);
+    }
+
+    /**
+     * - h1으로 블록을 고르고, h2의 상위/하위 32비트로 블록 내부 k개 위치를 생성한다. (double hashing)
+     * - h1, h2와 위치 계산은 BloomFilter의 DOUBLE_HASHING 방식과 같은 구현을 사용한다.
+     * - 마지막 블록은 전체 비트 수에 맞게 잘려 있을 수 있다.
+     */
+    private long[] blockedHash(String value) {
+        long[] halves = new long[2];
+        BloomFilter.murmur3Halves(value, halves);
+        long h1 = halves[0];
+        long h2 = halves[1];
+
+        long bitSize = bloomFilter.getBitSize();
+        long blockCount = (bitSize - 1) / BLOCK_BIT_SIZE + 1;
+        long blockStart = ((h1 & Long.MAX_VALUE) % blockCount) * BLOCK_BIT_SIZE;
+        long blockBitSize = Math.min(BLOCK_BIT_SIZE, bitSize - blockStart);
+
+        long a = h2 & 0xFFFFFFFFL;
+        long b = (h2 >>> 32) | 1; // 0이면 모든 위치가 같아지므로 홀수로 보정
+        long[] hashedIndexes = new long[bloomFilter.getHashFunctionCount()];
+        BloomFilter.doubleHash(a, b, blockStart, blockBitSize, hashedIndexes, hashedIndexes.length);
+        return hashedIndexes;
+    }
+
+    public long findSplitIndex(long hashedIndex) {
         if (hashedIndex >= bloomFilter.getBitSize()) {
             throw new IllegalArgumentException("hashedIndex out of bounds");
         }
@@ -0,0 +1,25 @@
+package com.example.cache.service.strategy.splitbloomfilter;
+
+/**
+ * Split Bloom Filter Redis Key 생성 방식
+ * <p>
+ * 방식에 따라 Key 이름이 달라지므로, 이미 데이터가 저장된 필터의 방식을 바꾸면 기존 데이터를 조회할 수 없다.
+ */
+public enum SplitBloomFilterKeyMode {
+
+    /**
+     * split-bloom-filter:{id}의 중괄호 없이 생성 (기존 방식)
+     * 예) split-bloom-filter:item:shard:0:split:1
+     * - Redis Cluster에서는 Split Key마다 Slot이 달라진다.
+     */
+    PLAIN,
+
+    /**
+     * 필터 id를 Hash Tag로 감싸서 생성
+     * 예) split-bloom-filter:{item:shard:0}:split:1
+     * - 하나의 필터(Shard)의 모든 Split Key가 같은 Slot에 저장되어, 값 1개의 k개 비트가 노드 1개에 모인다.
+     * - Shard마다 id가 다르므로 Shard는 여러 Slot(노드)으로 분산된다.
+     */
+    HASH_TAGGED
+
+}
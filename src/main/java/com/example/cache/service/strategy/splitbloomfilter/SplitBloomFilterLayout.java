@@ -0,0 +1,23 @@
+package com.example.cache.service.strategy.splitbloomfilter;
+
+/**
+ * Split Bloom Filter 비트 배치 방식
+ * <p>
+ * 방식에 따라 같은 값이라도 비트 위치가 달라지므로, 이미 데이터가 저장된 필터의 방식을 바꾸면 False Negative가 발생한다.
+ */
+public enum SplitBloomFilterLayout {
+
+    /**
+     * k개 비트가 전체 비트 배열에 흩어진다. (기존 방식)
+     * - 조회 시 최대 k개의 Split Key에 접근한다.
+     */
+    SCATTERED,
+
+    /**
+     * 첫 번째 해시로 512비트 블록 1개를 고르고, k개 비트를 모두 그 블록 안에 배치한다. (Blocked Bloom Filter)
+     * - 블록은 Split 경계를 넘지 않으므로, 조회 시 Split Key 1개에 BITFIELD 1회로 접근한다.
+     * - 비트가 블록 단위로 몰리므로 같은 m, k에서 오차율이 약간 증가한다.
+     */
+    BLOCKED
+
+}
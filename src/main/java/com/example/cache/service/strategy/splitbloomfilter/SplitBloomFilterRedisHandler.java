@@ -1,12 +1,24 @@
 package com.example.cache.service.strategy.splitbloomfilter;
 
+import com.example.cache.common.redis.BitFieldCommands;
+import com.example.cache.common.redis.BitmapAllocator;
+import com.example.cache.common.redis.SlotGroupingPipelineExecutor;
+import com.example.cache.service.strategy.bloomfilter.BloomFilterScripts;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.connection.StringRedisConnection;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 @Component
@@ -14,6 +26,8 @@ import java.util.stream.LongStream;
 public class SplitBloomFilterRedisHandler {
 
     private final StringRedisTemplate redisTemplate;
+    private final SlotGroupingPipelineExecutor slotGroupingPipelineExecutor;
+    private final BitmapAllocator bitmapAllocator;
 
     /**
      * Split Bloom Filter 초기화
@@ -24,21 +38,27 @@ public class SplitBloomFilterRedisHandler {
      * 대용량 Bloom Filter의 경우 지연을 줄이기 위해 사전 초기화가 필요
      */
     public void init(SplitBloomFilter splitBloomFilter) {
-        for (long splitIndex = 0; splitIndex < splitBloomFilter.getSplitCount(); splitIndex++) {
-            String key = genKey(splitBloomFilter, splitIndex);
-
-            // 해당 Split이 담당하는 비트 수 계산
-            long bitSize = splitBloomFilter.calSplitBitSize(splitIndex);
-
-            /*
-             * Redis BITMAP은 offset 접근 시 메모리를 할당하므로
-             * 한 번에 큰 offset을 설정하면 blocking 가능성 있음
-             * → 8MB 단위로 나누어 점진적으로 메모리 할당
-             */
-            for (long offset = 0; offset < bitSize; offset += 8L * 1024 * 1024 * 8 /* 8MB */) {
-                redisTemplate.opsForValue().setBit(key, offset, false);
+        init(List.of(splitBloomFilter));
+    }
+
+    /**
+     * 여러 Split Bloom Filter(Shard 등) 초기화
+     * <p>
+     * - 모든 필터의 Split Key를 BitmapAllocator에 한 번에 전달하여, 여러 Split을 병렬로 나누어 할당한다.
+     *   (Split을 하나씩 순서대로 할당하지 않음)
+     */
+    public void init(List<SplitBloomFilter> splitBloomFilters) {
+        List<BitmapAllocator.Target> targets = new ArrayList<>();
+        for (SplitBloomFilter splitBloomFilter : splitBloomFilters) {
+            for (long splitIndex = 0; splitIndex < splitBloomFilter.getSplitCount(); splitIndex++) {
+                // 해당 Split이 담당하는 비트 수만큼 할당
+                targets.add(new BitmapAllocator.Target(
+                        genKey(splitBloomFilter, splitIndex),
+                        splitBloomFilter.calSplitBitSize(splitIndex)
+                ));
             }
         }
+        bitmapAllocator.allocate(targets);
     }
 
     /**
@@ -49,13 +69,22 @@ public class SplitBloomFilterRedisHandler {
      * - Split 내부에서의 상대 offset으로 비트를 설정
      */
     public void add(SplitBloomFilter splitBloomFilter, String value) {
+        if (splitBloomFilter.getLayout() == SplitBloomFilterLayout.BLOCKED) {
+            long[] hashedIndexes = splitBloomFilter.hash(value);
+            redisTemplate.opsForValue().bitField(
+                    genBlockKey(splitBloomFilter, hashedIndexes),
+                    BitFieldCommands.setBits(toSplitOffsets(hashedIndexes))
+            );
+            return;
+        }
+
         redisTemplate.executePipelined((RedisCallback<?>) action -> {
             StringRedisConnection conn = (StringRedisConnection) action;
 
             // Bloom Filter의 k개 해시 결과
-            List<Long> hashedIndexes = splitBloomFilter.getBloomFilter().hash(value);
+            long[] hashedIndexes = splitBloomFilter.hash(value);
 
-            for (Long hashedIndex : hashedIndexes) {
+            for (long hashedIndex : hashedIndexes) {
                 // 전체 비트 인덱스가 속한 Split 계산
                 long splitIndex = splitBloomFilter.findSplitIndex(hashedIndex);
 
@@ -78,13 +107,23 @@ public class SplitBloomFilterRedisHandler {
      * - False Positive는 가능하지만 False Negative는 발생하지 않음
      */
     public boolean mightContain(SplitBloomFilter splitBloomFilter, String value) {
+        if (splitBloomFilter.getLayout() == SplitBloomFilterLayout.BLOCKED) {
+            // k개 비트가 모두 같은 블록(같은 Split Key)에 있으므로 BITFIELD 1회로 조회
+            long[] hashedIndexes = splitBloomFilter.hash(value);
+            List<Long> bits = redisTemplate.opsForValue().bitField(
+                    genBlockKey(splitBloomFilter, hashedIndexes),
+                    BitFieldCommands.getBits(toSplitOffsets(hashedIndexes))
+            );
+            return bits != null && bits.stream().allMatch(bit -> bit == 1L);
+        }
+
         return redisTemplate.executePipelined((RedisCallback<?>) action -> {
                     StringRedisConnection conn = (StringRedisConnection) action;
 
                     // Bloom Filter 해시 결과 조회
-                    List<Long> hashedIndexes = splitBloomFilter.getBloomFilter().hash(value);
+                    long[] hashedIndexes = splitBloomFilter.hash(value);
 
-                    for (Long hashedIndex : hashedIndexes) {
+                    for (long hashedIndex : hashedIndexes) {
                         long splitIndex = splitBloomFilter.findSplitIndex(hashedIndex);
 
                         // 해당 Split의 비트 값 조회
@@ -101,6 +140,214 @@ public class SplitBloomFilterRedisHandler {
                 .allMatch(Boolean.TRUE::equals);
     }
 
+    /**
+     * Lua 스크립트로 Redis 내부에서 데이터 추가 (명령 1개)
+     * <p>
+     * - Redis Cluster에서 Split Key의 Slot이 서로 다르면(PLAIN) 스크립트 대신 노드 별 파이프라인으로 SETBIT을 실행한다.
+     *
+     * @return 추가 전에 이미 존재했을 수도 있는 값이라면 true (모든 비트가 이미 1이었음)
+     */
+    public boolean addByScript(SplitBloomFilter splitBloomFilter, String value) {
+        List<String> keys = new ArrayList<>();
+        long[] offsets = new long[splitBloomFilter.getBloomFilter().getHashFunctionCount()];
+        collectBitPositions(splitBloomFilter, value, keys, offsets);
+
+        if (!slotGroupingPipelineExecutor.isSameSlot(keys)) {
+            return executeBitCommands(keys, (conn, i) -> conn.setBit(keys.get(i), offsets[i], true))
+                    .stream()
+                    .allMatch(Boolean.TRUE::equals);
+        }
+
+        Long result = redisTemplate.execute(BloomFilterScripts.ADD, keys, BloomFilterScripts.addArgs(offsets));
+        return Long.valueOf(1).equals(result);
+    }
+
+    /**
+     * Lua 스크립트로 Redis 내부에서 존재 가능성 조회 (명령 1개, 0인 비트를 만나면 즉시 종료)
+     */
+    public boolean mightContainByScript(SplitBloomFilter splitBloomFilter, String value) {
+        return mightContainAnyByScript(List.of(splitBloomFilter), value);
+    }
+
+    /**
+     * Lua 스크립트로 여러 Split Bloom Filter(Shard, Sub Filter 등) 중 하나라도 값을 포함할 수 있는지 조회
+     * <p>
+     * - 모든 필터의 비트 위치를 스크립트 1회로 전달하고, 포함 가능한 필터를 찾으면 즉시 종료한다.
+     * - Redis Cluster에서 Key의 Slot이 서로 다르면(PLAIN 또는 Shard가 여러 개) 스크립트 대신
+     *   노드 별 파이프라인으로 GETBIT을 실행하고, 필터 별 결과는 클라이언트에서 판단한다.
+     */
+    public boolean mightContainAnyByScript(List<SplitBloomFilter> splitBloomFilters, String value) {
+        int bitCount = splitBloomFilters.stream()
+                .mapToInt(splitBloomFilter -> splitBloomFilter.getBloomFilter().getHashFunctionCount())
+                .sum();
+        List<String> keys = new ArrayList<>(bitCount);
+        long[] offsets = new long[bitCount];
+        List<Integer> groupSizes = new ArrayList<>(splitBloomFilters.size());
+        for (SplitBloomFilter splitBloomFilter : splitBloomFilters) {
+            groupSizes.add(collectBitPositions(splitBloomFilter, value, keys, offsets));
+        }
+
+        if (!slotGroupingPipelineExecutor.isSameSlot(keys)) {
+            List<Object> bits = executeBitCommands(keys, (conn, i) -> conn.getBit(keys.get(i), offsets[i]));
+            int bitIndex = 0;
+            for (int groupSize : groupSizes) {
+                if (bits.subList(bitIndex, bitIndex + groupSize).stream().allMatch(Boolean.TRUE::equals)) {
+                    return true;
+                }
+                bitIndex += groupSize;
+            }
+            return false;
+        }
+
+        Long result = redisTemplate.execute(
+                BloomFilterScripts.MIGHT_CONTAIN,
+                keys,
+                BloomFilterScripts.mightContainArgs(groupSizes, offsets)
+        );
+        return Long.valueOf(1).equals(result);
+    }
+
+    /**
+     * i번째 비트 위치(keys[i], offsets[i])마다 명령 1개를 Slot 기준 파이프라인으로 실행한다.
+     *
+     * @return 비트 위치 순서의 응답
+     */
+    private List<Object> executeBitCommands(List<String> keys, BiConsumer<StringRedisConnection, Integer> bitCommand) {
+        return slotGroupingPipelineExecutor.execute(
+                IntStream.range(0, keys.size()).boxed().toList(),
+                keys::get,
+                bitCommand
+        );
+    }
+
+    /**
+     * 값의 k개 비트 위치(Split Key, Split 내부 offset)를 keys, offsets[keys.size() ~]에 추가한다.
+     *
+     * @return 추가한 비트 수(k)
+     */
+    private int collectBitPositions(SplitBloomFilter splitBloomFilter, String value, List<String> keys, long[] offsets) {
+        long[] hashedIndexes = splitBloomFilter.hash(value);
+        for (long hashedIndex : hashedIndexes) {
+            offsets[keys.size()] = hashedIndex % SplitBloomFilter.BIT_SPLIT_UNIT;
+            keys.add(genKey(splitBloomFilter, splitBloomFilter.findSplitIndex(hashedIndex)));
+        }
+        return hashedIndexes.length;
+    }
+
+    /**
+     * 여러 값 일괄 추가
+     */
+    public void addAll(SplitBloomFilter splitBloomFilter, List<String> values) {
+        addAll(values, value -> splitBloomFilter);
+    }
+
+    /**
+     * 여러 값 일괄 추가
+     * <p>
+     * - 값마다 splitBloomFilterOf로 대상 Split Bloom Filter를 결정한다. (Shard 등)
+     * - 비트 offset을 Split Key 별로 모아서, Key 별 BITFIELD SET 1회를 하나의 파이프라인으로 실행한다.
+     *   (Redis Cluster에서는 노드 별 파이프라인 1개씩 병렬 실행)
+     */
+    public void addAll(List<String> values, Function<String, SplitBloomFilter> splitBloomFilterOf) {
+        Map<String, List<Long>> offsetsByKey = new LinkedHashMap<>();
+        for (String value : new LinkedHashSet<>(values)) {
+            SplitBloomFilter splitBloomFilter = splitBloomFilterOf.apply(value);
+            for (long hashedIndex : splitBloomFilter.hash(value)) {
+                offsetsByKey.computeIfAbsent(genKey(splitBloomFilter, splitBloomFilter.findSplitIndex(hashedIndex)), key -> new ArrayList<>())
+                        .add(hashedIndex % SplitBloomFilter.BIT_SPLIT_UNIT);
+            }
+        }
+        if (offsetsByKey.isEmpty()) {
+            return;
+        }
+
+        slotGroupingPipelineExecutor.execute(
+                new ArrayList<>(offsetsByKey.keySet()),
+                key -> key,
+                (conn, key) -> conn.bitfield(key, BitFieldCommands.setBits(offsetsByKey.get(key)))
+        );
+    }
+
+    /**
+     * 여러 값의 존재 가능성 일괄 조회
+     *
+     * @return 요청한 값 순서가 유지된 value → mightContain
+     */
+    public Map<String, Boolean> mightContainAll(SplitBloomFilter splitBloomFilter, List<String> values) {
+        return mightContainAny(values, value -> List.of(splitBloomFilter));
+    }
+
+    /**
+     * 여러 값의 존재 가능성 일괄 조회
+     * <p>
+     * - 값마다 splitBloomFiltersOf로 조회 대상 Split Bloom Filter 목록을 결정한다. (Shard, Sub Filter 등)
+     * - 대상 필터 중 하나라도 모든 비트가 1이면 "있을 수도 있음"
+     * - 비트 offset을 Split Key 별로 모아서, Key 별 BITFIELD GET 1회를 하나의 파이프라인으로 실행한다.
+     *   (값/필터 수와 관계없이 네트워크 왕복은 1회, Redis Cluster에서는 노드 당 1회)
+     *
+     * @return 요청한 값 순서가 유지된 value → mightContain
+     */
+    public Map<String, Boolean> mightContainAny(
+            List<String> values,
+            Function<String, List<SplitBloomFilter>> splitBloomFiltersOf
+    ) {
+        Map<String, List<Long>> offsetsByKey = new LinkedHashMap<>();
+
+        // value → 필터 별 → 비트 위치(어떤 Key의 몇 번째 응답인지)
+        Map<String, List<List<BitPosition>>> bitPositionsByValue = new LinkedHashMap<>();
+        for (String value : values) {
+            if (bitPositionsByValue.containsKey(value)) {
+                continue;
+            }
+
+            List<List<BitPosition>> bitPositionsByFilter = new ArrayList<>();
+            for (SplitBloomFilter splitBloomFilter : splitBloomFiltersOf.apply(value)) {
+                List<BitPosition> bitPositions = new ArrayList<>();
+                for (long hashedIndex : splitBloomFilter.hash(value)) {
+                    String key = genKey(splitBloomFilter, splitBloomFilter.findSplitIndex(hashedIndex));
+                    List<Long> offsets = offsetsByKey.computeIfAbsent(key, k -> new ArrayList<>());
+                    bitPositions.add(new BitPosition(key, offsets.size()));
+                    offsets.add(hashedIndex % SplitBloomFilter.BIT_SPLIT_UNIT);
+                }
+                bitPositionsByFilter.add(bitPositions);
+            }
+            bitPositionsByValue.put(value, bitPositionsByFilter);
+        }
+
+        Map<String, List<Long>> bitsByKey = getBits(offsetsByKey);
+
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        bitPositionsByValue.forEach((value, bitPositionsByFilter) -> result.put(
+                value,
+                bitPositionsByFilter.stream().anyMatch(bitPositions -> bitPositions.stream()
+                        .allMatch(bitPosition -> bitsByKey.get(bitPosition.key()).get(bitPosition.index()) == 1L))
+        ));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, List<Long>> getBits(Map<String, List<Long>> offsetsByKey) {
+        if (offsetsByKey.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> keys = new ArrayList<>(offsetsByKey.keySet());
+        List<Object> results = slotGroupingPipelineExecutor.execute(
+                keys,
+                key -> key,
+                (conn, key) -> conn.bitfield(key, BitFieldCommands.getBits(offsetsByKey.get(key)))
+        );
+
+        Map<String, List<Long>> bitsByKey = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            bitsByKey.put(keys.get(i), (List<Long>) results.get(i));
+        }
+        return bitsByKey;
+    }
+
+    private record BitPosition(String key, int index) {
+    }
+
     /**
      * Split Bloom Filter 삭제
      * <p>
@@ -116,6 +363,19 @@ public class SplitBloomFilterRedisHandler {
         });
     }
 
+    /**
+     * BLOCKED 방식에서 값의 k개 비트가 모두 속한 Split Key
+     */
+    private String genBlockKey(SplitBloomFilter splitBloomFilter, long[] hashedIndexes) {
+        return genKey(splitBloomFilter, splitBloomFilter.findSplitIndex(hashedIndexes[0]));
+    }
+
+    private List<Long> toSplitOffsets(long[] hashedIndexes) {
+        return Arrays.stream(hashedIndexes)
+                .mapToObj(hashedIndex -> hashedIndex % SplitBloomFilter.BIT_SPLIT_UNIT)
+                .toList();
+    }
+
     /**
      * Split 개수만큼 Redis Key 목록 생성
      */
@@ -131,8 +391,13 @@ public class SplitBloomFilterRedisHandler {
      * 예)
      * split-bloom-filter:item:split:0
      * split-bloom-filter:item:split:1
+     * split-bloom-filter:{item}:split:0 (HASH_TAGGED)
      */
     private String genKey(SplitBloomFilter splitBloomFilter, long splitIndex) {
+        if (splitBloomFilter.getKeyMode() == SplitBloomFilterKeyMode.HASH_TAGGED) {
+            return "split-bloom-filter:{%s}:split:%s"
+                    .formatted(splitBloomFilter.getId(), splitIndex);
+        }
         return "split-bloom-filter:%s:split:%s"
                 .formatted(splitBloomFilter.getId(), splitIndex);
     }
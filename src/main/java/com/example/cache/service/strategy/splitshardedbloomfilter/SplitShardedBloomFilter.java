@@ -23,16 +23,35 @@ public class SplitShardedBloomFilter {
     private int shardCount;
 
     public static SplitShardedBloomFilter create(String id, long dataCount, double falsePositiveRate, int shardCount) {
+        return create(id, dataCount, falsePositiveRate, shardCount, SplitBloomFilter.Options.DEFAULT);
+    }
+
+    /**
+     * @param options 모든 Shard에 같은 옵션을 적용한다.
+     */
+    public static SplitShardedBloomFilter create(
+            String id,
+            long dataCount,
+            double falsePositiveRate,
+            int shardCount,
+            SplitBloomFilter.Options options
+    ) {
         SplitShardedBloomFilter splitShardedBloomFilter = new SplitShardedBloomFilter();
         splitShardedBloomFilter.id = id;
         splitShardedBloomFilter.dataCount = dataCount;
         splitShardedBloomFilter.falsePositiveRate = falsePositiveRate;
-        splitShardedBloomFilter.shards = createShards(id, dataCount, falsePositiveRate, shardCount);
+        splitShardedBloomFilter.shards = createShards(id, dataCount, falsePositiveRate, shardCount, options);
         splitShardedBloomFilter.shardCount = shardCount;
         return splitShardedBloomFilter;
     }
 
-    private static List<SplitBloomFilter> createShards(String id, long dataCount, double falsePositiveRate, int shardCount) {
+    private static List<SplitBloomFilter> createShards(
+            String id,
+            long dataCount,
+            double falsePositiveRate,
+            int shardCount,
+            SplitBloomFilter.Options options
+    ) {
         long dataChunkCount = dataCount / shardCount;
         long remainder = dataCount % shardCount;
 
@@ -41,7 +60,8 @@ public class SplitShardedBloomFilter {
             SplitBloomFilter shard = SplitBloomFilter.create(
                     id + ":shard:" + shardIndex,
                     dataChunkCount + (shardIndex < remainder ? 1 : 0),
-                    falsePositiveRate
+                    falsePositiveRate,
+                    options
             );
             shards.add(shard);
         }
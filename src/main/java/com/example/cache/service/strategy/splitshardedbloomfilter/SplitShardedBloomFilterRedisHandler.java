@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -14,11 +15,9 @@ public class SplitShardedBloomFilterRedisHandler {
     private final SplitBloomFilterRedisHandler splitBloomFilterRedisHandler;
 
     public void init(SplitShardedBloomFilter splitShardedBloomFilter) {
-        List<SplitBloomFilter> shards = splitShardedBloomFilter.getShards();
-        for (SplitBloomFilter shard : shards) {
-            // Split과 Sharding 기법은 서로 다른 기법이기 때문에 중첩으로 사용할 수 있다. split 기법을 사용하기 위하여 split filter에게 위임하는 식으로 중첩사용.
-            splitBloomFilterRedisHandler.init(shard);
-        }
+        // Split과 Sharding 기법은 서로 다른 기법이기 때문에 중첩으로 사용할 수 있다. split 기법을 사용하기 위하여 split filter에게 위임하는 식으로 중첩사용.
+        // 모든 Shard의 Split을 한 번에 넘겨서 Shard 사이에서도 병렬로 할당
+        splitBloomFilterRedisHandler.init(splitShardedBloomFilter.getShards());
     }
 
     public void add(SplitShardedBloomFilter splitShardedBloomFilter, String value) {
@@ -31,6 +30,27 @@ public class SplitShardedBloomFilterRedisHandler {
         return splitBloomFilterRedisHandler.mightContain(shard, value);
     }
 
+    public boolean addByScript(SplitShardedBloomFilter splitShardedBloomFilter, String value) {
+        SplitBloomFilter shard = splitShardedBloomFilter.findShard(value);
+        return splitBloomFilterRedisHandler.addByScript(shard, value);
+    }
+
+    public boolean mightContainByScript(SplitShardedBloomFilter splitShardedBloomFilter, String value) {
+        SplitBloomFilter shard = splitShardedBloomFilter.findShard(value);
+        return splitBloomFilterRedisHandler.mightContainByScript(shard, value);
+    }
+
+    public void addAll(SplitShardedBloomFilter splitShardedBloomFilter, List<String> values) {
+        splitBloomFilterRedisHandler.addAll(values, splitShardedBloomFilter::findShard);
+    }
+
+    public Map<String, Boolean> mightContainAll(SplitShardedBloomFilter splitShardedBloomFilter, List<String> values) {
+        return splitBloomFilterRedisHandler.mightContainAny(
+                values,
+                value -> List.of(splitShardedBloomFilter.findShard(value))
+        );
+    }
+
     public void delete(SplitShardedBloomFilter splitShardedBloomFilter) {
         List<SplitBloomFilter> shards = splitShardedBloomFilter.getShards();
         for (SplitBloomFilter shard : shards) {
@@ -1,5 +1,6 @@
 package com.example.cache.service.strategy.splitshardedsubbloomfilter;
 
+import com.example.cache.common.bloomfilter.BloomFilterNegativeCache;
 import com.example.cache.common.cache.CacheStrategy;
 import com.example.cache.model.ItemCreateRequest;
 import com.example.cache.model.ItemUpdateRequest;
@@ -10,12 +11,15 @@ import com.example.cache.service.response.ItemResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ItemSplitShardedSubBloomFilterCacheService implements ItemCacheService {
 
     private final ItemService itemService;
     private final SplitShardedSubBloomFilterRedisHandler splitShardedSubBloomFilterRedisHandler;
+    private final BloomFilterNegativeCache bloomFilterNegativeCache;
 
     private static final SplitShardedSubBloomFilter bloomFilter = SplitShardedSubBloomFilter.create(
             "item-bloom-filter",
@@ -24,13 +28,17 @@ public class ItemSplitShardedSubBloomFilterCacheService implements ItemCacheServ
             4
     );
 
+    private static final String negativeCacheName = CacheStrategy.SPLIT_SHARDED_SUB_BLOOM_FILTER + ":" + bloomFilter.getId();
+
     @Override
     public ItemResponse read(Long itemId) {
-        boolean result = splitShardedSubBloomFilterRedisHandler.mightContain(bloomFilter, String.valueOf(itemId));
-        if (!result) {
-            return null;
-        }
-        return itemService.read(itemId);
+        // 같은 itemId의 "없음" 결과가 로컬에 캐시되어 있으면 Redis를 조회하지 않음
+        return bloomFilterNegativeCache.read(
+                negativeCacheName,
+                itemId,
+                value -> splitShardedSubBloomFilterRedisHandler.mightContainByScript(bloomFilter, value),
+                itemService::read
+        );
     }
 
     @Override
@@ -38,6 +46,17 @@ public class ItemSplitShardedSubBloomFilterCacheService implements ItemCacheServ
         return itemService.readAll(page, pageSize);
     }
 
+    @Override
+    public List<ItemResponse> readAll(List<Long> itemIds) {
+        // Bloom Filter 일괄 조회 후, 존재하지 않는 itemId는 Data Source 조회 대상에서 제외
+        return bloomFilterNegativeCache.readAll(
+                negativeCacheName,
+                itemIds,
+                values -> splitShardedSubBloomFilterRedisHandler.mightContainAll(bloomFilter, values),
+                itemService::readAll
+        );
+    }
+
     @Override
     public ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize) {
         return itemService.readAllInfiniteScroll(lastItemId, pageSize);
@@ -47,6 +66,7 @@ public class ItemSplitShardedSubBloomFilterCacheService implements ItemCacheServ
     public ItemResponse create(ItemCreateRequest request) {
         ItemResponse itemResponse = itemService.create(request);
         splitShardedSubBloomFilterRedisHandler.add(bloomFilter, String.valueOf(itemResponse.itemId()));
+        bloomFilterNegativeCache.invalidate(negativeCacheName, String.valueOf(itemResponse.itemId()));
         return itemResponse;
     }
 
@@ -8,9 +8,10 @@ import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Getter
-@ToString
+@ToString(exclude = "subFilters")
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class SplitShardedSubBloomFilter {
 
@@ -18,30 +19,62 @@ public class SplitShardedSubBloomFilter {
     private String id;
     private SplitShardedBloomFilter splitShardedBloomFilter;
 
+    // 생성 가능한 최대 서브 필터 개수
+    private int maxSubFilterCount;
+
+    // subFilterIndex → Sub Filter (해시 함수 등 생성 비용이 있으므로 index 별로 한 번만 생성)
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentHashMap<Integer, SplitShardedBloomFilter> subFilters = new ConcurrentHashMap<>();
+
+    // 서브 필터 개수 제한 없음 (Scalable Bloom Filter)
+    public static final int UNLIMITED_SUB_FILTER_COUNT = Integer.MAX_VALUE;
+
     // 최초 기준 Bloom Filter 생성
+    // - 서브 필터 개수 제한 없이 데이터가 늘어나는 만큼 계속 확장
     public static SplitShardedSubBloomFilter create(
             String id,
             long dataCount,
             double falsePositiveRate,
             int shardCount
     ) {
+        return create(id, dataCount, falsePositiveRate, shardCount, UNLIMITED_SUB_FILTER_COUNT);
+    }
+
+    // 최초 기준 Bloom Filter 생성
+    // - 서브 필터는 maxSubFilterCount개까지만 생성 (이후에는 마지막 필터에 계속 추가되어 오차율이 증가)
+    public static SplitShardedSubBloomFilter create(
+            String id,
+            long dataCount,
+            double falsePositiveRate,
+            int shardCount,
+            int maxSubFilterCount
+    ) {
+        if (maxSubFilterCount < 0) {
+            throw new IllegalArgumentException("maxSubFilterCount must not be negative. maxSubFilterCount=" + maxSubFilterCount);
+        }
         SplitShardedSubBloomFilter splitShardedSubBloomFilter = new SplitShardedSubBloomFilter();
         splitShardedSubBloomFilter.id = id;
         splitShardedSubBloomFilter.splitShardedBloomFilter =
                 SplitShardedBloomFilter.create(id, dataCount, falsePositiveRate, shardCount);
+        splitShardedSubBloomFilter.maxSubFilterCount = maxSubFilterCount;
         return splitShardedSubBloomFilter;
     }
 
-    // subFilterIndex에 해당하는 Sub Filter 생성
+    // 서브 필터를 더 추가할 수 있는지 여부
+    public boolean isGrowable(int subFilterCount) {
+        return subFilterCount < maxSubFilterCount;
+    }
+
+    // subFilterIndex에 해당하는 Sub Filter 반환 (최초 조회 시 생성)
     // - 데이터 수용량은 2배씩 증가
     // - 오차율은 1/2씩 감소
     public SplitShardedBloomFilter findSubFilter(int subFilterIndex) {
-        return SplitShardedBloomFilter.create(
-                id + ":sub:" + subFilterIndex,
-                splitShardedBloomFilter.getDataCount() * (1L << (subFilterIndex + 1)),
-                splitShardedBloomFilter.getFalsePositiveRate() / (1L << (subFilterIndex + 1)),
+        return subFilters.computeIfAbsent(subFilterIndex, index -> SplitShardedBloomFilter.create(
+                id + ":sub:" + index,
+                splitShardedBloomFilter.getDataCount() * (1L << (index + 1)),
+                splitShardedBloomFilter.getFalsePositiveRate() / (1L << (index + 1)),
                 splitShardedBloomFilter.getShardCount()
-        );
+        ));
     }
 
     // 현재 데이터가 입력되는 활성 Bloom Filter 반환
@@ -56,7 +89,7 @@ public class SplitShardedSubBloomFilter {
     // 조회 시 사용되는 전체 Bloom Filter 목록 반환
     // 기본 Bloom Filter + 모든 Sub Filter
     public List<SplitShardedBloomFilter> findAll(int subFilterCount) {
-        List<SplitShardedBloomFilter> splitShardedBloomFilters = new ArrayList<>();
+        List<SplitShardedBloomFilter> splitShardedBloomFilters = new ArrayList<>(subFilterCount + 1);
         splitShardedBloomFilters.add(splitShardedBloomFilter);
 
         for (int subFilterIndex = 0; subFilterIndex < subFilterCount; subFilterIndex++) {
@@ -65,4 +98,16 @@ public class SplitShardedSubBloomFilter {
         return splitShardedBloomFilters;
     }
 
+    // 조회 시 사용되는 Bloom Filter 목록 반환
+    // 전체 Bloom Filter + 다음 Sub Filter (추가할 수 있는 경우)
+    // - 다른 노드가 서브 필터를 추가하고 데이터를 넣은 직후, 로컬에 캐시된 서브 필터 개수가 아직 이전 값이어도 False Negative가 발생하지 않는다.
+    // - 다음 Sub Filter는 개수 증가 전에 초기화되고, 아직 생성되지 않았다면 모든 비트가 0으로 조회되므로 결과에 영향이 없다.
+    public List<SplitShardedBloomFilter> findAllForLookup(int subFilterCount) {
+        List<SplitShardedBloomFilter> splitShardedBloomFilters = findAll(subFilterCount);
+        if (isGrowable(subFilterCount)) {
+            splitShardedBloomFilters.add(findSubFilter(subFilterCount));
+        }
+        return splitShardedBloomFilters;
+    }
+
 }
@@ -1,17 +1,38 @@
 package com.example.cache.service.strategy.splitshardedsubbloomfilter;
 
 import com.example.cache.common.distributedlock.DistributedLockProvider;
+import com.example.cache.service.strategy.splitbloomfilter.SplitBloomFilterRedisHandler;
 import com.example.cache.service.strategy.splitshardedbloomfilter.SplitShardedBloomFilter;
 import com.example.cache.service.strategy.splitshardedbloomfilter.SplitShardedBloomFilterRedisHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 데이터가 늘어나는 만큼 서브 필터를 추가하는 Scalable Bloom Filter 핸들러
+ * <p>
+ * - 서브 필터 개수는 노드 별로 로컬에 캐시하여, 추가/조회 시 서브 필터 개수를 Redis에서 조회하지 않는다.
+ * - 서브 필터 개수가 변경되면 pub/sub으로 다른 노드에 알리고, 알림을 받은 노드는 Redis(기준 값)에서 다시 읽는다.
+ *   (알림이 유실되어도 백그라운드 주기마다 Redis에서 다시 읽으므로 최대 1주기 뒤에는 반영된다)
+ * - 데이터 개수는 로컬에서 누적하고 백그라운드에서 주기적으로 INCRBY로 반영한다. (추가 시 INCR 없음)
+ * - 활성 필터의 데이터 개수가 용량의 GROWTH_THRESHOLD에 도달하면, 가득 차기 전에 백그라운드에서 다음 서브 필터를 만든다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -26,8 +47,54 @@ public class SplitShardedSubBloomFilterRedisHandler {
     // 실제 BloomFilter Redis 처리 핸들러
     private final SplitShardedBloomFilterRedisHandler splitShardedBloomFilterRedisHandler;
 
-    // 생성 가능한 최대 서브 필터 개수
-    public static final int MAX_SUB_FILTER_COUNT = 2;
+    // 여러 서브 필터를 하나의 파이프라인으로 조회하기 위한 Split Bloom Filter 핸들러
+    private final SplitBloomFilterRedisHandler splitBloomFilterRedisHandler;
+
+    // 서브 필터 개수 변경 알림 수신용 컨테이너
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 서브 필터 개수 변경 알림 채널 (메시지: Sub Bloom Filter id)
+    public static final String SUB_FILTER_COUNT_CHANNEL = "split-sharded-sub-bloom-filter:sub-filter-count-changed";
+
+    // 활성 필터의 데이터 개수가 용량의 90%에 도달하면 다음 서브 필터 생성
+    public static final double GROWTH_THRESHOLD = 0.9;
+
+    // 데이터 개수 반영, 서브 필터 개수 동기화 및 서브 필터 생성 주기
+    private static final Duration MAINTENANCE_INTERVAL = Duration.ofMillis(100);
+
+    // Sub Bloom Filter id → 로컬 메타 데이터
+    private final ConcurrentHashMap<String, SubFilterMetadata> metadatas = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("split-sharded-sub-bloom-filter-maintenance").daemon().factory()
+    );
+
+    @PostConstruct
+    public void start() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onSubFilterCountChanged(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(SUB_FILTER_COUNT_CHANNEL)
+        );
+        maintenanceExecutor.scheduleWithFixedDelay(
+                this::maintainAll,
+                MAINTENANCE_INTERVAL.toMillis(),
+                MAINTENANCE_INTERVAL.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    public void stop() {
+        maintenanceExecutor.shutdownNow();
+        // 종료 전에 누적된 데이터 개수 반영
+        for (SubFilterMetadata metadata : metadatas.values()) {
+            try {
+                flushDataCounts(metadata);
+            } catch (Exception e) {
+                log.error("[SplitShardedSubBloomFilterRedisHandler.stop] id={}", metadata.filter.getId(), e);
+            }
+        }
+    }
 
     /**
      * 메인 SplitShardedBloomFilter 초기화
@@ -41,27 +108,59 @@ public class SplitShardedSubBloomFilterRedisHandler {
     /**
      * 값 추가
      * - 현재 활성화된 서브 필터에 데이터 저장
-     * - 데이터가 가득 찼다면 신규 서브 필터 생성 시도
+     * - 데이터 개수는 로컬에 누적하고, 서브 필터 추가는 백그라운드에서 처리
      */
     public void add(SplitShardedSubBloomFilter splitShardedSubBloomFilter, String value) {
-        int subFilterCount = findSubFilterCount(splitShardedSubBloomFilter);
+        SubFilterMetadata metadata = findMetadata(splitShardedSubBloomFilter);
         SplitShardedBloomFilter activated =
-                splitShardedSubBloomFilter.findActivatedFilter(subFilterCount);
+                splitShardedSubBloomFilter.findActivatedFilter(metadata.subFilterCount);
 
         splitShardedBloomFilterRedisHandler.add(activated, value);
 
-        // 데이터 개수 증가
-        Long dataCount = redisTemplate.opsForValue()
-                .increment(genDataCountKey(activated));
+        metadata.pendingDataCount(activated).increment();
+    }
+
+    /**
+     * 여러 값 일괄 추가
+     * - 모든 값을 현재 활성화된 서브 필터에 저장
+     * - 데이터 개수는 로컬에 누적하고, 서브 필터 추가는 백그라운드에서 처리
+     */
+    public void addAll(SplitShardedSubBloomFilter splitShardedSubBloomFilter, List<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        SubFilterMetadata metadata = findMetadata(splitShardedSubBloomFilter);
+        SplitShardedBloomFilter activated =
+                splitShardedSubBloomFilter.findActivatedFilter(metadata.subFilterCount);
+
+        splitShardedBloomFilterRedisHandler.addAll(activated, values);
 
-        // 필터가 가득 찼으면 서브 필터 추가
-        appendSubFilterIfFull(splitShardedSubBloomFilter, activated, dataCount);
+        metadata.pendingDataCount(activated).add(values.size());
     }
 
     /**
-     * 현재 생성된 서브 필터 개수 조회
+     * 로컬에 캐시된 서브 필터 개수 조회
      */
     private int findSubFilterCount(SplitShardedSubBloomFilter splitShardedSubBloomFilter) {
+        return findMetadata(splitShardedSubBloomFilter).subFilterCount;
+    }
+
+    /**
+     * 최초 접근 시에만 Redis에서 서브 필터 개수를 읽어 로컬 메타 데이터를 만든다.
+     */
+    private SubFilterMetadata findMetadata(SplitShardedSubBloomFilter splitShardedSubBloomFilter) {
+        return metadatas.computeIfAbsent(splitShardedSubBloomFilter.getId(), id -> {
+            SubFilterMetadata metadata = new SubFilterMetadata(splitShardedSubBloomFilter);
+            metadata.subFilterCount = readSubFilterCount(splitShardedSubBloomFilter);
+            return metadata;
+        });
+    }
+
+    /**
+     * Redis에 저장된 서브 필터 개수 조회 (노드 간 기준 값)
+     */
+    private int readSubFilterCount(SplitShardedSubBloomFilter splitShardedSubBloomFilter) {
         String result = redisTemplate.opsForValue()
                 .get(genSubFilterCountKey(splitShardedSubBloomFilter));
 
@@ -72,32 +171,87 @@ public class SplitShardedSubBloomFilterRedisHandler {
     }
 
     /**
-     * 활성화된 필터가 가득 찼을 경우
+     * 다른 노드(또는 자신)에서 서브 필터 개수가 변경되었다는 알림 수신
+     */
+    private void onSubFilterCountChanged(String id) {
+        SubFilterMetadata metadata = metadatas.get(id);
+        if (metadata == null) {
+            return;
+        }
+        try {
+            refreshSubFilterCount(metadata);
+        } catch (Exception e) {
+            log.error("[SplitShardedSubBloomFilterRedisHandler.onSubFilterCountChanged] id={}", id, e);
+        }
+    }
+
+    private void refreshSubFilterCount(SubFilterMetadata metadata) {
+        int subFilterCount = readSubFilterCount(metadata.filter);
+        if (metadata.subFilterCount != subFilterCount) {
+            metadata.subFilterCount = subFilterCount;
+            metadata.activatedDataCount = 0;
+        }
+    }
+
+    private void maintainAll() {
+        for (SubFilterMetadata metadata : metadatas.values()) {
+            try {
+                flushDataCounts(metadata);
+                refreshSubFilterCount(metadata);
+                appendSubFilterIfNearlyFull(metadata);
+            } catch (Exception e) {
+                log.error("[SplitShardedSubBloomFilterRedisHandler.maintainAll] id={}", metadata.filter.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * 로컬에 누적된 데이터 개수를 Redis에 반영
+     * - 활성 필터의 데이터 개수(모든 노드 합계)는 서브 필터 추가 여부 판단에 사용
+     */
+    private void flushDataCounts(SubFilterMetadata metadata) {
+        String activatedDataCountKey = genDataCountKey(
+                metadata.filter.findActivatedFilter(metadata.subFilterCount)
+        );
+        for (Map.Entry<String, LongAdder> entry : metadata.pendingDataCounts.entrySet()) {
+            long pending = entry.getValue().sumThenReset();
+            if (pending == 0) {
+                continue;
+            }
+            Long dataCount = redisTemplate.opsForValue().increment(entry.getKey(), pending);
+            if (dataCount != null && entry.getKey().equals(activatedDataCountKey)) {
+                metadata.activatedDataCount = dataCount;
+            }
+        }
+    }
+
+    /**
+     * 활성화된 필터가 거의 찼을 경우
      * - 분산 락을 획득한 뒤 신규 서브 필터를 생성
+     * - 서브 필터 개수를 증가시키고 다른 노드에 알림
      */
-    private void appendSubFilterIfFull(
-            SplitShardedSubBloomFilter splitShardedSubBloomFilter,
-            SplitShardedBloomFilter activated,
-            Long dataCount
-    ) {
-        if (!isFull(activated, dataCount)) {
+    private void appendSubFilterIfNearlyFull(SubFilterMetadata metadata) {
+        SplitShardedSubBloomFilter splitShardedSubBloomFilter = metadata.filter;
+        int subFilterCount = metadata.subFilterCount;
+        SplitShardedBloomFilter activated = splitShardedSubBloomFilter.findActivatedFilter(subFilterCount);
+
+        if (!isNearlyFull(activated, metadata.activatedDataCount)
+                || !splitShardedSubBloomFilter.isGrowable(subFilterCount)) {
             return;
         }
 
         String distributedLockKey =
                 genSubFilterCountDistributedLockKey(splitShardedSubBloomFilter);
 
-        if (!distributedLockProvider.lock(distributedLockKey, Duration.ofMinutes(1))) {
+        String lockToken = distributedLockProvider.lockOrNull(distributedLockKey, Duration.ofMinutes(1));
+        if (lockToken == null) {
             return;
         }
 
         try {
-            int subFilterCount = findSubFilterCount(splitShardedSubBloomFilter);
-
-            // 서브 필터 최대 개수 초과 방지
-            if (subFilterCount >= MAX_SUB_FILTER_COUNT) {
-                log.warn("sub-filter limit reached. id = {}, subFilterCount = {}",
-                        splitShardedSubBloomFilter.getId(), subFilterCount);
+            // 락을 획득하기 전에 다른 노드에서 이미 추가했다면 로컬 값만 갱신
+            if (readSubFilterCount(splitShardedSubBloomFilter) != subFilterCount) {
+                refreshSubFilterCount(metadata);
                 return;
             }
 
@@ -106,34 +260,79 @@ public class SplitShardedSubBloomFilterRedisHandler {
                     splitShardedSubBloomFilter.findSubFilter(subFilterCount)
             );
 
-            // 서브 필터 개수 증가
-            redisTemplate.opsForValue()
+            // 서브 필터 개수 증가 후 로컬에 바로 반영하고 다른 노드에 알림
+            Long increased = redisTemplate.opsForValue()
                     .increment(genSubFilterCountKey(splitShardedSubBloomFilter));
+            if (increased != null) {
+                metadata.subFilterCount = increased.intValue();
+                metadata.activatedDataCount = 0;
+            }
+            redisTemplate.convertAndSend(SUB_FILTER_COUNT_CHANNEL, splitShardedSubBloomFilter.getId());
+
+            log.info("[SplitShardedSubBloomFilterRedisHandler.appendSubFilterIfNearlyFull] id={}, subFilterCount={}",
+                    splitShardedSubBloomFilter.getId(), metadata.subFilterCount);
         } finally {
-            distributedLockProvider.unlock(distributedLockKey);
+            distributedLockProvider.unlock(distributedLockKey, lockToken);
         }
     }
 
     /**
-     * BloomFilter 용량 초과 여부 판단
+     * BloomFilter 용량 임계치 도달 여부 판단
      */
-    private boolean isFull(SplitShardedBloomFilter activated, Long dataCount) {
-        return dataCount != null && activated.getDataCount() <= dataCount;
+    private boolean isNearlyFull(SplitShardedBloomFilter activated, long dataCount) {
+        return activated.getDataCount() * GROWTH_THRESHOLD <= dataCount;
     }
 
     /**
      * 모든 서브 필터를 대상으로 포함 여부 확인
+     * - 모든 서브 필터의 Shard 조회를 하나의 파이프라인으로 실행
+     *   (서브 필터 별로 파이프라인을 실행하지 않으므로, 서브 필터가 늘어나도 네트워크 왕복은 1회)
      */
     public boolean mightContain(
             SplitShardedSubBloomFilter splitShardedSubBloomFilter,
             String value
+    ) {
+        return mightContainAll(splitShardedSubBloomFilter, List.of(value)).get(value);
+    }
+
+    /**
+     * Lua 스크립트로 모든 서브 필터를 대상으로 포함 여부 확인
+     * - 스크립트 1회 (서브 필터 개수는 로컬 캐시를 사용하므로 서브 필터 수와 관계없이 일정)
+     * - 포함 가능한 서브 필터를 찾으면 나머지 서브 필터는 조회하지 않음
+     * - 로컬에 캐시된 개수가 아직 반영되지 않았을 수 있으므로, 다음 서브 필터까지 함께 조회
+     */
+    public boolean mightContainByScript(
+            SplitShardedSubBloomFilter splitShardedSubBloomFilter,
+            String value
     ) {
         int subFilterCount = findSubFilterCount(splitShardedSubBloomFilter);
 
-        return splitShardedSubBloomFilter.findAll(subFilterCount).stream()
-                .anyMatch(splitShardedBloomFilter ->
-                        splitShardedBloomFilterRedisHandler
-                                .mightContain(splitShardedBloomFilter, value));
+        return splitBloomFilterRedisHandler.mightContainAnyByScript(
+                splitShardedSubBloomFilter.findAllForLookup(subFilterCount).stream()
+                        .map(filter -> filter.findShard(value))
+                        .toList(),
+                value
+        );
+    }
+
+    /**
+     * 여러 값에 대해 모든 서브 필터를 대상으로 포함 여부 확인
+     * - 모든 서브 필터의 Shard 조회를 하나의 파이프라인으로 실행
+     * - 로컬에 캐시된 개수가 아직 반영되지 않았을 수 있으므로, 다음 서브 필터까지 함께 조회
+     */
+    public Map<String, Boolean> mightContainAll(
+            SplitShardedSubBloomFilter splitShardedSubBloomFilter,
+            List<String> values
+    ) {
+        int subFilterCount = findSubFilterCount(splitShardedSubBloomFilter);
+        List<SplitShardedBloomFilter> filters = splitShardedSubBloomFilter.findAllForLookup(subFilterCount);
+
+        return splitBloomFilterRedisHandler.mightContainAny(
+                values,
+                value -> filters.stream()
+                        .map(filter -> filter.findShard(value))
+                        .toList()
+        );
     }
 
     /**
@@ -150,12 +349,15 @@ public class SplitShardedSubBloomFilterRedisHandler {
         }
 
         redisTemplate.delete(genSubFilterCountKey(splitShardedSubBloomFilter));
+
+        metadatas.remove(splitShardedSubBloomFilter.getId());
+        redisTemplate.convertAndSend(SUB_FILTER_COUNT_CHANNEL, splitShardedSubBloomFilter.getId());
     }
 
     /**
      * 서브 필터별 데이터 개수 저장 키
      */
-    private String genDataCountKey(SplitShardedBloomFilter splitShardedBloomFilter) {
+    private static String genDataCountKey(SplitShardedBloomFilter splitShardedBloomFilter) {
         return "split-sharded-sub-bloom-filter:data-count:%s"
                 .formatted(splitShardedBloomFilter.getId());
     }
@@ -178,4 +380,28 @@ public class SplitShardedSubBloomFilterRedisHandler {
                 .formatted(splitShardedSubBloomFilter.getId());
     }
 
+    /**
+     * Sub Bloom Filter 별 로컬 메타 데이터
+     */
+    private static class SubFilterMetadata {
+        private final SplitShardedSubBloomFilter filter;
+
+        // 로컬에 캐시된 서브 필터 개수 (기준 값은 Redis)
+        private volatile int subFilterCount;
+
+        // 마지막으로 반영된 활성 필터의 데이터 개수 (모든 노드 합계)
+        private volatile long activatedDataCount;
+
+        // 데이터 개수 키 → Redis에 아직 반영하지 않은 데이터 개수
+        private final ConcurrentHashMap<String, LongAdder> pendingDataCounts = new ConcurrentHashMap<>();
+
+        private SubFilterMetadata(SplitShardedSubBloomFilter filter) {
+            this.filter = filter;
+        }
+
+        private LongAdder pendingDataCount(SplitShardedBloomFilter activated) {
+            return pendingDataCounts.computeIfAbsent(genDataCountKey(activated), key -> new LongAdder());
+        }
+    }
+
 }
@@ -0,0 +1,49 @@
+package com.example.cache.service.strategy.springcacheannotation;
+
+import com.example.cache.serde.DataCompressor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.zip.DataFormatException;
+
+/**
+ * 직렬화 결과가 임계값 이상이면 압축하는 RedisSerializer
+ * <p>
+ * - 압축 형식과 헤더는 DataCompressor와 같으므로, 압축된 값과 압축되지 않은 값(기존 값)이 섞여 있어도 읽을 수 있다.
+ *   (GenericJackson2JsonRedisSerializer의 결과는 JSON 텍스트이므로 첫 byte가 압축 헤더와 겹치지 않음)
+ */
+@RequiredArgsConstructor
+public class CompressingRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final RedisSerializer<T> delegate;
+    private final DataCompressor compressor;
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        byte[] serialized = delegate.serialize(value);
+        if (serialized == null) {
+            return null;
+        }
+        return compressor.compressIfLarge(serialized);
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || !DataCompressor.isCompressed(bytes, 0, bytes.length)) {
+            return delegate.deserialize(bytes);
+        }
+        byte[] decompressed;
+        try {
+            decompressed = DataCompressor.decompress(bytes, 0, bytes.length);
+        } catch (DataFormatException e) {
+            throw new SerializationException("Cannot decompress cached value. length=" + bytes.length, e);
+        }
+        return delegate.deserialize(decompressed);
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return delegate.getTargetType();
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.cache.service.strategy.springcacheannotation;
 
+import com.example.cache.common.cache.CustomCacheDataCodecRegistry;
+import com.example.cache.serde.DataCompressor;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,12 +28,23 @@ public class SpringCacheConfig {
 				)
 			);
 
+		// 목록 데이터는 pageSize에 비례해서 커지므로, 임계값 이상이면 압축해서 저장
+		RedisCacheConfiguration compressedCacheConfig = defaultCacheConfig
+			.serializeValuesWith(
+				RedisSerializationContext.SerializationPair.fromSerializer(
+					new CompressingRedisSerializer<>(
+						new GenericJackson2JsonRedisSerializer(),
+						DataCompressor.deflate(CustomCacheDataCodecRegistry.COMPRESSION_THRESHOLD_BYTES)
+					)
+				)
+			);
+
 		return RedisCacheManager.builder(connectionFactory)
 			.withInitialCacheConfigurations(
 				Map.of( // key로 들어가는 값은 cacheNames의 값
 					"item", defaultCacheConfig.entryTtl(Duration.ofSeconds(1)),
-					"itemList", defaultCacheConfig.entryTtl(Duration.ofSeconds(1)),
-					"itemListInfiniteScroll", defaultCacheConfig.entryTtl(Duration.ofSeconds(1))
+					"itemList", compressedCacheConfig.entryTtl(Duration.ofSeconds(1)),
+					"itemListInfiniteScroll", compressedCacheConfig.entryTtl(Duration.ofSeconds(1))
 				)
 			)
 			.build();
@@ -0,0 +1,94 @@
+package com.example.cache.service.strategy.stalewhilerevalidate;
+
+import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.common.cache.CustomCacheBatchFetcher;
+import com.example.cache.common.cache.CustomCacheEvict;
+import com.example.cache.common.cache.CustomCachePut;
+import com.example.cache.common.cache.CustomCacheable;
+import com.example.cache.model.ItemCreateRequest;
+import com.example.cache.model.ItemUpdateRequest;
+import com.example.cache.service.ItemCacheService;
+import com.example.cache.service.ItemService;
+import com.example.cache.service.response.ItemPageResponse;
+import com.example.cache.service.response.ItemResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ItemStaleWhileRevalidateCacheService implements ItemCacheService {
+    private final ItemService itemService;
+    private final CustomCacheBatchFetcher customCacheBatchFetcher;
+
+    // 단건 조회(read)와 일괄 조회(readAll)가 같은 캐시 데이터를 공유하도록 한 곳에서 정의한다.
+    private static final String ITEM_CACHE_NAME = "item";
+    private static final long ITEM_CACHE_TTL_SECONDS = 5;
+
+    @Override
+    @CustomCacheable(
+            cacheStrategy = CacheStrategy.STALE_WHILE_REVALIDATE,
+            cacheName = ITEM_CACHE_NAME,
+            key = "#itemId",
+            ttlSeconds = ITEM_CACHE_TTL_SECONDS
+    )
+    public ItemResponse read(Long itemId) {
+        return itemService.read(itemId);
+    }
+
+    @Override
+    public ItemPageResponse readAll(Long page, Long pageSize) {
+        return itemService.readAll(page, pageSize);
+    }
+
+    @Override
+    public List<ItemResponse> readAll(List<Long> itemIds) {
+        return customCacheBatchFetcher.fetchAll(
+                CacheStrategy.STALE_WHILE_REVALIDATE,
+                ITEM_CACHE_NAME,
+                Duration.ofSeconds(ITEM_CACHE_TTL_SECONDS),
+                itemIds,
+                itemService::readAllAsMap,
+                ItemResponse.class
+        );
+    }
+
+    @Override
+    public ItemPageResponse readAllInfiniteScroll(Long lastItemId, Long pageSize) {
+        return itemService.readAllInfiniteScroll(lastItemId, pageSize);
+    }
+
+    @Override
+    public ItemResponse create(ItemCreateRequest request) {
+        return itemService.create(request);
+    }
+
+    @Override
+    @CustomCachePut(
+            cacheStrategy = CacheStrategy.STALE_WHILE_REVALIDATE,
+            cacheName = ITEM_CACHE_NAME,
+            key = "#itemId",
+            ttlSeconds = ITEM_CACHE_TTL_SECONDS
+    )
+    public ItemResponse update(Long itemId, ItemUpdateRequest request) {
+        return itemService.update(itemId, request);
+    }
+
+    @Override
+    @CustomCacheEvict(
+            cacheStrategy = CacheStrategy.STALE_WHILE_REVALIDATE,
+            cacheName = ITEM_CACHE_NAME,
+            key = "#itemId"
+    )
+    public void delete(Long itemId) {
+        itemService.delete(itemId);
+    }
+
+    @Override
+    public boolean supports(CacheStrategy cacheStrategy) {
+        return CacheStrategy.STALE_WHILE_REVALIDATE == cacheStrategy;
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.example.cache.service.strategy.stalewhilerevalidate;
+
+import com.example.cache.serde.DataCodec;
+import com.example.cache.serde.DataCompressor;
+import com.example.cache.serde.DataSerializer;
+import com.example.cache.serde.DataType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Stale-While-Revalidate 캐시 엔트리
+ * <p>
+ * 저장 형식: [version(1)][expiredAtMillis(8)][payload]
+ * - payload는 DataSerializer가 codec으로 직렬화한 byte[]를 그대로 이어 붙인다. (압축될 수 있음)
+ * - 만료 여부는 고정 크기 헤더만 읽어서 판단하고, payload는 실제로 반환할 때만 역직렬화한다.
+ */
+@Getter
+@ToString(exclude = "bytes")
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class StaleCacheData {
+
+    // 저장 형식 버전 (이전 형식(JSON 문자열)의 첫 byte '{'와 겹치지 않는 값)
+    public static final byte FORMAT_VERSION = 0x01;
+
+    public static final int HEADER_SIZE = 1 + Long.BYTES;
+
+    // 헤더 + payload (Redis에 저장되는 값 그대로)
+    @Getter(AccessLevel.NONE)
+    private byte[] bytes;
+
+    // 데이터가 최신(fresh)으로 취급되는 만료 시점. 이후에는 stale 데이터로 취급된다.
+    private long expiredAtMillis;
+
+    /*
+        캐시 데이터 생성
+
+        - data: 실제 비즈니스 데이터
+        - ttl: 데이터가 최신으로 취급되는 기간 (Redis에는 이보다 긴 stale TTL로 저장됨)
+    */
+    public static StaleCacheData of(
+            Object data,
+            Duration ttl,
+            DataCodec codec,
+            DataCompressor compressor,
+            DataType<?> dataType
+    ) {
+        StaleCacheData staleCacheData = new StaleCacheData();
+        staleCacheData.expiredAtMillis = Instant.now().plus(ttl).toEpochMilli();
+
+        byte[] header = ByteBuffer.allocate(HEADER_SIZE)
+                .put(FORMAT_VERSION)
+                .putLong(staleCacheData.expiredAtMillis)
+                .array();
+        staleCacheData.bytes = DataSerializer.serializeOrException(header, data, codec, compressor, dataType);
+        return staleCacheData;
+    }
+
+    /*
+        저장된 값에서 헤더만 읽는다. (payload는 역직렬화하지 않음)
+
+        - 값이 없거나, 헤더 크기보다 작거나, 형식 버전이 다르면 null
+     */
+    public static StaleCacheData parseOrNull(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_SIZE || bytes[0] != FORMAT_VERSION) {
+            return null;
+        }
+        StaleCacheData staleCacheData = new StaleCacheData();
+        staleCacheData.bytes = bytes;
+        staleCacheData.expiredAtMillis = ByteBuffer.wrap(bytes).getLong(1);
+        return staleCacheData;
+    }
+
+    /*
+        Redis에 저장할 값 (헤더 + payload)
+     */
+    public byte[] toBytes() {
+        return bytes;
+    }
+
+    public int getDataSize() {
+        return bytes.length - HEADER_SIZE;
+    }
+
+    /*
+        payload를 요청 타입으로 역직렬화
+     */
+    public <T> T parseData(Class<T> clazz) {
+        return parseData(DataType.of(clazz));
+    }
+
+    public <T> T parseData(DataType<T> dataType) {
+        return DataSerializer.deserializeOrNull(bytes, HEADER_SIZE, getDataSize(), dataType);
+    }
+
+    /*
+        최신 데이터 만료 여부 (만료되어도 stale TTL 동안은 Redis에 남아있다)
+     */
+    public boolean isExpired() {
+        return Instant.now().toEpochMilli() >= expiredAtMillis;
+    }
+
+}
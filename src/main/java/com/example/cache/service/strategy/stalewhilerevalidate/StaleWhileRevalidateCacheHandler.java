@@ -0,0 +1,266 @@
+package com.example.cache.service.strategy.stalewhilerevalidate;
+
+import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.common.cache.CustomCacheDataCodecRegistry;
+import com.example.cache.common.cache.CustomCacheHandler;
+import com.example.cache.common.distributedlock.DistributedLockProvider;
+import com.example.cache.serde.DataType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Stale-While-Revalidate + 분산 락 기반 캐시 핸들러
+ * <p>
+ * - 데이터는 ttl 동안 최신(fresh)으로 취급되고, 이후 STALE_TTL 동안은 stale 데이터로 Redis에 남아있다.
+ * - 만료된 key는 분산 락을 획득한 1개의 요청(노드)만 재계산한다.
+ * - 락을 획득하지 못한 요청은 stale 데이터를 그대로 응답하고,
+ *   stale 데이터조차 없다면 재계산 결과가 저장될 때까지 제한된 시간 동안 기다린다.
+ * - 여러 노드에서 동시에 Hot Key가 만료되어도 Data Source 조회는 1번만 발생한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaleWhileRevalidateCacheHandler implements CustomCacheHandler {
+
+    // StaleCacheData는 바이너리 헤더 + payload 형식이므로 byte[]로 읽고 쓴다.
+    private final RedisTemplate<String, byte[]> bytesRedisTemplate;
+    private final CustomCacheDataCodecRegistry customCacheDataCodecRegistry;
+    private final DistributedLockProvider distributedLockProvider;
+
+    // fresh TTL 이후에도 stale 데이터를 보관하는 시간
+    private static final Duration STALE_TTL = Duration.ofSeconds(60);
+
+    // 재계산 락 TTL (재계산 노드가 비정상 종료되어도 이 시간 이후에는 다른 노드가 재계산할 수 있다)
+    private static final Duration REFRESH_LOCK_TTL = Duration.ofSeconds(3);
+
+    // stale 데이터가 없을 때 재계산 결과를 기다리는 최대 시간 및 조회 간격
+    private static final Duration REFRESH_WAIT_TIMEOUT = Duration.ofSeconds(1);
+    private static final long REFRESH_WAIT_INTERVAL_MILLIS = 50;
+
+    @Override
+    public <T> T fetch(String cacheName, String key, Duration ttl, Supplier<T> dataSourceSupplier, DataType<T> dataType) {
+        // 1. 캐시 조회 → fresh 데이터라면 즉시 반환
+        StaleCacheData cacheData = read(key);
+        T fresh = parseFreshOrNull(cacheData, dataType);
+        if (fresh != null) {
+            return fresh;
+        }
+
+        // 2. 만료(또는 미존재) → 분산 락을 획득한 요청만 재계산
+        String lockToken = distributedLockProvider.lockOrNull(genRefreshLockKey(key), REFRESH_LOCK_TTL);
+        if (lockToken != null) {
+            try {
+                // 락 대기 중 다른 노드가 이미 갱신했을 수 있으므로 다시 확인
+                T refreshed = parseFreshOrNull(read(key), dataType);
+                if (refreshed != null) {
+                    return refreshed;
+                }
+                return refresh(cacheName, key, ttl, dataSourceSupplier, dataType);
+            } finally {
+                distributedLockProvider.unlock(genRefreshLockKey(key), lockToken);
+            }
+        }
+
+        // 3. 다른 노드가 재계산 중 → stale 데이터 응답
+        T stale = cacheData == null ? null : cacheData.parseData(dataType);
+        if (stale != null) {
+            log.info("[StaleWhileRevalidateCacheHandler.fetch] serve stale data. key={}", key);
+            return stale;
+        }
+
+        // 4. stale 데이터도 없음 → 재계산 결과를 제한된 시간 동안 대기
+        return waitForRefresh(key, dataSourceSupplier, dataType);
+    }
+
+    /**
+     * Stale-While-Revalidate 기반 일괄 조회
+     * <p>
+     * - 캐시는 MGET 1회로 조회하고, fresh 데이터는 그대로 반환한다.
+     * - 만료된(stale) key는 재계산 락을 파이프라인 1회로 획득하고, 락을 획득하지 못한 key는 stale 데이터를 응답한다.
+     * - 캐시에 없는 key와 락을 획득한 stale key를 모아서 missLoader로 한 번에 조회하고, 파이프라인 1회로 저장한다.
+     * - 캐시에 없는 key는 응답할 stale 데이터가 없으므로 락 없이 조회한다. (같은 노드의 동시 요청은 CustomCacheSingleFlight가 합침)
+     */
+    @Override
+    public <T> Map<String, T> fetchAll(
+            String cacheName,
+            List<String> keys,
+            Duration ttl,
+            Function<List<String>, Map<String, T>> missLoader,
+            DataType<T> dataType
+    ) {
+        // 1. 캐시 일괄 조회 (MGET 1회)
+        List<byte[]> cachedValues = bytesRedisTemplate.opsForValue().multiGet(keys);
+
+        Map<String, T> cachedData = new LinkedHashMap<>();
+        Map<String, StaleCacheData> staleCacheData = new LinkedHashMap<>();
+        List<String> refreshKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            StaleCacheData cacheData = StaleCacheData.parseOrNull(cachedValues == null ? null : cachedValues.get(i));
+            if (cacheData != null && cacheData.isExpired()) {
+                staleCacheData.put(key, cacheData);
+                continue;
+            }
+            T fresh = parseFreshOrNull(cacheData, dataType);
+            if (fresh == null) {
+                refreshKeys.add(key);
+            } else {
+                cachedData.put(key, fresh);
+            }
+        }
+
+        // 2. stale key의 재계산 락 일괄 획득 (파이프라인 1회). 락을 획득하지 못한 key는 stale 데이터 응답
+        Map<String, String> lockTokens = distributedLockProvider.lockAll(
+                staleCacheData.keySet().stream().map(this::genRefreshLockKey).toList(),
+                REFRESH_LOCK_TTL
+        );
+        staleCacheData.forEach((key, cacheData) -> {
+            T stale = lockTokens.containsKey(genRefreshLockKey(key)) ? null : cacheData.parseData(dataType);
+            if (stale == null) {
+                refreshKeys.add(key);
+            } else {
+                cachedData.put(key, stale);
+            }
+        });
+
+        // 3. 재계산 대상 key만 Data Source 일괄 조회 후 일괄 갱신 (파이프라인 1회)
+        Map<String, T> sourceResults = Map.of();
+        try {
+            if (!refreshKeys.isEmpty()) {
+                sourceResults = missLoader.apply(refreshKeys);
+                putAll(cacheName, sourceResults, ttl, dataType);
+            }
+        } finally {
+            distributedLockProvider.unlockAll(lockTokens);
+        }
+
+        // 4. 요청한 key 순서대로 병합
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            T data = cachedData.containsKey(key) ? cachedData.get(key) : sourceResults.get(key);
+            if (data != null) {
+                result.put(key, data);
+            }
+        }
+        return result;
+    }
+
+    private <T> T waitForRefresh(String key, Supplier<T> dataSourceSupplier, DataType<T> dataType) {
+        long deadline = Instant.now().plus(REFRESH_WAIT_TIMEOUT).toEpochMilli();
+        while (Instant.now().toEpochMilli() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(REFRESH_WAIT_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            T refreshed = parseFreshOrNull(read(key), dataType);
+            if (refreshed != null) {
+                return refreshed;
+            }
+        }
+
+        // 대기 시간 초과 → Data Source 직접 조회 (캐시는 갱신하지 않음)
+        log.warn("[StaleWhileRevalidateCacheHandler.waitForRefresh] timeout. key={}", key);
+        return dataSourceSupplier.get();
+    }
+
+    private <T> T refresh(String cacheName, String key, Duration ttl, Supplier<T> dataSourceSupplier, DataType<T> dataType) {
+        T sourceResult = dataSourceSupplier.get();
+        put(cacheName, key, ttl, sourceResult, dataType);
+        return sourceResult;
+    }
+
+    /**
+     * 헤더만 읽는다. (payload는 반환할 때만 역직렬화, 이전 형식은 null)
+     */
+    private StaleCacheData read(String key) {
+        return StaleCacheData.parseOrNull(bytesRedisTemplate.opsForValue().get(key));
+    }
+
+    private <T> T parseFreshOrNull(StaleCacheData cacheData, DataType<T> dataType) {
+        if (cacheData == null || cacheData.isExpired()) {
+            return null;
+        }
+        return cacheData.parseData(dataType);
+    }
+
+    @Override
+    public void put(String cacheName, String key, Duration ttl, Object value) {
+        put(cacheName, key, ttl, value, DataType.OBJECT);
+    }
+
+    private void put(String cacheName, String key, Duration ttl, Object value, DataType<?> dataType) {
+        StaleCacheData staleCacheData = StaleCacheData.of(
+                value,
+                ttl,
+                customCacheDataCodecRegistry.find(cacheName),
+                customCacheDataCodecRegistry.findCompressor(cacheName),
+                dataType
+        );
+        // Redis에는 fresh TTL + stale TTL 동안 보관
+        bytesRedisTemplate.opsForValue().set(key, staleCacheData.toBytes(), ttl.plus(STALE_TTL));
+    }
+
+    /**
+     * 여러 데이터를 파이프라인으로 한 번에 저장한다. (null 데이터는 저장하지 않음)
+     */
+    private void putAll(String cacheName, Map<String, ?> values, Duration ttl, DataType<?> dataType) {
+        Map<String, byte[]> serializedValues = new LinkedHashMap<>();
+        values.forEach((key, value) -> {
+            if (value != null) {
+                serializedValues.put(key, StaleCacheData.of(
+                        value,
+                        ttl,
+                        customCacheDataCodecRegistry.find(cacheName),
+                        customCacheDataCodecRegistry.findCompressor(cacheName),
+                        dataType
+                ).toBytes());
+            }
+        });
+        if (serializedValues.isEmpty()) {
+            return;
+        }
+
+        // Redis에는 fresh TTL + stale TTL 동안 보관
+        long storeTtlMillis = ttl.plus(STALE_TTL).toMillis();
+        bytesRedisTemplate.executePipelined((RedisCallback<?>) connection -> {
+            serializedValues.forEach((key, value) -> connection.stringCommands().pSetEx(
+                    key.getBytes(StandardCharsets.UTF_8),
+                    storeTtlMillis,
+                    value
+            ));
+            return null;
+        });
+    }
+
+    @Override
+    public void evict(String key) {
+        bytesRedisTemplate.delete(key);
+    }
+
+    @Override
+    public boolean supports(CacheStrategy cacheStrategy) {
+        return CacheStrategy.STALE_WHILE_REVALIDATE == cacheStrategy;
+    }
+
+    private String genRefreshLockKey(String key) {
+        return "stale-while-revalidate:refresh:%s".formatted(key);
+    }
+
+}
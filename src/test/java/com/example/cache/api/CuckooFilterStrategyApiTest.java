@@ -0,0 +1,54 @@
+package com.example.cache.api;
+
+import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.model.ItemCreateRequest;
+import com.example.cache.service.response.ItemResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class CuckooFilterStrategyApiTest {
+
+    static final CacheStrategy CACHE_STRATEGY = CacheStrategy.CUCKOO_FILTER;
+
+    @Test
+    @DisplayName("Cuckoo Filter 전략에서 존재하지 않는 ID 대량 조회 시 Cache Penetration이 발생하지 않는다")
+    void test() {
+        // 실제 존재하는 데이터 1,000개 생성
+        for (int i = 0; i < 1000; i++) {
+            ItemApiTestUtils.create(CACHE_STRATEGY, new ItemCreateRequest("data" + i));
+        }
+
+        // 존재하지 않는 데이터 10,000개 조회
+        // 어플리케이션 로그에서 '[ItemRepository.read]'을 검색해보면 100여개 정도만 로그가 찍혀있음.
+        // 없는 데이터에 대해서 DB로 요청이 가지 않은 것을 확인하는 테스트
+        for (long itemId = 10000; itemId < 20000; itemId++) {
+            ItemApiTestUtils.read(CACHE_STRATEGY, itemId);
+        }
+    }
+
+    @Test
+    @DisplayName("Cuckoo Filter 전략에서 삭제된 ID 조회 시 Cache Penetration이 발생하지 않는다")
+    void delete() {
+        List<Long> itemIds = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ItemResponse itemResponse = ItemApiTestUtils.create(CACHE_STRATEGY, new ItemCreateRequest("data" + i));
+            itemIds.add(itemResponse.itemId());
+        }
+
+        for (Long itemId : itemIds) {
+            ItemApiTestUtils.delete(CACHE_STRATEGY, itemId);
+        }
+
+        // 삭제된 데이터 1,000개 조회
+        // BLOOM_FILTER 전략은 삭제 후에도 필터에 남아있어 모든 요청이 DB로 전달되지만,
+        // CUCKOO_FILTER 전략은 어플리케이션 로그에서 '[ItemRepository.read]'가 거의 찍히지 않음.
+        for (Long itemId : itemIds) {
+            ItemApiTestUtils.read(CACHE_STRATEGY, itemId);
+        }
+    }
+
+}
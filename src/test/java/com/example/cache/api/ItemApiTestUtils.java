@@ -5,8 +5,12 @@ import com.example.cache.model.ItemCreateRequest;
 import com.example.cache.model.ItemUpdateRequest;
 import com.example.cache.service.response.ItemPageResponse;
 import com.example.cache.service.response.ItemResponse;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.client.RestClient;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class ItemApiTestUtils {
     static RestClient restClient = RestClient.create("http://localhost:8080");
 
@@ -24,6 +28,17 @@ public class ItemApiTestUtils {
                 .body(ItemPageResponse.class);
     }
 
+    static List<ItemResponse> readAll(CacheStrategy cacheStrategy, List<Long> itemIds) {
+        return restClient.get()
+                .uri("/cache-strategy/%s/items/batch?itemIds=%s".formatted(
+                        cacheStrategy.name(),
+                        itemIds.stream().map(String::valueOf).collect(Collectors.joining(","))
+                ))
+                .retrieve()
+                .body(new ParameterizedTypeReference<>() {
+                });
+    }
+
     static ItemPageResponse readAllInfiniteScroll(CacheStrategy cacheStrategy, Long lastItemId, long pageSize) {
         return restClient.get()
                 .uri(
@@ -0,0 +1,40 @@
+package com.example.cache.api;
+
+import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.model.ItemCreateRequest;
+import com.example.cache.service.response.ItemResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class ItemBatchReadApiTest {
+
+    @Test
+    @DisplayName("모든 캐시 전략에서 여러 item을 한 번의 요청으로 조회한다")
+    void readAll() {
+        for (CacheStrategy cacheStrategy : CacheStrategy.values()) {
+            // given
+            List<ItemResponse> items = List.of(
+                    ItemApiTestUtils.create(cacheStrategy, new ItemCreateRequest("data1")),
+                    ItemApiTestUtils.create(cacheStrategy, new ItemCreateRequest("data2")),
+                    ItemApiTestUtils.create(cacheStrategy, new ItemCreateRequest("data3"))
+            );
+            List<Long> itemIds = List.of(
+                    items.get(0).itemId(),
+                    items.get(2).itemId() + 1000, // 존재하지 않는 item
+                    items.get(2).itemId(),
+                    items.get(1).itemId()
+            );
+
+            // when
+            List<ItemResponse> first = ItemApiTestUtils.readAll(cacheStrategy, itemIds); // cache miss
+            List<ItemResponse> second = ItemApiTestUtils.readAll(cacheStrategy, itemIds); // cache hit
+
+            // then
+            System.out.println("[" + cacheStrategy + "] first = " + first);
+            System.out.println("[" + cacheStrategy + "] second = " + second);
+        }
+    }
+
+}
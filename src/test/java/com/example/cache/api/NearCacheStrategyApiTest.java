@@ -0,0 +1,38 @@
+package com.example.cache.api;
+
+import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.model.ItemCreateRequest;
+import com.example.cache.model.ItemUpdateRequest;
+import com.example.cache.service.response.ItemResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class NearCacheStrategyApiTest {
+
+    static final CacheStrategy CACHE_STRATEGY = CacheStrategy.NEAR_CACHE;
+
+    @Test
+    @DisplayName("Near Cache 전략에서 반복 조회 시 Redis와 Data Source 접근 없이 L1 캐시에서 응답한다")
+    void test() {
+        // given
+        ItemResponse item = ItemApiTestUtils.create(CACHE_STRATEGY, new ItemCreateRequest("data"));
+
+        // when
+        // 어플리케이션 로그에서 '[ItemRepository.read]'를 검색해보면 최초 1회만 찍혀있음.
+        for (int i = 0; i < 100; i++) {
+            ItemApiTestUtils.read(CACHE_STRATEGY, item.itemId());
+        }
+
+        // then
+        // update 이후에는 L1/L2 모두 최신 데이터로 갱신된다
+        ItemApiTestUtils.update(CACHE_STRATEGY, item.itemId(), new ItemUpdateRequest("updated"));
+        ItemResponse updated = ItemApiTestUtils.read(CACHE_STRATEGY, item.itemId());
+        System.out.println("updated = " + updated);
+
+        // delete 이후에는 L1/L2 모두 무효화된다
+        ItemApiTestUtils.delete(CACHE_STRATEGY, item.itemId());
+        ItemResponse deleted = ItemApiTestUtils.read(CACHE_STRATEGY, item.itemId());
+        System.out.println("deleted = " + deleted);
+    }
+
+}
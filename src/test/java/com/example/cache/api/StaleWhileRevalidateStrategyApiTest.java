@@ -0,0 +1,45 @@
+package com.example.cache.api;
+
+import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.model.ItemCreateRequest;
+import com.example.cache.model.ItemUpdateRequest;
+import com.example.cache.service.response.ItemResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class StaleWhileRevalidateStrategyApiTest {
+
+    static final CacheStrategy CACHE_STRATEGY = CacheStrategy.STALE_WHILE_REVALIDATE;
+
+    @Test
+    @DisplayName("Stale-While-Revalidate 전략에서 캐시가 만료되어도 재계산은 락을 획득한 1개의 요청만 수행한다")
+    void test() throws InterruptedException {
+        // given
+        ItemResponse item = ItemApiTestUtils.create(CACHE_STRATEGY, new ItemCreateRequest("data"));
+
+        // when
+        // 어플리케이션 로그에서 '[ItemRepository.read]'를 검색해보면 만료 주기(5초)마다 1번씩만 찍혀있음.
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < TimeUnit.SECONDS.toNanos(20)) {
+            for (int i = 0; i < 3; i++) {
+                executorService.execute(() -> ItemApiTestUtils.read(CACHE_STRATEGY, item.itemId()));
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        // then
+        ItemApiTestUtils.update(CACHE_STRATEGY, item.itemId(), new ItemUpdateRequest("updated"));
+        ItemResponse updated = ItemApiTestUtils.read(CACHE_STRATEGY, item.itemId());
+        System.out.println("updated = " + updated);
+
+        ItemApiTestUtils.delete(CACHE_STRATEGY, item.itemId());
+        ItemResponse deleted = ItemApiTestUtils.read(CACHE_STRATEGY, item.itemId());
+        System.out.println("deleted = " + deleted);
+    }
+
+}
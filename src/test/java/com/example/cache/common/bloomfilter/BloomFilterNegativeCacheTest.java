@@ -0,0 +1,241 @@
+package com.example.cache.common.bloomfilter;
+
+import com.example.cache.RedisTestContainerSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BloomFilterNegativeCacheTest extends RedisTestContainerSupport {
+
+    @Autowired
+    BloomFilterNegativeCache bloomFilterNegativeCache;
+
+    @Test
+    @DisplayName("\"없음\" 결과는 캐시되어, 같은 값을 다시 조회하면 필터를 조회하지 않는다")
+    void mightContain_shouldCacheNegative() {
+        // given
+        String filterName = genFilterName();
+        AtomicInteger lookupCount = new AtomicInteger();
+
+        // when
+        boolean first = bloomFilterNegativeCache.mightContain(filterName, "value", value -> {
+            lookupCount.incrementAndGet();
+            return false;
+        });
+        boolean second = bloomFilterNegativeCache.mightContain(filterName, "value", value -> {
+            lookupCount.incrementAndGet();
+            return false;
+        });
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(lookupCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("\"있을 수도 있음\" 결과는 캐시하지 않는다")
+    void mightContain_shouldNotCachePositive() {
+        // given
+        String filterName = genFilterName();
+        AtomicInteger lookupCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            bloomFilterNegativeCache.mightContain(filterName, "value", value -> {
+                lookupCount.incrementAndGet();
+                return true;
+            });
+        }
+
+        // then
+        assertThat(lookupCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("값이 추가되어 무효화되면 다시 필터를 조회한다")
+    void invalidate() {
+        // given
+        String filterName = genFilterName();
+        bloomFilterNegativeCache.mightContain(filterName, "value", value -> false);
+
+        // when
+        bloomFilterNegativeCache.invalidate(filterName, "value");
+
+        // then
+        assertThat(bloomFilterNegativeCache.mightContain(filterName, "value", value -> true)).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면, 조회 결과가 오래된 값일 수 있으므로 캐시하지 않는다")
+    void mightContain_shouldNotCache_whenInvalidatedDuringLookup() {
+        // given
+        String filterName = genFilterName();
+
+        // when: 필터 조회(false 응답) 직후, 캐시하기 전에 다른 요청이 값을 추가한 상황
+        boolean result = bloomFilterNegativeCache.mightContain(filterName, "value", value -> {
+            bloomFilterNegativeCache.invalidate(filterName, value);
+            return false;
+        });
+
+        // then: 이번 응답은 false지만, 이후 조회는 다시 필터를 조회
+        assertThat(result).isFalse();
+        assertThat(bloomFilterNegativeCache.mightContain(filterName, "value", value -> true)).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 도중 다른 값이 무효화되어도, 조회한 값의 \"없음\" 결과는 캐시된다")
+    void mightContain_shouldCache_whenOtherValueInvalidatedDuringLookup() {
+        // given
+        String filterName = genFilterName();
+
+        // when: 필터 조회 도중 다른 요청이 다른 값을 추가한 상황
+        bloomFilterNegativeCache.mightContain(filterName, "value", value -> {
+            bloomFilterNegativeCache.invalidate(filterName, "otherValue");
+            return false;
+        });
+
+        // then
+        assertThat(bloomFilterNegativeCache.mightContain(filterName, "value", value -> true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회 도중 필터 전체가 무효화되면 캐시하지 않는다")
+    void mightContainAll_shouldNotCache_whenAllInvalidatedDuringLookup() {
+        // given
+        String filterName = genFilterName();
+
+        // when
+        bloomFilterNegativeCache.mightContainAll(filterName, List.of("value1", "value2"), values -> {
+            bloomFilterNegativeCache.invalidateAll(filterName);
+            return Map.of("value1", false, "value2", false);
+        });
+
+        // then
+        assertThat(bloomFilterNegativeCache.mightContain(filterName, "value1", value -> true)).isTrue();
+        assertThat(bloomFilterNegativeCache.mightContain(filterName, "value2", value -> true)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 값이 추가되었다는 알림을 받으면 무효화된다")
+    void invalidate_byOtherNode() throws InterruptedException {
+        // given
+        String filterName = genFilterName();
+        bloomFilterNegativeCache.mightContain(filterName, "value", value -> false);
+
+        // when: 다른 노드가 발행한 무효화 알림
+        redisTemplate.convertAndSend(BloomFilterNegativeCache.INVALIDATION_CHANNEL, filterName + "\nvalue");
+
+        // then
+        long deadline = System.currentTimeMillis() + 5_000;
+        boolean result = false;
+        while (!result && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            result = bloomFilterNegativeCache.mightContain(filterName, "value", value -> true);
+        }
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터 전체를 무효화하면 해당 필터의 모든 값을 다시 조회하고, 다른 필터는 유지된다")
+    void invalidateAll() {
+        // given
+        String filterName = genFilterName();
+        String otherFilterName = genFilterName();
+        bloomFilterNegativeCache.mightContain(filterName, "value1", value -> false);
+        bloomFilterNegativeCache.mightContain(filterName, "value2", value -> false);
+        bloomFilterNegativeCache.mightContain(otherFilterName, "value1", value -> false);
+
+        // when
+        bloomFilterNegativeCache.invalidateAll(filterName);
+
+        // then
+        assertThat(bloomFilterNegativeCache.mightContain(filterName, "value1", value -> true)).isTrue();
+        assertThat(bloomFilterNegativeCache.mightContain(filterName, "value2", value -> true)).isTrue();
+        assertThat(bloomFilterNegativeCache.mightContain(otherFilterName, "value1", value -> true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("일괄 조회 시 캐시된 값은 제외하고 나머지 값만 필터에서 조회하며, 요청 순서를 유지한다")
+    void mightContainAll() {
+        // given
+        String filterName = genFilterName();
+        bloomFilterNegativeCache.mightContain(filterName, "absent1", value -> false);
+
+        // when
+        List<List<String>> requestedValues = new ArrayList<>();
+        Map<String, Boolean> result = bloomFilterNegativeCache.mightContainAll(
+                filterName,
+                List.of("present", "absent1", "absent2", "present"),
+                values -> {
+                    requestedValues.add(values);
+                    Map<String, Boolean> fetched = new LinkedHashMap<>();
+                    for (String value : values) {
+                        fetched.put(value, value.startsWith("present"));
+                    }
+                    return fetched;
+                }
+        );
+
+        // then
+        assertThat(requestedValues).containsExactly(List.of("present", "absent2"));
+        assertThat(result).containsExactly(
+                Map.entry("present", true),
+                Map.entry("absent1", false),
+                Map.entry("absent2", false)
+        );
+
+        // 일괄 조회에서 "없음"으로 확인된 값도 캐시된다
+        assertThat(bloomFilterNegativeCache.mightContain(filterName, "absent2", value -> true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("필터에 확실히 없는 id는 reader로 조회하지 않는다")
+    void readAll() {
+        // given
+        String filterName = genFilterName();
+        List<List<Long>> readIds = new ArrayList<>();
+
+        // when
+        List<String> result = bloomFilterNegativeCache.readAll(
+                filterName,
+                List.of(1L, 2L, 3L),
+                values -> {
+                    Map<String, Boolean> fetched = new LinkedHashMap<>();
+                    values.forEach(value -> fetched.put(value, !value.equals("2")));
+                    return fetched;
+                },
+                ids -> {
+                    readIds.add(ids);
+                    return ids.stream().map(String::valueOf).toList();
+                }
+        );
+
+        // then
+        assertThat(readIds).containsExactly(List.of(1L, 3L));
+        assertThat(result).containsExactly("1", "3");
+
+        Predicate<String> mightContain = value -> true;
+        String negative = bloomFilterNegativeCache.read(filterName, 2L, mightContain, String::valueOf);
+        String positive = bloomFilterNegativeCache.read(filterName, 1L, mightContain, String::valueOf);
+        assertThat(negative).isNull();
+        assertThat(positive).isEqualTo("1");
+    }
+
+    private String genFilterName() {
+        return "test:" + UUID.randomUUID();
+    }
+
+}
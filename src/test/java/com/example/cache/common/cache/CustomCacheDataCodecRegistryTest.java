@@ -0,0 +1,36 @@
+package com.example.cache.common.cache;
+
+import com.example.cache.serde.DataCodecs;
+import com.example.cache.serde.DataCompressor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomCacheDataCodecRegistryTest {
+
+    CustomCacheDataCodecRegistry registry = new CustomCacheDataCodecRegistry();
+
+    @Test
+    @DisplayName("cacheName으로 codec을 찾는다")
+    void find() {
+        assertThat(registry.find("item")).isSameAs(DataCodecs.SMILE);
+    }
+
+    @Test
+    @DisplayName("지정하지 않은 cacheName은 JSON codec을 사용한다")
+    void find_withUnknownCacheName() {
+        assertThat(registry.find("itemList")).isSameAs(DataCodecs.JSON);
+        assertThat(registry.find("test")).isSameAs(DataCodecs.JSON);
+    }
+
+    @Test
+    @DisplayName("item 캐시만 임계값 이상일 때 압축하고, 나머지는 압축하지 않는다")
+    void findCompressor() {
+        assertThat(registry.findCompressor("item").getThresholdBytes())
+                .isEqualTo(CustomCacheDataCodecRegistry.COMPRESSION_THRESHOLD_BYTES);
+        assertThat(registry.findCompressor("itemList")).isSameAs(DataCompressor.NONE);
+        assertThat(registry.findCompressor("test")).isSameAs(DataCompressor.NONE);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.example.cache.common.cache;
+
+import com.example.cache.serde.DataType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomCacheHandlerRegistryTest {
+
+    @Test
+    @DisplayName("CacheStrategy를 지원하는 핸들러를 찾는다")
+    void find() {
+        TestCacheHandler noneCacheHandler = new TestCacheHandler(CacheStrategy.NONE);
+        TestCacheHandler jitterCacheHandler = new TestCacheHandler(CacheStrategy.JITTER);
+        CustomCacheHandlerRegistry registry = new CustomCacheHandlerRegistry(List.of(noneCacheHandler, jitterCacheHandler));
+
+        assertThat(registry.find(CacheStrategy.NONE)).isSameAs(noneCacheHandler);
+        assertThat(registry.find(CacheStrategy.JITTER)).isSameAs(jitterCacheHandler);
+    }
+
+    @Test
+    @DisplayName("지원하는 핸들러가 없는 CacheStrategy를 찾으면 예외가 발생한다")
+    void find_notSupported() {
+        CustomCacheHandlerRegistry registry = new CustomCacheHandlerRegistry(List.of(new TestCacheHandler(CacheStrategy.NONE)));
+
+        assertThatThrownBy(() -> registry.find(CacheStrategy.JITTER))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("하나의 CacheStrategy를 2개 이상의 핸들러가 지원하면 생성 시점에 예외가 발생한다")
+    void create_duplicated() {
+        List<CustomCacheHandler> cacheHandlers = List.of(
+                new TestCacheHandler(CacheStrategy.JITTER),
+                new TestCacheHandler(CacheStrategy.JITTER)
+        );
+
+        assertThatThrownBy(() -> new CustomCacheHandlerRegistry(cacheHandlers))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    record TestCacheHandler(CacheStrategy cacheStrategy) implements CustomCacheHandler {
+        @Override
+        public <T> T fetch(String cacheName, String key, Duration ttl, Supplier<T> dataSourceSupplier, DataType<T> dataType) {
+            return dataSourceSupplier.get();
+        }
+
+        @Override
+        public void put(String cacheName, String key, Duration ttl, Object value) {
+        }
+
+        @Override
+        public void evict(String key) {
+        }
+
+        @Override
+        public boolean supports(CacheStrategy cacheStrategy) {
+            return this.cacheStrategy == cacheStrategy;
+        }
+    }
+
+}
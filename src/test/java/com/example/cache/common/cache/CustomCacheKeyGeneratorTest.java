@@ -0,0 +1,134 @@
+package com.example.cache.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomCacheKeyGeneratorTest {
+
+    CustomCacheKeyGenerator customCacheKeyGenerator = new CustomCacheKeyGenerator();
+    ExpressionParser legacyParser = new SpelExpressionParser();
+
+    static final String[] READ_PARAMETER_NAMES = {"itemId"};
+    static final String[] READ_ALL_PARAMETER_NAMES = {"page", "pageSize"};
+
+    @Test
+    @DisplayName("'#param' 형태의 key는 파라미터 값을 그대로 사용한다")
+    void genKey_simpleParameter() throws NoSuchMethodException {
+        CustomCacheKeyExpression keyExpression = customCacheKeyGenerator.compile(
+                readMethod(), READ_PARAMETER_NAMES, CacheStrategy.JITTER, "item", "#itemId"
+        );
+
+        assertThat(keyExpression.genKey(new Object[]{1L})).isEqualTo("JITTER:item:1");
+        assertThat(keyExpression.genKey(new Object[]{null})).isEqualTo("JITTER:item:null");
+    }
+
+    @Test
+    @DisplayName("SpEL key는 기존 방식과 동일한 결과를 생성한다")
+    void genKey_spel() throws NoSuchMethodException {
+        CustomCacheKeyExpression keyExpression = customCacheKeyGenerator.compile(
+                readAllMethod(), READ_ALL_PARAMETER_NAMES, CacheStrategy.NONE, "itemList", "#page + ':' + #pageSize"
+        );
+
+        // MIXED 모드에서 컴파일 이후에도 결과가 동일한지 확인하기 위해 반복 실행
+        for (long page = 1; page <= 200; page++) {
+            Object[] args = {page, 10L};
+            assertThat(keyExpression.genKey(args))
+                    .isEqualTo(legacyGenKey(READ_ALL_PARAMETER_NAMES, args, CacheStrategy.NONE, "itemList", "#page + ':' + #pageSize"))
+                    .isEqualTo("NONE:itemList:" + page + ":10");
+        }
+    }
+
+    @Test
+    @DisplayName("동일한 메서드와 어노테이션 속성에 대해서는 key 표현식을 한 번만 만든다")
+    void compile() throws NoSuchMethodException {
+        CustomCacheKeyExpression keyExpression1 = customCacheKeyGenerator.compile(
+                readMethod(), READ_PARAMETER_NAMES, CacheStrategy.JITTER, "item", "#itemId"
+        );
+        CustomCacheKeyExpression keyExpression2 = customCacheKeyGenerator.compile(
+                readMethod(), READ_PARAMETER_NAMES, CacheStrategy.JITTER, "item", "#itemId"
+        );
+
+        assertThat(keyExpression1).isSameAs(keyExpression2);
+    }
+
+    @Test
+    @DisplayName("기존 방식(매 요청마다 SpEL 파싱)과 key 생성 시간을 비교한다")
+    void printExecutionTime_genKey() throws NoSuchMethodException {
+        CustomCacheKeyExpression simpleKeyExpression = customCacheKeyGenerator.compile(
+                readMethod(), READ_PARAMETER_NAMES, CacheStrategy.JITTER, "item", "#itemId"
+        );
+        CustomCacheKeyExpression spelKeyExpression = customCacheKeyGenerator.compile(
+                readAllMethod(), READ_ALL_PARAMETER_NAMES, CacheStrategy.NONE, "itemList", "#page + ':' + #pageSize"
+        );
+
+        int count = 100_000;
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            long start = System.nanoTime();
+            for (long i = 0; i < count; i++) {
+                legacyGenKey(READ_PARAMETER_NAMES, new Object[]{i}, CacheStrategy.JITTER, "item", "#itemId");
+            }
+            long legacySimpleNanos = (System.nanoTime() - start) / count;
+
+            start = System.nanoTime();
+            for (long i = 0; i < count; i++) {
+                simpleKeyExpression.genKey(new Object[]{i});
+            }
+            long simpleNanos = (System.nanoTime() - start) / count;
+
+            start = System.nanoTime();
+            for (long i = 0; i < count; i++) {
+                legacyGenKey(READ_ALL_PARAMETER_NAMES, new Object[]{i, 10L}, CacheStrategy.NONE, "itemList", "#page + ':' + #pageSize");
+            }
+            long legacySpelNanos = (System.nanoTime() - start) / count;
+
+            start = System.nanoTime();
+            for (long i = 0; i < count; i++) {
+                spelKeyExpression.genKey(new Object[]{i, 10L});
+            }
+            long spelNanos = (System.nanoTime() - start) / count;
+
+            System.out.println("legacySimpleNanos = " + legacySimpleNanos + ", simpleNanos = " + simpleNanos);
+            System.out.println("legacySpelNanos = " + legacySpelNanos + ", spelNanos = " + spelNanos);
+        }
+    }
+
+    /**
+     * 기존 CustomCacheKeyGenerator 방식 (매 요청마다 EvaluationContext 생성 및 SpEL 파싱)
+     */
+    private String legacyGenKey(String[] parameterNames, Object[] args, CacheStrategy cacheStrategy, String cacheName, String keySpel) {
+        EvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < args.length; i++) {
+            context.setVariable(parameterNames[i], args[i]);
+        }
+
+        return cacheStrategy + ":" + cacheName + ":"
+                + legacyParser.parseExpression(keySpel).getValue(context, String.class);
+    }
+
+    private Method readMethod() throws NoSuchMethodException {
+        return TestService.class.getDeclaredMethod("read", Long.class);
+    }
+
+    private Method readAllMethod() throws NoSuchMethodException {
+        return TestService.class.getDeclaredMethod("readAll", Long.class, Long.class);
+    }
+
+    static class TestService {
+        String read(Long itemId) {
+            return null;
+        }
+
+        String readAll(Long page, Long pageSize) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.example.cache.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomCacheSingleFlightTest {
+
+    CustomCacheSingleFlight singleFlight = new CustomCacheSingleFlight();
+
+    @Test
+    @DisplayName("동일 key에 대한 동시 요청은 Data Source를 1번만 호출하고 결과를 공유한다")
+    void execute() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger sourceCallCount = new AtomicInteger();
+
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return singleFlight.execute("testKey", Duration.ofSeconds(3), () -> {
+                    sourceCallCount.incrementAndGet();
+                    sleep(500);
+                    return "sourceData";
+                });
+            }));
+        }
+        startLatch.countDown();
+
+        // then
+        for (Future<String> future : futures) {
+            assertThat(future.get()).isEqualTo("sourceData");
+        }
+        assertThat(sourceCallCount.get()).isEqualTo(1);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("진행 중인 조회가 끝난 뒤의 요청은 Data Source를 다시 호출한다")
+    void execute_shouldCallSourceAgain_whenPreviousFlightFinished() {
+        AtomicInteger sourceCallCount = new AtomicInteger();
+
+        singleFlight.execute("testKey", Duration.ofSeconds(1), sourceCallCount::incrementAndGet);
+        singleFlight.execute("testKey", Duration.ofSeconds(1), sourceCallCount::incrementAndGet);
+
+        assertThat(sourceCallCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대표 요청에서 발생한 예외는 대기 중인 요청에도 전파되고, 대기 중인 요청은 조회를 다시 하지 않는다")
+    void execute_shouldPropagateException() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        AtomicInteger followerCallCount = new AtomicInteger();
+
+        // when
+        Future<?> leader = executorService.submit(() -> singleFlight.execute("testKey", Duration.ofSeconds(3), () -> {
+            leaderStarted.countDown();
+            sleep(500);
+            throw new IllegalArgumentException("source error");
+        }));
+        leaderStarted.await();
+        Future<?> follower = executorService.submit(() -> singleFlight.execute("testKey", Duration.ofSeconds(3), () -> {
+            followerCallCount.incrementAndGet();
+            return "neverCalled";
+        }));
+
+        // then
+        assertThatThrownBy(leader::get).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(follower::get).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(followerCallCount.get()).isEqualTo(0);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("대표 요청이 timeout 안에 끝나지 않으면 대기 중인 요청은 예외를 받는다")
+    void execute_shouldThrowException_whenTimeout() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        executorService.submit(() -> singleFlight.execute("testKey", Duration.ofSeconds(3), () -> {
+            leaderStarted.countDown();
+            sleep(1000);
+            return "sourceData";
+        }));
+        leaderStarted.await();
+
+        // when, then
+        assertThatThrownBy(() -> singleFlight.execute("testKey", Duration.ofMillis(100), () -> "neverCalled"))
+                .isInstanceOf(IllegalStateException.class);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 다른 요청이 조회 중인 key를 다시 조회하지 않고 결과를 공유한다")
+    void executeAll_shouldShareInFlightKey() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        Future<String> leader = executorService.submit(() -> singleFlight.execute("key1", Duration.ofSeconds(3), () -> {
+            leaderStarted.countDown();
+            sleep(500);
+            return "data1";
+        }));
+        leaderStarted.await();
+        List<List<String>> loadedKeys = new ArrayList<>();
+
+        // when
+        Map<String, String> result = singleFlight.executeAll(List.of("key1", "key2", "key3"), Duration.ofSeconds(3), keys -> {
+            loadedKeys.add(keys);
+            return Map.of("key2", "data2");
+        });
+
+        // then
+        assertThat(leader.get()).isEqualTo("data1");
+        assertThat(loadedKeys).containsExactly(List.of("key2", "key3"));
+        assertThat(result).containsExactly(Map.entry("key1", "data1"), Map.entry("key2", "data2"));
+        executorService.shutdown();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
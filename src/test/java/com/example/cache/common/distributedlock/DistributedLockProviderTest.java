@@ -23,13 +23,13 @@ class DistributedLockProviderTest extends RedisTestContainerSupport {
     @Test
     void lock() throws InterruptedException {
         // 동일한 key에 대해 최초 1회만 락 획득 가능함을 검증
-        assertThat(distributedLockProvider.lock("testId", Duration.ofSeconds(1))).isTrue();
-        assertThat(distributedLockProvider.lock("testId", Duration.ofSeconds(1))).isFalse();
-        assertThat(distributedLockProvider.lock("testId", Duration.ofSeconds(1))).isFalse();
+        assertThat(distributedLockProvider.lockOrNull("testId", Duration.ofSeconds(1))).isNotNull();
+        assertThat(distributedLockProvider.lockOrNull("testId", Duration.ofSeconds(1))).isNull();
+        assertThat(distributedLockProvider.lockOrNull("testId", Duration.ofSeconds(1))).isNull();
 
         // TTL 만료 이후에는 다시 락을 획득할 수 있어야 함
         TimeUnit.SECONDS.sleep(2);
-        assertThat(distributedLockProvider.lock("testId", Duration.ofSeconds(1))).isTrue();
+        assertThat(distributedLockProvider.lockOrNull("testId", Duration.ofSeconds(1))).isNotNull();
     }
 
     @Test
@@ -42,8 +42,8 @@ class DistributedLockProviderTest extends RedisTestContainerSupport {
 
         for (int i = 0; i < 10; i++) {
             executorService.execute(() -> {
-                boolean locked = distributedLockProvider.lock("testId", Duration.ofSeconds(10));
-                if (locked) {
+                String lockToken = distributedLockProvider.lockOrNull("testId", Duration.ofSeconds(10));
+                if (lockToken != null) {
                     acquiredCount.incrementAndGet();
                 }
                 latch.countDown();
@@ -60,16 +60,36 @@ class DistributedLockProviderTest extends RedisTestContainerSupport {
     void unlock() {
         // given
         // 락을 먼저 획득한 상태
-        distributedLockProvider.lock("testId", Duration.ofSeconds(1));
+        String lockToken = distributedLockProvider.lockOrNull("testId", Duration.ofSeconds(1));
 
         // when
         // 명시적으로 락 해제
-        distributedLockProvider.unlock("testId");
+        distributedLockProvider.unlock("testId", lockToken);
 
         // then
         // 동일한 key에 대해 다시 락 획득이 가능해야 함
-        boolean locked = distributedLockProvider.lock("testId", Duration.ofSeconds(1));
-        assertThat(locked).isTrue();
+        assertThat(distributedLockProvider.lockOrNull("testId", Duration.ofSeconds(1))).isNotNull();
+    }
+
+    @Test
+    void unlock_shouldNotReleaseOtherLock_whenLockExpired() throws InterruptedException {
+        // given
+        // 첫 번째 소유자의 락이 만료된 후 다른 소유자가 락을 획득한 상태
+        String expiredLockToken = distributedLockProvider.lockOrNull("testId", Duration.ofMillis(100));
+        TimeUnit.MILLISECONDS.sleep(300);
+        String lockToken = distributedLockProvider.lockOrNull("testId", Duration.ofSeconds(10));
+        assertThat(lockToken).isNotNull();
+
+        // when
+        // 첫 번째 소유자가 뒤늦게 락 해제
+        distributedLockProvider.unlock("testId", expiredLockToken);
+
+        // then
+        // 다른 소유자의 락은 유지되어야 함
+        assertThat(distributedLockProvider.lockOrNull("testId", Duration.ofSeconds(1))).isNull();
+
+        distributedLockProvider.unlock("testId", lockToken);
+        assertThat(distributedLockProvider.lockOrNull("testId", Duration.ofSeconds(1))).isNotNull();
     }
 
 }
@@ -0,0 +1,99 @@
+package com.example.cache.common.redis;
+
+import com.example.cache.RedisTestContainerSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@SpringBootTest
+class BitmapAllocatorTest extends RedisTestContainerSupport {
+
+    @Autowired
+    BitmapAllocator bitmapAllocator;
+
+    static final BitmapAllocator.Options SMALL_CHUNK_OPTIONS = new BitmapAllocator.Options(
+            2, 4, 1024, Duration.ofMillis(50), 1000, 10000
+    );
+
+    @Test
+    @DisplayName("모든 Key가 비트 수만큼 할당되고, 이미 설정된 비트는 유지된다")
+    void allocate() {
+        // given
+        List<BitmapAllocator.Target> targets = IntStream.range(0, 10)
+                .mapToObj(idx -> new BitmapAllocator.Target("bitmap:" + idx, 100_000L + idx))
+                .toList();
+        redisTemplate.opsForValue().setBit("bitmap:0", 12345, true);
+
+        // when
+        long allocatedBytes = bitmapAllocator.allocate(targets, SMALL_CHUNK_OPTIONS);
+
+        // then
+        for (BitmapAllocator.Target target : targets) {
+            assertThat(redisTemplate.opsForValue().size(target.key())).isEqualTo((target.bitSize() + 7) / 8);
+        }
+        assertThat(redisTemplate.opsForValue().getBit("bitmap:0", 12345)).isTrue();
+        assertThat(redisTemplate.opsForValue().getBit("bitmap:0", 99_999)).isFalse();
+        System.out.println("allocatedBytes = " + allocatedBytes);
+    }
+
+    @Test
+    @DisplayName("도중에 중단된 할당은 이미 할당된 크기부터 이어서 할당한다")
+    void allocate_resume() {
+        // given
+        // 중단되어 절반만 할당된 상태
+        BitmapAllocator.Target target = new BitmapAllocator.Target("bitmap", 80_000);
+        redisTemplate.opsForValue().setBit("bitmap", 40_000 - 1, false);
+
+        // when
+        long allocatedBytes = bitmapAllocator.allocate(List.of(target), SMALL_CHUNK_OPTIONS);
+
+        // then
+        assertThat(allocatedBytes).isEqualTo(5000);
+        assertThat(redisTemplate.opsForValue().size("bitmap")).isEqualTo(10_000);
+
+        // 이미 모두 할당되어 있으면 아무것도 하지 않음
+        assertThat(bitmapAllocator.allocate(List.of(target), SMALL_CHUNK_OPTIONS)).isZero();
+    }
+
+    @Test
+    @DisplayName("첫 번째가 아닌 worker의 파이프라인이 실패해도 대기하지 않고 할당이 실패한다")
+    void allocate_shouldFail_whenNonFirstWorkerFails() {
+        // given
+        // 첫 번째 worker(thread-1)가 아닌 worker의 파이프라인만 실패시킨다.
+        StringRedisTemplate failingRedisTemplate = new StringRedisTemplate(redisTemplate.getConnectionFactory()) {
+            @Override
+            public List<Object> executePipelined(RedisCallback<?> action) {
+                String threadName = Thread.currentThread().getName();
+                if (threadName.startsWith("pool-") && !threadName.endsWith("-thread-1")) {
+                    throw new IllegalStateException("pipeline failed. thread=" + threadName);
+                }
+                return super.executePipelined(action);
+            }
+        };
+        BitmapAllocator failingBitmapAllocator = new BitmapAllocator(failingRedisTemplate);
+        List<BitmapAllocator.Target> targets = IntStream.range(0, 10)
+                .mapToObj(idx -> new BitmapAllocator.Target("bitmap:" + idx, 100_000L))
+                .toList();
+        BitmapAllocator.Options options = new BitmapAllocator.Options(
+                2, 1, 1024, Duration.ofMillis(50), 1000, 10000
+        );
+
+        // when, then
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                assertThatThrownBy(() -> failingBitmapAllocator.allocate(targets, options))
+                        .isInstanceOf(IllegalStateException.class)
+        );
+    }
+
+}
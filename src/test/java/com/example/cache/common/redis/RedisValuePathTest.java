@@ -0,0 +1,104 @@
+package com.example.cache.common.redis;
+
+import com.example.cache.RedisTestContainerSupport;
+import com.example.cache.serde.DataCodecs;
+import com.example.cache.serde.DataCompressor;
+import com.example.cache.serde.DataSerializer;
+import com.example.cache.serde.DataType;
+import com.example.cache.service.response.ItemPageResponse;
+import com.example.cache.service.response.ItemResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RedisValuePathTest extends RedisTestContainerSupport {
+
+    @Autowired
+    RedisTemplate<String, byte[]> bytesRedisTemplate;
+
+    DataType<ItemPageResponse> dataType = DataType.of(ItemPageResponse.class);
+    DataCompressor compressor = DataCompressor.deflate(1024);
+
+    @Test
+    @DisplayName("byte[]로 저장한 값은 String 변환 없이 그대로 읽어서 역직렬화된다")
+    void bytesPath() {
+        // given
+        ItemPageResponse itemPageResponse = createItemPageResponse(100);
+
+        // when
+        bytesRedisTemplate.opsForValue().set("testKey", serializeBytes(itemPageResponse), Duration.ofSeconds(10));
+
+        // then
+        byte[] cached = bytesRedisTemplate.opsForValue().get("testKey");
+        assertThat(DataSerializer.deserializeOrNull(cached, dataType)).isEqualTo(itemPageResponse);
+    }
+
+    @Test
+    @DisplayName("값 크기 별로 JSON 경로와 Smile + 압축 경로의 저장/조회 시간을 비교한다")
+    void printExecutionTime_valuePath() {
+        int count = 2_000;
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            for (int pageSize : List.of(10, 100, 1000)) {
+                ItemPageResponse itemPageResponse = createItemPageResponse(pageSize);
+
+                // JSON 경로: 압축 없이 JSON으로 직렬화하고, byte[]를 그대로 역직렬화
+                long start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    bytesRedisTemplate.opsForValue().set("jsonKey", serializeJson(itemPageResponse));
+                }
+                long jsonWriteNanos = (System.nanoTime() - start) / count;
+
+                start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    DataSerializer.deserializeOrNull(bytesRedisTemplate.opsForValue().get("jsonKey"), dataType);
+                }
+                long jsonReadNanos = (System.nanoTime() - start) / count;
+
+                // Smile 경로: 재사용 버퍼에 Smile로 직렬화(+ 압축)하고, byte[]를 그대로 역직렬화
+                start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    bytesRedisTemplate.opsForValue().set("bytesKey", serializeBytes(itemPageResponse));
+                }
+                long bytesWriteNanos = (System.nanoTime() - start) / count;
+
+                start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    DataSerializer.deserializeOrNull(bytesRedisTemplate.opsForValue().get("bytesKey"), dataType);
+                }
+                long bytesReadNanos = (System.nanoTime() - start) / count;
+
+                System.out.println("pageSize = " + pageSize
+                        + ", jsonBytes = " + bytesRedisTemplate.opsForValue().size("jsonKey")
+                        + ", bytes = " + bytesRedisTemplate.opsForValue().size("bytesKey")
+                        + ", jsonWriteNanos = " + jsonWriteNanos
+                        + ", jsonReadNanos = " + jsonReadNanos
+                        + ", bytesWriteNanos = " + bytesWriteNanos
+                        + ", bytesReadNanos = " + bytesReadNanos);
+            }
+        }
+    }
+
+    private byte[] serializeJson(ItemPageResponse itemPageResponse) {
+        return DataSerializer.serializeOrException(itemPageResponse, DataCodecs.JSON, DataCompressor.NONE, dataType);
+    }
+
+    private byte[] serializeBytes(ItemPageResponse itemPageResponse) {
+        return DataSerializer.serializeOrException(itemPageResponse, DataCodecs.SMILE, compressor, dataType);
+    }
+
+    private ItemPageResponse createItemPageResponse(int size) {
+        List<ItemResponse> items = LongStream.rangeClosed(1, size)
+                .mapToObj(itemId -> new ItemResponse(itemId, "data" + itemId))
+                .toList();
+        return ItemPageResponse.fromResponse(items, 10_000);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.cache.common.redis;
+
+import com.example.cache.RedisTestContainerSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SlotGroupingPipelineExecutorTest extends RedisTestContainerSupport {
+
+    @Autowired
+    SlotGroupingPipelineExecutor slotGroupingPipelineExecutor;
+
+    @Test
+    @DisplayName("서로 다른 Slot의 Key에 대한 명령도 응답은 명령 순서대로 반환된다")
+    void execute() {
+        // given
+        List<String> keys = IntStream.range(0, 100)
+                .mapToObj(idx -> "key" + idx)
+                .toList();
+        keys.forEach(key -> redisTemplate.opsForValue().set(key, "value:" + key));
+
+        // 서로 다른 Slot에 분산된 Key
+        assertThat(keys.stream().map(ClusterSlotHashUtil::calculateSlot).distinct().count()).isGreaterThan(1);
+
+        // when
+        List<Object> results = slotGroupingPipelineExecutor.execute(
+                keys,
+                key -> key,
+                (conn, key) -> conn.get(key)
+        );
+
+        // then
+        assertThat(results).containsExactlyElementsOf(keys.stream().map(key -> "value:" + key).toList());
+    }
+
+    @Test
+    @DisplayName("명령이 없으면 Redis를 호출하지 않고 빈 목록을 반환한다")
+    void execute_empty() {
+        List<Object> results = slotGroupingPipelineExecutor.execute(
+                List.<String>of(),
+                key -> key,
+                (conn, key) -> conn.get(key)
+        );
+
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단일 노드 Redis에서는 Slot이 서로 다른 Key도 명령 1개로 실행할 수 있다")
+    void isSameSlot_standalone() {
+        List<String> keys = List.of("key1", "key2", "key3");
+        assertThat(keys.stream().map(ClusterSlotHashUtil::calculateSlot).distinct().count()).isGreaterThan(1);
+
+        assertThat(slotGroupingPipelineExecutor.isSameSlot(keys)).isTrue();
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.example.cache.common.serde;
+
+import com.example.cache.serde.DataCodec;
+import com.example.cache.serde.DataCodecs;
+import com.example.cache.serde.DataCompressor;
+import com.example.cache.serde.DataSerializer;
+import com.example.cache.serde.DataType;
+import com.example.cache.service.response.ItemPageResponse;
+import com.example.cache.service.response.ItemResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import java.util.zip.DataFormatException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataCompressorTest {
+
+    DataCompressor compressor = DataCompressor.deflate(1024);
+    DataType<ItemPageResponse> dataType = DataType.of(ItemPageResponse.class);
+
+    @Test
+    @DisplayName("임계값 이상인 값은 압축 헤더와 함께 압축되고, 헤더로 압축 여부를 판단해서 역직렬화한다")
+    void serde_compressed() {
+        ItemPageResponse itemPageResponse = createItemPageResponse(100);
+
+        byte[] uncompressed = serialize(itemPageResponse, DataCodecs.JSON, DataCompressor.NONE);
+        byte[] compressed = serialize(itemPageResponse, DataCodecs.JSON, compressor);
+
+        assertThat(compressed[0]).isEqualTo(DataCompressor.COMPRESSED);
+        assertThat(compressed.length).isLessThan(uncompressed.length);
+        assertThat(DataSerializer.deserializeOrNull(compressed, dataType)).isEqualTo(itemPageResponse);
+    }
+
+    @Test
+    @DisplayName("임계값보다 작은 값은 압축하지 않는다")
+    void serde_belowThreshold() {
+        ItemPageResponse itemPageResponse = createItemPageResponse(1);
+
+        byte[] serialized = serialize(itemPageResponse, DataCodecs.JSON, compressor);
+
+        assertThat(serialized).isEqualTo(serialize(itemPageResponse, DataCodecs.JSON, DataCompressor.NONE));
+        assertThat(DataSerializer.deserializeOrNull(serialized, dataType)).isEqualTo(itemPageResponse);
+    }
+
+    @Test
+    @DisplayName("압축해도 크기가 줄어들지 않는 값은 원본 그대로 반환한다")
+    void compressIfLarge_incompressible() {
+        byte[] random = new byte[4096];
+        new Random(0).nextBytes(random);
+        random[0] = '"';
+
+        assertThat(compressor.compressIfLarge(random)).isSameAs(random);
+    }
+
+    @Test
+    @DisplayName("압축된 값과 압축되지 않은 값이 섞여 있어도 모두 읽을 수 있다")
+    void deserialize_mixed() {
+        ItemPageResponse itemPageResponse = createItemPageResponse(100);
+
+        List<byte[]> values = List.of(
+                serialize(itemPageResponse, DataCodecs.JSON, DataCompressor.NONE),
+                serialize(itemPageResponse, DataCodecs.SMILE, DataCompressor.NONE),
+                serialize(itemPageResponse, DataCodecs.JSON, compressor),
+                serialize(itemPageResponse, DataCodecs.SMILE, compressor)
+        );
+
+        for (byte[] value : values) {
+            assertThat(DataSerializer.deserializeOrNull(value, dataType)).isEqualTo(itemPageResponse);
+        }
+    }
+
+    @Test
+    @DisplayName("압축 데이터가 손상되었다면 역직렬화하지 않는다")
+    void deserialize_corrupted() {
+        byte[] compressed = serialize(createItemPageResponse(100), DataCodecs.JSON, compressor);
+        byte[] corrupted = Arrays.copyOf(compressed, compressed.length / 2);
+
+        assertThat(DataSerializer.deserializeOrNull(corrupted, dataType)).isNull();
+    }
+
+    @Test
+    @DisplayName("헤더의 원본 길이가 음수이거나 최대 크기를 넘으면 배열을 할당하지 않고 DataFormatException이 발생한다")
+    void decompress_invalidOriginalLength() {
+        byte[] compressed = serialize(createItemPageResponse(100), DataCodecs.JSON, compressor);
+
+        for (int originalLength : List.of(-1, DataCompressor.MAX_DECOMPRESSED_BYTES + 1, Integer.MAX_VALUE)) {
+            byte[] corrupted = Arrays.copyOf(compressed, compressed.length);
+            ByteBuffer.wrap(corrupted, 1, Integer.BYTES).putInt(originalLength);
+
+            assertThatThrownBy(() -> DataCompressor.decompress(corrupted, 0, corrupted.length))
+                    .isInstanceOf(DataFormatException.class);
+            assertThat(DataSerializer.deserializeOrNull(corrupted, dataType)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("pageSize 별로 압축 전후 크기와 압축/해제 시간을 비교한다")
+    void printExecutionTime_compression() {
+        int count = 5_000;
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            for (int pageSize : List.of(10, 100, 1000)) {
+                ItemPageResponse itemPageResponse = createItemPageResponse(pageSize);
+                byte[] uncompressed = serialize(itemPageResponse, DataCodecs.SMILE, DataCompressor.NONE);
+                byte[] compressed = serialize(itemPageResponse, DataCodecs.SMILE, compressor);
+
+                long start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    compressor.compressIfLarge(uncompressed);
+                }
+                long compressNanos = (System.nanoTime() - start) / count;
+
+                start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    DataSerializer.deserializeOrNull(compressed, dataType);
+                }
+                long deserializeNanos = (System.nanoTime() - start) / count;
+
+                System.out.println("pageSize = " + pageSize
+                        + ", bytes = " + uncompressed.length
+                        + ", compressedBytes = " + compressed.length
+                        + ", compressNanos = " + compressNanos
+                        + ", deserializeNanos = " + deserializeNanos);
+            }
+        }
+    }
+
+    private byte[] serialize(ItemPageResponse itemPageResponse, DataCodec codec, DataCompressor compressor) {
+        return DataSerializer.serializeOrException(itemPageResponse, codec, compressor, dataType);
+    }
+
+    private ItemPageResponse createItemPageResponse(int size) {
+        List<ItemResponse> items = LongStream.rangeClosed(1, size)
+                .mapToObj(itemId -> new ItemResponse(itemId, "data" + itemId))
+                .toList();
+        return ItemPageResponse.fromResponse(items, 10_000);
+    }
+}
@@ -1,23 +1,169 @@
 package com.example.cache.common.serde;
 
+import com.example.cache.serde.DataCodec;
+import com.example.cache.serde.DataCodecs;
+import com.example.cache.serde.DataCompressor;
 import com.example.cache.serde.DataSerializer;
+import com.example.cache.serde.DataType;
+import com.example.cache.serde.SmileDataCodec;
+import com.example.cache.service.response.ItemPageResponse;
+import com.example.cache.service.response.ItemResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class DataSerializerTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
     @Test
     void serde() {
         MyData myData = new MyData("id", "data");
-        String serialized = DataSerializer.serializeOrException(myData);
+        byte[] serialized = DataSerializer.serializeOrException(myData, DataCodecs.JSON, DataCompressor.NONE, DataType.OBJECT);
 
-        MyData deserialized = DataSerializer.deserializeOrNull(serialized, MyData.class);
+        MyData deserialized = DataSerializer.deserializeOrNull(serialized, DataType.of(MyData.class));
         assertThat(deserialized).isEqualTo(myData);
     }
 
+    @Test
+    @DisplayName("JSON codec은 헤더 없이 기존 문자열 형식과 동일하게 저장한다")
+    void serde_json() throws JsonProcessingException {
+        MyData myData = new MyData("id", "data");
+
+        byte[] serialized = serialize(myData, DataCodecs.JSON);
+
+        assertThat(new String(serialized, StandardCharsets.UTF_8))
+                .isEqualTo(objectMapper.writeValueAsString(myData));
+        assertThat(DataSerializer.deserializeOrNull(serialized, DataType.of(MyData.class))).isEqualTo(myData);
+    }
+
+    @Test
+    @DisplayName("Smile codec은 첫 byte에 codec id를 기록하고, 헤더로 codec을 찾아서 역직렬화한다")
+    void serde_smile() {
+        ItemPageResponse itemPageResponse = createItemPageResponse(10);
+
+        byte[] serialized = serialize(itemPageResponse, DataCodecs.SMILE);
+
+        assertThat(serialized[0]).isEqualTo(SmileDataCodec.ID);
+        assertThat(DataSerializer.deserializeOrNull(serialized, DataType.of(ItemPageResponse.class))).isEqualTo(itemPageResponse);
+    }
+
+    @Test
+    @DisplayName("문자열로 저장된 기존 JSON 값도 byte[]로 읽을 수 있다")
+    void deserialize_legacyJson() throws JsonProcessingException {
+        MyData myData = new MyData("id", "data");
+        byte[] legacy = objectMapper.writeValueAsString(myData).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(DataSerializer.deserializeOrNull(legacy, DataType.of(MyData.class))).isEqualTo(myData);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 codec id는 역직렬화하지 않는다")
+    void deserialize_unknownCodec() {
+        byte[] unknown = {DataCodecs.MAX_HEADER_ID, '{', '}'};
+
+        assertThat(DataSerializer.deserializeOrNull(unknown, DataType.of(MyData.class))).isNull();
+    }
+
+    @Test
+    @DisplayName("직렬화 버퍼를 재사용해도, 이전에 직렬화한 더 큰 값이 결과에 섞이지 않는다")
+    void serialize_reuseBuffer() throws JsonProcessingException {
+        ItemPageResponse large = createItemPageResponse(100);
+        MyData small = new MyData("id", "data");
+
+        byte[] largeSerialized = serialize(large, DataCodecs.JSON);
+        byte[] smallSerialized = serialize(small, DataCodecs.JSON);
+
+        assertThat(new String(smallSerialized, StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(small));
+        assertThat(DataSerializer.deserializeOrNull(largeSerialized, DataType.of(ItemPageResponse.class))).isEqualTo(large);
+    }
+
+    @Test
+    @DisplayName("prefix 뒤에 이어서 직렬화하고, 압축은 prefix를 제외한 구간에만 적용한다")
+    void serialize_withPrefix() {
+        ItemPageResponse itemPageResponse = createItemPageResponse(100);
+        byte[] prefix = {0x01, 0x02, 0x03};
+
+        byte[] serialized = DataSerializer.serializeOrException(
+                prefix, itemPageResponse, DataCodecs.JSON, DataCompressor.deflate(1024), DataType.OBJECT
+        );
+
+        assertThat(Arrays.copyOf(serialized, prefix.length)).isEqualTo(prefix);
+        assertThat(serialized[prefix.length]).isEqualTo(DataCompressor.COMPRESSED);
+        assertThat(DataSerializer.deserializeOrNull(
+                serialized, prefix.length, serialized.length - prefix.length, DataType.of(ItemPageResponse.class)
+        )).isEqualTo(itemPageResponse);
+    }
+
+    @Test
+    @DisplayName("ItemResponse, ItemPageResponse에 대해 codec 별 크기와 직렬화/역직렬화 시간을 비교한다")
+    void printExecutionTime_codecs() {
+        Map<String, DataCodec> codecs = Map.of("json", DataCodecs.JSON, "smile", DataCodecs.SMILE);
+        List<Object> samples = List.of(
+                new ItemResponse(1L, "data1"),
+                createItemPageResponse(10),
+                createItemPageResponse(100)
+        );
+
+        int count = 20_000;
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            for (Object sample : samples) {
+                for (Map.Entry<String, DataCodec> entry : codecs.entrySet()) {
+                    DataCodec codec = entry.getValue();
+                    byte[] serialized = serialize(sample, codec);
+
+                    long start = System.nanoTime();
+                    for (int i = 0; i < count; i++) {
+                        serialize(sample, codec);
+                    }
+                    long serializeNanos = (System.nanoTime() - start) / count;
+
+                    start = System.nanoTime();
+                    for (int i = 0; i < count; i++) {
+                        DataSerializer.deserializeOrNull(serialized, DataType.of(sample.getClass()));
+                    }
+                    long deserializeNanos = (System.nanoTime() - start) / count;
+
+                    System.out.println("sample = " + sample.getClass().getSimpleName() + describeSize(sample)
+                            + ", codec = " + entry.getKey()
+                            + ", bytes = " + serialized.length
+                            + ", serializeNanos = " + serializeNanos
+                            + ", deserializeNanos = " + deserializeNanos);
+                }
+            }
+        }
+    }
+
+    private byte[] serialize(Object data, DataCodec codec) {
+        return DataSerializer.serializeOrException(data, codec, DataCompressor.NONE, DataType.OBJECT);
+    }
+
+    private String describeSize(Object sample) {
+        if (sample instanceof ItemPageResponse itemPageResponse) {
+            return "(" + itemPageResponse.items().size() + ")";
+        }
+        return "";
+    }
+
+    private ItemPageResponse createItemPageResponse(int size) {
+        List<ItemResponse> items = LongStream.rangeClosed(1, size)
+                .mapToObj(itemId -> new ItemResponse(itemId, "data" + itemId))
+                .toList();
+        return ItemPageResponse.fromResponse(items, 10_000);
+    }
+
     record MyData(
             String id, String data
     ) {
 
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+package com.example.cache.common.serde;
+
+import com.example.cache.serde.DataCodec;
+import com.example.cache.serde.DataCodecs;
+import com.example.cache.serde.DataCompressor;
+import com.example.cache.serde.DataSerializer;
+import com.example.cache.serde.DataType;
+import com.example.cache.service.response.ItemPageResponse;
+import com.example.cache.service.response.ItemResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataTypeTest {
+
+    @Test
+    @DisplayName("같은 타입의 DataType은 한 번만 만들고 재사용한다")
+    void of_shouldReuse() {
+        assertThat(DataType.of(ItemResponse.class)).isSameAs(DataType.of(ItemResponse.class));
+        assertThat(DataType.of(findGenericReturnType("readAll"))).isSameAs(DataType.of(findGenericReturnType("readAll")));
+    }
+
+    @Test
+    @DisplayName("제네릭 반환 타입(List<ItemResponse>)은 요소 타입으로 역직렬화된다")
+    void deserialize_genericType() {
+        List<ItemResponse> items = createItems(3);
+        DataType<?> dataType = DataType.of(findGenericReturnType("readAll"));
+
+        for (DataCodec codec : List.of(DataCodecs.JSON, DataCodecs.SMILE)) {
+            byte[] serialized = DataSerializer.serializeOrException(items, codec, DataCompressor.NONE, dataType);
+
+            Object deserialized = DataSerializer.deserializeOrNull(serialized, dataType);
+
+            assertThat(deserialized).isEqualTo(items);
+            assertThat(((List<?>) deserialized).get(0)).isInstanceOf(ItemResponse.class);
+        }
+    }
+
+    @Test
+    @DisplayName("raw 타입(List)으로 역직렬화하면 요소가 Map으로 역직렬화된다")
+    void deserialize_rawType() {
+        byte[] serialized = DataSerializer.serializeOrException(
+                createItems(3), DataCodecs.JSON, DataCompressor.NONE, DataType.OBJECT
+        );
+
+        List<?> deserialized = DataSerializer.deserializeOrNull(serialized, DataType.of(List.class));
+
+        assertThat(deserialized).isNotNull();
+        assertThat(deserialized.get(0)).isNotInstanceOf(ItemResponse.class);
+    }
+
+    @Test
+    @DisplayName("ObjectMapper.readValue(Class)와 미리 만들어둔 reader의 역직렬화 시간을 비교한다")
+    void printExecutionTime_deserialize() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        DataType<ItemPageResponse> dataType = DataType.of(ItemPageResponse.class);
+
+        int count = 20_000;
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            for (int size : List.of(1, 10, 100)) {
+                byte[] serialized = DataSerializer.serializeOrException(
+                        ItemPageResponse.fromResponse(createItems(size), 10_000), DataCodecs.JSON, DataCompressor.NONE, dataType
+                );
+
+                long start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    objectMapper.readValue(serialized, ItemPageResponse.class);
+                }
+                long readValueNanos = (System.nanoTime() - start) / count;
+
+                start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    DataSerializer.deserializeOrNull(serialized, dataType);
+                }
+                long dataTypeNanos = (System.nanoTime() - start) / count;
+
+                System.out.println("size = " + size
+                        + ", bytes = " + serialized.length
+                        + ", readValueNanos = " + readValueNanos
+                        + ", dataTypeNanos = " + dataTypeNanos);
+            }
+        }
+    }
+
+    private Type findGenericReturnType(String methodName) {
+        try {
+            return GenericReturnTypes.class.getDeclaredMethod(methodName).getGenericReturnType();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<ItemResponse> createItems(int size) {
+        return LongStream.rangeClosed(1, size)
+                .mapToObj(itemId -> new ItemResponse(itemId, "data" + itemId))
+                .toList();
+    }
+
+    interface GenericReturnTypes {
+        List<ItemResponse> readAll();
+    }
+}
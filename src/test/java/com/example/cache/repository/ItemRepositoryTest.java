@@ -34,6 +34,24 @@ class ItemRepositoryTest {
         assertThat(secondPage.get(0).getItemId()).isEqualTo(items.get(0).getItemId());
     }
 
+    @Test
+    void readAll_itemIds() {
+        // given
+        List<Item> items = IntStream.range(0, 3)
+                .mapToObj(idx -> itemRepository.create(Item.create(new ItemCreateRequest("data" + idx))))
+                .toList();
+        long notExistItemId = items.get(2).getItemId() + 1;
+
+        // when
+        List<Item> result = itemRepository.readAll(
+                List.of(items.get(2).getItemId(), notExistItemId, items.get(0).getItemId(), items.get(2).getItemId())
+        );
+
+        // then
+        assertThat(result).extracting(Item::getItemId)
+                .containsExactly(items.get(2).getItemId(), items.get(0).getItemId());
+    }
+
     @Test
     void readAllInfiniteScroll() {
         // given
@@ -54,6 +72,24 @@ class ItemRepositoryTest {
         assertThat(secondPage.get(0).getItemId()).isEqualTo(items.get(0).getItemId());
     }
 
+    @Test
+    void readAllIds() {
+        // given
+        List<Item> items = IntStream.range(0, 3)
+                .mapToObj(idx -> itemRepository.create(Item.create(new ItemCreateRequest("data" + idx))))
+                .toList();
+
+        // when
+        List<Long> firstChunk = itemRepository.readAllIds(null, 2L);
+        List<Long> secondChunk = itemRepository.readAllIds(firstChunk.getLast(), 2L);
+        List<Long> lastChunk = itemRepository.readAllIds(secondChunk.getLast(), 2L);
+
+        // then
+        assertThat(firstChunk).containsExactly(items.get(2).getItemId(), items.get(1).getItemId());
+        assertThat(secondChunk).containsExactly(items.get(0).getItemId());
+        assertThat(lastChunk).isEmpty();
+    }
+
     @Test
     void create() {
         // given
@@ -91,10 +127,24 @@ class ItemRepositoryTest {
         Item item = itemRepository.create(Item.create(new ItemCreateRequest("data")));
 
         // when
-        itemRepository.delete(itemRepository.read(item.getItemId()).get());
+        boolean result = itemRepository.delete(itemRepository.read(item.getItemId()).get());
 
         // then
+        assertThat(result).isTrue();
         Optional<Item> itemOptional = itemRepository.read(item.getItemId());
         assertThat(itemOptional).isEmpty();
     }
+
+    @Test
+    void delete_shouldReturnFalse_whenAlreadyDeleted() {
+        // given
+        Item item = itemRepository.create(Item.create(new ItemCreateRequest("data")));
+        itemRepository.delete(item);
+
+        // when
+        boolean result = itemRepository.delete(item);
+
+        // then
+        assertThat(result).isFalse();
+    }
 }
\ No newline at end of file
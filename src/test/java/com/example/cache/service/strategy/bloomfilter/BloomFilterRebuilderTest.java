@@ -0,0 +1,64 @@
+package com.example.cache.service.strategy.bloomfilter;
+
+import com.example.cache.RedisTestContainerSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BloomFilterRebuilderTest extends RedisTestContainerSupport {
+
+    @Autowired
+    BloomFilterRebuilder bloomFilterRebuilder;
+    @Autowired
+    BloomFilterRedisHandler bloomFilterRedisHandler;
+
+    @Test
+    @DisplayName("Data Source의 모든 id를 chunk 단위로 읽어 재구축하고, 완료되면 ready 상태가 된다")
+    void rebuild() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testRebuildId", 10000, 0.01);
+        List<Long> ids = LongStream.range(0, 5500).boxed().toList();
+
+        assertThat(bloomFilterRebuilder.isReady(bloomFilter)).isFalse();
+
+        // when
+        boolean result = bloomFilterRebuilder.rebuild(bloomFilter, (lastId, chunkSize) -> ids.stream()
+                .filter(id -> lastId == null || id > lastId)
+                .limit(chunkSize)
+                .toList());
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(bloomFilterRebuilder.isReady(bloomFilter)).isTrue();
+        assertThat(bloomFilterRedisHandler.mightContainAll(bloomFilter, ids.stream().map(String::valueOf).toList()).values())
+                .containsOnly(true);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 재구축을 완료하면, 재구축하지 않은 노드도 ready 상태가 된다")
+    void isReady_whenRebuiltByOtherNode() throws InterruptedException {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testRebuildByOtherNodeId", 1000, 0.01);
+        // 재구축 표시를 먼저 획득하지 못한 노드
+        BloomFilterRebuilder otherNodeRebuilder = new BloomFilterRebuilder(bloomFilterRedisHandler);
+        assertThat(otherNodeRebuilder.isReady(bloomFilter)).isFalse();
+
+        // when
+        boolean result = bloomFilterRebuilder.rebuild(bloomFilter, (lastId, chunkSize) -> lastId == null ? List.of(1L, 2L) : List.of());
+
+        // then
+        assertThat(result).isTrue();
+        // 로컬에 캐시된 결과가 만료된 후에는 Redis의 재구축 완료 Key로 ready를 판단한다.
+        TimeUnit.MILLISECONDS.sleep(1100);
+        assertThat(otherNodeRebuilder.isReady(bloomFilter)).isTrue();
+    }
+
+}
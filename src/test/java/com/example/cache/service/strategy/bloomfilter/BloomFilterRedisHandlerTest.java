@@ -7,7 +7,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,11 +37,11 @@ class BloomFilterRedisHandlerTest extends RedisTestContainerSupport {
         bloomFilterRedisHandler.add(bloomFilter, "value");
 
         // then
-        List<Long> hashedIndexes = bloomFilter.hash("value");
+        List<Long> hashedIndexes = Arrays.stream(bloomFilter.hash("value")).boxed().toList();
 
         for (long offset = 0; offset < bloomFilter.getBitSize(); offset++) {
             Boolean result = redisTemplate.opsForValue()
-                    .getBit("bloom-filter:" + bloomFilter.getId(), offset);
+                    .getBit(bloomFilterRedisHandler.genKey(bloomFilter), offset);
 
             // 해시된 인덱스만 true, 나머지는 false여야 한다
             assertThat(result).isEqualTo(hashedIndexes.contains(offset));
@@ -64,7 +67,7 @@ class BloomFilterRedisHandlerTest extends RedisTestContainerSupport {
         // then
         for (long offset = 0; offset < bloomFilter.getBitSize(); offset++) {
             Boolean result = redisTemplate.opsForValue()
-                    .getBit("bloom-filter:" + bloomFilter.getId(), offset);
+                    .getBit(bloomFilterRedisHandler.genKey(bloomFilter), offset);
 
             assertThat(result).isFalse();
         }
@@ -119,7 +122,7 @@ class BloomFilterRedisHandlerTest extends RedisTestContainerSupport {
         */
 
         BloomFilter bloomFilter = BloomFilter.create("testId", 400_000_000, 0.01);
-        List<Long> hashedIndexes = bloomFilter.hash("value");
+        List<Long> hashedIndexes = Arrays.stream(bloomFilter.hash("value")).boxed().toList();
 
         System.out.println("bloomFilter.getBitSize() = " + bloomFilter.getBitSize());
         System.out.println("hashedIndexes = " + hashedIndexes);
@@ -140,7 +143,7 @@ class BloomFilterRedisHandlerTest extends RedisTestContainerSupport {
         */
 
         BloomFilter bloomFilter = BloomFilter.create("testId", 400_000_000, 0.01);
-        List<Long> hashedIndexes = bloomFilter.hash("value");
+        List<Long> hashedIndexes = Arrays.stream(bloomFilter.hash("value")).boxed().toList();
 
         System.out.println("bloomFilter.getBitSize() = " + bloomFilter.getBitSize());
         System.out.println("hashedIndexes = " + hashedIndexes);
@@ -191,4 +194,168 @@ class BloomFilterRedisHandlerTest extends RedisTestContainerSupport {
         }
     }
 
+    @Test
+    @DisplayName("Bloom Filter에 일괄 추가한 값은 일괄 조회 시 모두 true이고, 단건 조회 결과와 동일하다")
+    void mightContainAll() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testId", 1000, 0.01);
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        bloomFilterRedisHandler.addAll(bloomFilter, values);
+
+        List<String> notAddedValues = IntStream.range(0, 1000)
+                .mapToObj(idx -> "notAddedValue" + idx)
+                .toList();
+
+        // when
+        Map<String, Boolean> result = bloomFilterRedisHandler.mightContainAll(bloomFilter, values);
+        Map<String, Boolean> notAddedResult = bloomFilterRedisHandler.mightContainAll(bloomFilter, notAddedValues);
+
+        // then
+        // 추가된 값은 False Negative 없이 모두 true
+        assertThat(result).hasSize(values.size());
+        assertThat(result.values()).containsOnly(true);
+
+        // 추가되지 않은 값은 단건 조회와 동일한 결과 (False Positive 포함)
+        for (String value : notAddedValues) {
+            assertThat(notAddedResult.get(value))
+                    .isEqualTo(bloomFilterRedisHandler.mightContain(bloomFilter, value));
+        }
+        System.out.println("falsePositiveCount = " + notAddedResult.values().stream().filter(Boolean::booleanValue).count());
+    }
+
+    @Test
+    @DisplayName("Lua 스크립트 add는 추가 전에 이미 존재했을 수도 있는지 여부를 반환한다")
+    void addByScript() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testId", 1000, 0.01);
+
+        // when
+        boolean first = bloomFilterRedisHandler.addByScript(bloomFilter, "value");
+        boolean second = bloomFilterRedisHandler.addByScript(bloomFilter, "value");
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+        assertThat(bloomFilterRedisHandler.mightContain(bloomFilter, "value")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Lua 스크립트 조회 결과는 파이프라인 조회 결과와 동일하다")
+    void mightContainByScript() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testId", 1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            bloomFilterRedisHandler.addByScript(bloomFilter, "value" + i);
+        }
+
+        // when, then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(bloomFilterRedisHandler.mightContainByScript(bloomFilter, "value" + i)).isTrue();
+        }
+        for (int i = 0; i < 1000; i++) {
+            String value = "notAddedValue" + i;
+            assertThat(bloomFilterRedisHandler.mightContainByScript(bloomFilter, value))
+                    .isEqualTo(bloomFilterRedisHandler.mightContain(bloomFilter, value));
+        }
+    }
+
+    @Test
+    @DisplayName("파이프라인 조회와 Lua 스크립트 조회의 실행 시간을 비교한다")
+    void printExecutionTime_mightContainByScript() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testId", 1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            bloomFilterRedisHandler.add(bloomFilter, "value" + i);
+        }
+
+        int count = 10_000;
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            // 대부분 존재하지 않는 값 조회 (Bloom Filter의 주 사용 목적)
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                bloomFilterRedisHandler.mightContain(bloomFilter, "notAddedValue" + i);
+            }
+            long pipelineMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                bloomFilterRedisHandler.mightContainByScript(bloomFilter, "notAddedValue" + i);
+            }
+            long scriptMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            System.out.println("pipelineMillis = " + pipelineMillis + ", scriptMillis = " + scriptMillis);
+        }
+    }
+
+    @Test
+    @DisplayName("재구축 중에는 기존 필터로 조회되고, 완료되면 재구축한 필터로 교체된다")
+    void rebuild() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testId", 1000, 0.01);
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        bloomFilterRedisHandler.addAll(bloomFilter, values);
+
+        // 절반은 Data Source에서 삭제되었다고 가정
+        List<String> remainingValues = values.subList(0, 500);
+        List<String> deletedValues = values.subList(500, 1000);
+
+        // when
+        assertThat(bloomFilterRedisHandler.startRebuild(bloomFilter, Duration.ofMinutes(1))).isTrue();
+        // 이미 재구축 중이라면 시작하지 않음
+        assertThat(bloomFilterRedisHandler.startRebuild(bloomFilter, Duration.ofMinutes(1))).isFalse();
+
+        bloomFilterRedisHandler.addAllToRebuild(bloomFilter, remainingValues, Duration.ofMinutes(1));
+        // 재구축 도중 추가된 값
+        bloomFilterRedisHandler.addByScript(bloomFilter, "newValue1");
+        bloomFilterRedisHandler.add(bloomFilter, "newValue2");
+        bloomFilterRedisHandler.addAll(bloomFilter, List.of("newValue3"));
+
+        // then
+        // 재구축 완료 전에는 기존 필터로 조회되므로 False Negative 없음
+        assertThat(bloomFilterRedisHandler.mightContainAll(bloomFilter, values).values()).containsOnly(true);
+        assertThat(bloomFilterRedisHandler.isBuilt(bloomFilter)).isFalse();
+
+        assertThat(bloomFilterRedisHandler.completeRebuild(bloomFilter)).isTrue();
+        assertThat(bloomFilterRedisHandler.isBuilt(bloomFilter)).isTrue();
+
+        // 재구축 도중 추가된 값도 포함
+        assertThat(bloomFilterRedisHandler.mightContainAll(bloomFilter, remainingValues).values()).containsOnly(true);
+        assertThat(bloomFilterRedisHandler.mightContainAll(bloomFilter, List.of("newValue1", "newValue2", "newValue3")).values())
+                .containsOnly(true);
+
+        // 삭제된 값은 대부분 false
+        long deletedButMightContainCount = bloomFilterRedisHandler.mightContainAll(bloomFilter, deletedValues)
+                .values().stream()
+                .filter(Boolean::booleanValue)
+                .count();
+        System.out.println("deletedButMightContainCount = " + deletedButMightContainCount);
+        assertThat(deletedButMightContainCount).isLessThan(deletedValues.size() / 10);
+
+        // 재구축 표시가 제거되어 다시 재구축할 수 있음
+        assertThat(bloomFilterRedisHandler.startRebuild(bloomFilter, Duration.ofMinutes(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구축 표시가 만료되면 재구축한 필터로 교체하지 않는다")
+    void rebuild_whenMarkerExpired() throws InterruptedException {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testId", 1000, 0.01);
+        bloomFilterRedisHandler.addAll(bloomFilter, List.of("value"));
+
+        bloomFilterRedisHandler.startRebuild(bloomFilter, Duration.ofMillis(100));
+        TimeUnit.MILLISECONDS.sleep(300);
+
+        // when
+        boolean result = bloomFilterRedisHandler.completeRebuild(bloomFilter);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(bloomFilterRedisHandler.isBuilt(bloomFilter)).isFalse();
+        assertThat(bloomFilterRedisHandler.mightContain(bloomFilter, "value")).isTrue();
+    }
+
 }
@@ -1,9 +1,12 @@
 package com.example.cache.service.strategy.bloomfilter;
 
+import com.google.common.hash.Hashing;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -54,14 +57,14 @@ class BloomFilterTest {
         BloomFilter bloomFilter = BloomFilter.create("testId", 1000, 0.01);
 
         for (int i = 0; i < 100; i++) {
-            List<Long> hashedIndexes = bloomFilter.hash("value" + i);
+            long[] hashedIndexes = bloomFilter.hash("value" + i);
 
             // 해시 함수 개수만큼 인덱스가 생성되는지 확인
-            assertThat(hashedIndexes.size())
+            assertThat(hashedIndexes.length)
                     .isEqualTo(bloomFilter.getHashFunctionCount());
 
             // 모든 인덱스가 비트 배열 범위 내에 있는지 확인
-            for (Long hashedIndex : hashedIndexes) {
+            for (long hashedIndex : hashedIndexes) {
                 assertThat(hashedIndex).isGreaterThanOrEqualTo(0);
                 assertThat(hashedIndex).isLessThan(bloomFilter.getBitSize());
                 System.out.println("hashedIndex = " + hashedIndex);
@@ -71,4 +74,104 @@ class BloomFilterTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("SEEDED_MURMUR3 방식은 기존과 동일한 비트 인덱스를 생성한다")
+    void hash_seededMurmur3() {
+        BloomFilter bloomFilter = BloomFilter.create("testId", 1000, 0.01);
+        long[] hashedIndexes = new long[bloomFilter.getHashFunctionCount()];
+
+        for (int i = 0; i < 1000; i++) {
+            String value = "value" + i;
+            bloomFilter.hash(value, hashedIndexes);
+
+            assertThat(bloomFilter.hash(value)).isEqualTo(legacyHash(bloomFilter, value));
+            assertThat(hashedIndexes).containsExactly(legacyHash(bloomFilter, value));
+        }
+    }
+
+    @Test
+    @DisplayName("DOUBLE_HASHING 방식은 k개의 유효한 인덱스를 생성하고, 오차율이 기대치 수준으로 유지된다")
+    void hash_doubleHashing() {
+        BloomFilter bloomFilter = BloomFilter.create("testId", 1000, 0.01, BloomFilterHashing.DOUBLE_HASHING);
+        long[] hashedIndexes = new long[bloomFilter.getHashFunctionCount()];
+        BitSet bits = new BitSet((int) bloomFilter.getBitSize());
+
+        for (int i = 0; i < 1000; i++) {
+            String value = "value" + i;
+            bloomFilter.hash(value, hashedIndexes);
+            assertThat(bloomFilter.hash(value)).containsExactly(hashedIndexes);
+
+            for (long hashedIndex : hashedIndexes) {
+                assertThat(hashedIndex).isGreaterThanOrEqualTo(0);
+                assertThat(hashedIndex).isLessThan(bloomFilter.getBitSize());
+                bits.set((int) hashedIndex);
+            }
+        }
+
+        int falsePositiveCount = 0;
+        int testCount = 100_000;
+        for (int i = 0; i < testCount; i++) {
+            bloomFilter.hash("notAdded" + i, hashedIndexes);
+            boolean mightContain = true;
+            for (long hashedIndex : hashedIndexes) {
+                mightContain &= bits.get((int) hashedIndex);
+            }
+            if (mightContain) {
+                falsePositiveCount++;
+            }
+        }
+
+        double falsePositiveRate = (double) falsePositiveCount / testCount;
+        System.out.println("falsePositiveRate = " + falsePositiveRate);
+        assertThat(falsePositiveRate).isLessThan(0.015);
+    }
+
+    @Test
+    @DisplayName("해시 방식과 결과 반환 방식에 따른 인덱스 생성 시간을 비교한다")
+    void printExecutionTime_hash() {
+        int count = 1_000_000;
+
+        for (double falsePositiveRate : new double[]{0.01, 0.005, 0.0025}) { // Sub Filter는 레벨마다 오차율이 절반
+            BloomFilter seeded = BloomFilter.create("testId", 1000, falsePositiveRate);
+            BloomFilter doubleHashing = BloomFilter.create("testId", 1000, falsePositiveRate, BloomFilterHashing.DOUBLE_HASHING);
+            long[] hashedIndexes = new long[seeded.getHashFunctionCount()];
+
+            for (int warmUp = 0; warmUp < 2; warmUp++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    legacyHash(seeded, "value" + i);
+                }
+                long legacyNanos = (System.nanoTime() - start) / count;
+
+                start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    seeded.hash("value" + i, hashedIndexes);
+                }
+                long seededNanos = (System.nanoTime() - start) / count;
+
+                start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    doubleHashing.hash("value" + i, hashedIndexes);
+                }
+                long doubleHashingNanos = (System.nanoTime() - start) / count;
+
+                System.out.println("k = " + seeded.getHashFunctionCount()
+                        + ", legacyNanos = " + legacyNanos
+                        + ", seededNanos = " + seededNanos
+                        + ", doubleHashingNanos = " + doubleHashingNanos);
+            }
+        }
+    }
+
+    /**
+     * 기존 BloomFilter.hash 방식 (매 호출마다 seed 별 HashFunction 생성)
+     */
+    private long[] legacyHash(BloomFilter bloomFilter, String value) {
+        return IntStream.range(0, bloomFilter.getHashFunctionCount())
+                .mapToLong(seed -> Math.abs(Hashing.murmur3_128(seed)
+                        .hashString(value, StandardCharsets.UTF_8)
+                        .asLong() % bloomFilter.getBitSize()))
+                .toArray();
+    }
+
+}
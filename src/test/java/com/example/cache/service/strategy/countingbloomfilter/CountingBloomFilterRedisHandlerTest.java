@@ -0,0 +1,156 @@
+package com.example.cache.service.strategy.countingbloomfilter;
+
+import com.example.cache.RedisTestContainerSupport;
+import com.example.cache.service.strategy.splitbloomfilter.SplitBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CountingBloomFilterRedisHandlerTest extends RedisTestContainerSupport {
+
+    @Autowired
+    CountingBloomFilterRedisHandler countingBloomFilterRedisHandler;
+
+    @Test
+    @DisplayName("추가된 데이터는 항상 true로 조회되고, 일괄 조회 결과는 단건 조회 결과와 동일하다")
+    void mightContain() {
+        // given
+        CountingBloomFilter countingBloomFilter = CountingBloomFilter.create("testId", 1000, 0.01, 4);
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        countingBloomFilterRedisHandler.addAll(countingBloomFilter, values);
+
+        List<String> notAddedValues = IntStream.range(0, 1000)
+                .mapToObj(idx -> "notAddedValue" + idx)
+                .toList();
+
+        // when
+        Map<String, Boolean> result = countingBloomFilterRedisHandler.mightContainAll(countingBloomFilter, values);
+        Map<String, Boolean> notAddedResult = countingBloomFilterRedisHandler.mightContainAll(countingBloomFilter, notAddedValues);
+
+        // then
+        assertThat(result).hasSize(values.size());
+        assertThat(result.values()).containsOnly(true);
+        for (String value : values) {
+            assertThat(countingBloomFilterRedisHandler.mightContain(countingBloomFilter, value)).isTrue();
+        }
+        for (String value : notAddedValues) {
+            assertThat(notAddedResult.get(value))
+                    .isEqualTo(countingBloomFilterRedisHandler.mightContain(countingBloomFilter, value));
+        }
+
+        long falsePositiveCount = notAddedResult.values().stream().filter(Boolean::booleanValue).count();
+        System.out.println("falsePositiveCount = " + falsePositiveCount);
+    }
+
+    @Test
+    @DisplayName("한 Shard의 모든 Split Key는 Shard id를 Hash Tag로 사용하여 같은 Slot에 저장된다")
+    void addAll_hashTaggedKeys() {
+        // given
+        CountingBloomFilter countingBloomFilter = CountingBloomFilter.create("testId", 1000, 0.01, 4);
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+
+        // when
+        countingBloomFilterRedisHandler.addAll(countingBloomFilter, values);
+
+        // then
+        for (SplitBloomFilter shard : countingBloomFilter.getSplitShardedBloomFilter().getShards()) {
+            Set<String> keys = redisTemplate.keys("counting-bloom-filter:{" + shard.getId() + "}:split:*");
+            assertThat(keys).isNotEmpty();
+            assertThat(keys.stream().map(ClusterSlotHashUtil::calculateSlot).distinct()).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("삭제한 데이터는 false로 조회되고, 남아있는 데이터는 계속 true로 조회된다")
+    void remove() {
+        // given
+        CountingBloomFilter countingBloomFilter = CountingBloomFilter.create("testId", 1000, 0.01, 4);
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        countingBloomFilterRedisHandler.addAll(countingBloomFilter, values);
+
+        List<String> removedValues = values.subList(0, 500);
+        List<String> remainingValues = values.subList(500, 1000);
+
+        // when
+        for (String value : removedValues) {
+            assertThat(countingBloomFilterRedisHandler.remove(countingBloomFilter, value)).isTrue();
+        }
+
+        // then
+        // 남아있는 데이터는 False Negative 없이 모두 true
+        assertThat(countingBloomFilterRedisHandler.mightContainAll(countingBloomFilter, remainingValues).values())
+                .containsOnly(true);
+
+        // 삭제한 데이터는 남아있는 데이터와 카운터를 공유하는 경우(False Positive)를 제외하면 false
+        long removedButMightContainCount = countingBloomFilterRedisHandler.mightContainAll(countingBloomFilter, removedValues)
+                .values().stream()
+                .filter(Boolean::booleanValue)
+                .count();
+        System.out.println("removedButMightContainCount = " + removedButMightContainCount);
+        assertThat(removedButMightContainCount).isLessThan(removedValues.size() / 10);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 데이터는 삭제되지 않고, 다른 데이터의 카운터도 감소시키지 않는다")
+    void remove_notAdded() {
+        // given
+        CountingBloomFilter countingBloomFilter = CountingBloomFilter.create("testId", 1000, 0.01, 4);
+        countingBloomFilterRedisHandler.add(countingBloomFilter, "value");
+
+        // when
+        boolean result = countingBloomFilterRedisHandler.remove(countingBloomFilter, "notAddedValue");
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(countingBloomFilterRedisHandler.mightContain(countingBloomFilter, "value")).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 값을 여러 번 추가하면 추가한 횟수만큼 삭제해야 false로 조회된다")
+    void remove_duplicated() {
+        // given
+        CountingBloomFilter countingBloomFilter = CountingBloomFilter.create("testId", 1000, 0.01, 4);
+        countingBloomFilterRedisHandler.addAll(countingBloomFilter, Collections.nCopies(3, "value"));
+
+        // when, then
+        for (int i = 0; i < 3; i++) {
+            assertThat(countingBloomFilterRedisHandler.mightContain(countingBloomFilter, "value")).isTrue();
+            assertThat(countingBloomFilterRedisHandler.remove(countingBloomFilter, "value")).isTrue();
+        }
+        assertThat(countingBloomFilterRedisHandler.mightContain(countingBloomFilter, "value")).isFalse();
+    }
+
+    @Test
+    @DisplayName("카운터가 포화(15)되면 이후 삭제로 감소시키지 않아 False Negative가 발생하지 않는다")
+    void remove_saturated() {
+        // given
+        CountingBloomFilter countingBloomFilter = CountingBloomFilter.create("testId", 1000, 0.01, 4);
+        countingBloomFilterRedisHandler.addAll(countingBloomFilter, Collections.nCopies(20, "value"));
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            countingBloomFilterRedisHandler.remove(countingBloomFilter, "value");
+        }
+
+        // then
+        assertThat(countingBloomFilterRedisHandler.mightContain(countingBloomFilter, "value")).isTrue();
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.example.cache.service.strategy.cuckoofilter;
+
+import com.example.cache.RedisTestContainerSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CuckooFilterRebuilderTest extends RedisTestContainerSupport {
+
+    @Autowired
+    CuckooFilterRebuilder cuckooFilterRebuilder;
+    @Autowired
+    CuckooFilterRedisHandler cuckooFilterRedisHandler;
+
+    @Test
+    @DisplayName("degraded 필터를 Data Source 기준으로 재구축하면 degraded 표시가 해제되어 다시 필터링한다")
+    void rebuild_clearsDegraded() {
+        // given
+        // 버킷 4개 * 슬롯 4개 = 16개 슬롯
+        CuckooFilter cuckooFilter = CuckooFilter.create("testRebuildId", 8, 0.01);
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; cuckooFilterRedisHandler.add(cuckooFilter, String.valueOf(id)); id++) {
+            ids.add(id);
+        }
+        cuckooFilterRedisHandler.markDegraded(cuckooFilter);
+        assertThat(cuckooFilterRedisHandler.mightContain(cuckooFilter, "notAddedValue")).isTrue();
+
+        // 절반을 삭제해서 빈 슬롯이 생김
+        List<Long> remainingIds = ids.subList(0, ids.size() / 2);
+
+        // when
+        boolean result = cuckooFilterRebuilder.rebuild(cuckooFilter, idChunkReader(remainingIds));
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(redisTemplate.hasKey("cuckoo-filter:{testRebuildId}:degraded")).isFalse();
+        assertThat(redisTemplate.hasKey("cuckoo-filter:{testRebuildId}:rebuild")).isFalse();
+        for (Long id : remainingIds) {
+            assertThat(cuckooFilterRedisHandler.mightContain(cuckooFilter, String.valueOf(id))).isTrue();
+        }
+        long mightContainCount = ids.subList(ids.size() / 2, ids.size()).stream()
+                .filter(id -> cuckooFilterRedisHandler.mightContain(cuckooFilter, String.valueOf(id)))
+                .count();
+        assertThat(mightContainCount).isLessThan(ids.size() - ids.size() / 2);
+    }
+
+    @Test
+    @DisplayName("데이터 수가 필터 용량을 넘으면 재구축에 실패하고, 기존 필터와 degraded 표시가 유지된다")
+    void rebuild_whenFull() {
+        // given
+        CuckooFilter cuckooFilter = CuckooFilter.create("testRebuildFullId", 8, 0.01);
+        cuckooFilterRedisHandler.add(cuckooFilter, "1");
+        cuckooFilterRedisHandler.markDegraded(cuckooFilter);
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            ids.add(id);
+        }
+
+        // when
+        boolean result = cuckooFilterRebuilder.rebuild(cuckooFilter, idChunkReader(ids));
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(redisTemplate.hasKey("cuckoo-filter:{testRebuildFullId}:degraded")).isTrue();
+        assertThat(redisTemplate.hasKey("cuckoo-filter:{testRebuildFullId}:rebuild")).isFalse();
+        assertThat(cuckooFilterRedisHandler.mightContain(cuckooFilter, "notAddedValue")).isTrue();
+
+        // 실패 후 락이 만료될 때까지는 다시 재구축하지 않음
+        assertThat(cuckooFilterRebuilder.rebuild(cuckooFilter, idChunkReader(List.of(1L)))).isFalse();
+    }
+
+    private BiFunction<Long, Long, List<Long>> idChunkReader(List<Long> ids) {
+        return (lastId, chunkSize) -> ids.stream()
+                .filter(id -> lastId == null || id > lastId)
+                .limit(chunkSize)
+                .toList();
+    }
+
+}
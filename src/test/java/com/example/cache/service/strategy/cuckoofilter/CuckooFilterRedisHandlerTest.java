@@ -0,0 +1,211 @@
+package com.example.cache.service.strategy.cuckoofilter;
+
+import com.example.cache.RedisTestContainerSupport;
+import com.example.cache.service.strategy.bloomfilter.BloomFilter;
+import com.example.cache.service.strategy.bloomfilter.BloomFilterRedisHandler;
+import com.example.cache.service.strategy.splitbloomfilter.SplitBloomFilter;
+import com.example.cache.service.strategy.splitbloomfilter.SplitBloomFilterRedisHandler;
+import com.example.cache.service.strategy.splitshardedbloomfilter.SplitShardedBloomFilter;
+import com.example.cache.service.strategy.splitshardedbloomfilter.SplitShardedBloomFilterRedisHandler;
+import com.example.cache.service.strategy.splitshardedsubbloomfilter.SplitShardedSubBloomFilter;
+import com.example.cache.service.strategy.splitshardedsubbloomfilter.SplitShardedSubBloomFilterRedisHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CuckooFilterRedisHandlerTest extends RedisTestContainerSupport {
+
+    @Autowired
+    CuckooFilterRedisHandler cuckooFilterRedisHandler;
+    @Autowired
+    BloomFilterRedisHandler bloomFilterRedisHandler;
+    @Autowired
+    SplitBloomFilterRedisHandler splitBloomFilterRedisHandler;
+    @Autowired
+    SplitShardedBloomFilterRedisHandler splitShardedBloomFilterRedisHandler;
+    @Autowired
+    SplitShardedSubBloomFilterRedisHandler splitShardedSubBloomFilterRedisHandler;
+
+    @Test
+    @DisplayName("추가된 데이터는 항상 true로 조회되고, 일괄 조회 결과는 단건 조회 결과와 동일하다")
+    void mightContain() {
+        // given
+        CuckooFilter cuckooFilter = CuckooFilter.create("testId", 1000, 0.01);
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        for (String value : values) {
+            assertThat(cuckooFilterRedisHandler.add(cuckooFilter, value)).isTrue();
+        }
+
+        List<String> notAddedValues = IntStream.range(0, 10000)
+                .mapToObj(idx -> "notAddedValue" + idx)
+                .toList();
+
+        // when
+        Map<String, Boolean> result = cuckooFilterRedisHandler.mightContainAll(cuckooFilter, values);
+        Map<String, Boolean> notAddedResult = cuckooFilterRedisHandler.mightContainAll(cuckooFilter, notAddedValues);
+
+        // then
+        assertThat(result).hasSize(values.size());
+        assertThat(result.values()).containsOnly(true);
+        for (String value : values) {
+            assertThat(cuckooFilterRedisHandler.mightContain(cuckooFilter, value)).isTrue();
+        }
+        for (String value : notAddedValues.subList(0, 1000)) {
+            assertThat(notAddedResult.get(value)).isEqualTo(cuckooFilterRedisHandler.mightContain(cuckooFilter, value));
+        }
+
+        double falsePositiveRate = (double) notAddedResult.values().stream().filter(Boolean::booleanValue).count() / notAddedValues.size();
+        System.out.println("falsePositiveRate = " + falsePositiveRate);
+        assertThat(falsePositiveRate).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("삭제한 데이터는 false로 조회되고, 남아있는 데이터는 계속 true로 조회된다")
+    void remove() {
+        // given
+        CuckooFilter cuckooFilter = CuckooFilter.create("testId", 1000, 0.01);
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        values.forEach(value -> cuckooFilterRedisHandler.add(cuckooFilter, value));
+
+        List<String> removedValues = values.subList(0, 500);
+        List<String> remainingValues = values.subList(500, 1000);
+
+        // when
+        for (String value : removedValues) {
+            assertThat(cuckooFilterRedisHandler.remove(cuckooFilter, value)).isTrue();
+        }
+
+        // then
+        assertThat(cuckooFilterRedisHandler.mightContainAll(cuckooFilter, remainingValues).values()).containsOnly(true);
+
+        long removedButMightContainCount = cuckooFilterRedisHandler.mightContainAll(cuckooFilter, removedValues)
+                .values().stream()
+                .filter(Boolean::booleanValue)
+                .count();
+        System.out.println("removedButMightContainCount = " + removedButMightContainCount);
+        assertThat(removedButMightContainCount).isLessThan(removedValues.size() / 10);
+    }
+
+    @Test
+    @DisplayName("필터가 가득 차서 추가에 실패해도, 이미 추가된 데이터는 재배치 롤백으로 유실되지 않는다")
+    void add_whenFull() {
+        // given
+        // 버킷 4개 * 슬롯 4개 = 16개 슬롯
+        CuckooFilter cuckooFilter = CuckooFilter.create("testId", 8, 0.01);
+
+        // when
+        List<String> addedValues = new ArrayList<>();
+        int failedCount = 0;
+        for (int i = 0; i < 100; i++) {
+            String value = "value" + i;
+            if (cuckooFilterRedisHandler.add(cuckooFilter, value)) {
+                addedValues.add(value);
+            } else {
+                failedCount++;
+            }
+        }
+
+        // then
+        System.out.println("addedCount = " + addedValues.size() + ", failedCount = " + failedCount);
+        assertThat(failedCount).isPositive();
+        assertThat(addedValues.size()).isLessThanOrEqualTo(16);
+        for (String value : addedValues) {
+            assertThat(cuckooFilterRedisHandler.mightContain(cuckooFilter, value)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("degraded로 표시된 필터는 추가하지 못한 데이터도 true로 조회되고, 필터를 삭제하면 표시도 삭제된다")
+    void mightContain_whenDegraded() {
+        // given
+        CuckooFilter cuckooFilter = CuckooFilter.create("testId", 8, 0.01);
+        String failedValue = null;
+        for (int i = 0; failedValue == null; i++) {
+            String value = "value" + i;
+            if (!cuckooFilterRedisHandler.add(cuckooFilter, value)) {
+                failedValue = value;
+            }
+        }
+
+        // when
+        cuckooFilterRedisHandler.markDegraded(cuckooFilter);
+
+        // then
+        assertThat(cuckooFilterRedisHandler.mightContain(cuckooFilter, failedValue)).isTrue();
+        assertThat(cuckooFilterRedisHandler.mightContainAll(cuckooFilter, List.of(failedValue, "notAddedValue")).values())
+                .containsOnly(true);
+
+        cuckooFilterRedisHandler.delete(cuckooFilter);
+        assertThat(cuckooFilterRedisHandler.mightContain(cuckooFilter, failedValue)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 데이터 수와 오차율에서 Bloom Filter 4종과 원소 당 메모리, 조회 시간을 비교한다")
+    void printExecutionTime_compareWithBloomFilters() {
+        int dataCount = 10_000;
+        double falsePositiveRate = 0.01;
+        List<String> values = IntStream.range(0, dataCount)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        List<String> lookupValues = IntStream.range(0, 10000)
+                .mapToObj(idx -> (idx % 2 == 0 ? "value" : "notAddedValue") + idx)
+                .toList();
+
+        BloomFilter bloomFilter = BloomFilter.create("bench-bloom", dataCount, falsePositiveRate);
+        bloomFilterRedisHandler.addAll(bloomFilter, values);
+
+        SplitBloomFilter splitBloomFilter = SplitBloomFilter.create("bench-split", dataCount, falsePositiveRate);
+        splitBloomFilterRedisHandler.addAll(splitBloomFilter, values);
+
+        SplitShardedBloomFilter splitShardedBloomFilter = SplitShardedBloomFilter.create("bench-sharded", dataCount, falsePositiveRate, 4);
+        splitShardedBloomFilterRedisHandler.addAll(splitShardedBloomFilter, values);
+
+        SplitShardedSubBloomFilter splitShardedSubBloomFilter = SplitShardedSubBloomFilter.create("bench-sub", dataCount, falsePositiveRate, 4);
+        splitShardedSubBloomFilterRedisHandler.addAll(splitShardedSubBloomFilter, values);
+
+        CuckooFilter cuckooFilter = CuckooFilter.create("bench-cuckoo", dataCount, falsePositiveRate);
+        values.forEach(value -> cuckooFilterRedisHandler.add(cuckooFilter, value));
+
+        print("BLOOM_FILTER", "bloom-filter:{bench-bloom}*", dataCount, lookupValues,
+                value -> bloomFilterRedisHandler.mightContainByScript(bloomFilter, value));
+        print("SPLIT_BLOOM_FILTER", "split-bloom-filter:bench-split:*", dataCount, lookupValues,
+                value -> splitBloomFilterRedisHandler.mightContainByScript(splitBloomFilter, value));
+        print("SPLIT_SHARDED_BLOOM_FILTER", "split-bloom-filter:bench-sharded:*", dataCount, lookupValues,
+                value -> splitShardedBloomFilterRedisHandler.mightContainByScript(splitShardedBloomFilter, value));
+        print("SPLIT_SHARDED_SUB_BLOOM_FILTER", "split-bloom-filter:bench-sub:*", dataCount, lookupValues,
+                value -> splitShardedSubBloomFilterRedisHandler.mightContainByScript(splitShardedSubBloomFilter, value));
+        print("CUCKOO_FILTER", "cuckoo-filter:{bench-cuckoo}*", dataCount, lookupValues,
+                value -> cuckooFilterRedisHandler.mightContain(cuckooFilter, value));
+    }
+
+    private void print(String name, String keyPattern, int dataCount, List<String> lookupValues, Predicate<String> mightContain) {
+        long bytes = redisTemplate.keys(keyPattern).stream()
+                .mapToLong(key -> redisTemplate.opsForValue().size(key))
+                .sum();
+
+        long nanos = 0;
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            long start = System.nanoTime();
+            lookupValues.forEach(mightContain::test);
+            nanos = (System.nanoTime() - start) / lookupValues.size();
+        }
+
+        System.out.printf("%s: bytes = %d, bitsPerElement = %.2f, lookupMicros = %.1f%n",
+                name, bytes, bytes * 8.0 / dataCount, nanos / 1000.0);
+    }
+
+}
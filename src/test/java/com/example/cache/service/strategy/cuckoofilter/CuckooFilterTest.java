@@ -0,0 +1,41 @@
+package com.example.cache.service.strategy.cuckoofilter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CuckooFilterTest {
+
+    @Test
+    @DisplayName("입력값(n, p)에 따라 fingerprint 비트 수(f)와 버킷 수가 계산식에 맞게 생성된다")
+    void create() {
+        CuckooFilter cuckooFilter = CuckooFilter.create("testId", 1000, 0.01);
+
+        // f = ceil(log2(2 * 4 / 0.01)) = ceil(9.64) = 10
+        assertThat(cuckooFilter.getFingerprintBits()).isEqualTo(10);
+        // 1000 / (4 * 0.95) = 263.2 → 264 이상인 2의 거듭제곱
+        assertThat(cuckooFilter.getBucketCount()).isEqualTo(512);
+        assertThat(cuckooFilter.getBitSize()).isEqualTo(512L * 4 * 10);
+
+        System.out.println("cuckooFilter = " + cuckooFilter);
+    }
+
+    @Test
+    @DisplayName("fingerprint는 0이 아니고, 두 후보 버킷은 서로의 다른 후보 버킷이다")
+    void findPosition() {
+        CuckooFilter cuckooFilter = CuckooFilter.create("testId", 1000, 0.01);
+
+        for (int i = 0; i < 10000; i++) {
+            CuckooFilter.Position position = cuckooFilter.findPosition("value" + i);
+
+            assertThat(position.fingerprint()).isBetween(1L, (1L << cuckooFilter.getFingerprintBits()) - 1);
+            assertThat(position.index()).isBetween(0L, cuckooFilter.getBucketCount() - 1);
+            assertThat(position.altIndex()).isBetween(0L, cuckooFilter.getBucketCount() - 1);
+
+            // 저장된 fingerprint만으로 원래 버킷을 다시 찾을 수 있어야 재배치가 가능하다
+            assertThat(cuckooFilter.findAltIndex(position.altIndex(), position.fingerprint())).isEqualTo(position.index());
+        }
+    }
+
+}
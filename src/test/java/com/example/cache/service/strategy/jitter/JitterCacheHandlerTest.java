@@ -7,6 +7,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +26,7 @@ class JitterCacheHandlerTest extends RedisTestContainerSupport {
     void put() {
         // given, when
         jitterCacheHandler.put(
+                "test",
                 "testKey",
                 Duration.ofSeconds(10),
                 String.class
@@ -43,6 +47,7 @@ class JitterCacheHandlerTest extends RedisTestContainerSupport {
         // TTL이 jitter 범위(±3초) 이하이면 잘못된 설정
         assertThatThrownBy(() ->
                 jitterCacheHandler.put(
+                        "test",
                         "testKey",
                         Duration.ofSeconds(3),
                         String.class
@@ -55,6 +60,7 @@ class JitterCacheHandlerTest extends RedisTestContainerSupport {
     void evict() {
         // given
         jitterCacheHandler.put(
+                "test",
                 "testKey",
                 Duration.ofSeconds(10),
                 String.class
@@ -80,8 +86,71 @@ class JitterCacheHandlerTest extends RedisTestContainerSupport {
         assertThat(result3).isEqualTo("sourceData");
     }
 
+    @Test
+    @DisplayName("fetchAll은 캐시 미스 key만 Data Source에서 한 번에 조회하고, key 별로 jitter TTL을 적용하여 저장한다")
+    void fetchAll() {
+        // given
+        jitterCacheHandler.put("test", "testKey1", Duration.ofSeconds(10), "cachedData1");
+        List<List<String>> missLoaderCalls = new ArrayList<>();
+
+        // when
+        Map<String, String> result = jitterCacheHandler.fetchAll(
+                "test",
+                List.of("testKey1", "testKey2", "testKey3"),
+                Duration.ofSeconds(10),
+                missedKeys -> {
+                    missLoaderCalls.add(missedKeys);
+                    // testKey3은 Data Source에도 없는 데이터로 가정
+                    return Map.of("testKey2", "sourceData2");
+                },
+                String.class
+        );
+
+        // then
+        assertThat(result).containsExactly(
+                Map.entry("testKey1", "cachedData1"),
+                Map.entry("testKey2", "sourceData2")
+        );
+        assertThat(missLoaderCalls).containsExactly(List.of("testKey2", "testKey3"));
+
+        Long ttlSeconds = redisTemplate.getExpire("testKey2", TimeUnit.SECONDS);
+        assertThat(ttlSeconds).isBetween(7L, 13L);
+        assertThat(redisTemplate.hasKey("testKey3")).isFalse();
+    }
+
+    @Test
+    @DisplayName("fetchAll은 모든 key가 캐시 히트이면 Data Source를 호출하지 않는다")
+    void fetchAll_allHit() {
+        // given
+        jitterCacheHandler.fetchAll(
+                "test",
+                List.of("testKey1", "testKey2"),
+                Duration.ofSeconds(10),
+                missedKeys -> Map.of("testKey1", "sourceData1", "testKey2", "sourceData2"),
+                String.class
+        );
+
+        // when
+        Map<String, String> result = jitterCacheHandler.fetchAll(
+                "test",
+                List.of("testKey2", "testKey1"),
+                Duration.ofSeconds(10),
+                missedKeys -> {
+                    throw new IllegalStateException("cache miss. keys=" + missedKeys);
+                },
+                String.class
+        );
+
+        // then
+        assertThat(result).containsExactly(
+                Map.entry("testKey2", "sourceData2"),
+                Map.entry("testKey1", "sourceData1")
+        );
+    }
+
     private String fetchData() {
         return jitterCacheHandler.fetch(
+                "test",
                 "testKey",
                 Duration.ofSeconds(10),
                 () -> {
@@ -0,0 +1,129 @@
+package com.example.cache.service.strategy.localreplicabloomfilter;
+
+import com.example.cache.RedisTestContainerSupport;
+import com.example.cache.service.strategy.bloomfilter.BloomFilter;
+import com.example.cache.service.strategy.bloomfilter.BloomFilterRedisHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LocalReplicaBloomFilterHandlerTest extends RedisTestContainerSupport {
+
+    @Autowired
+    LocalReplicaBloomFilterHandler localReplicaBloomFilterHandler;
+
+    @Autowired
+    BloomFilterRedisHandler bloomFilterRedisHandler;
+
+    @Autowired
+    RedisMessageListenerContainer redisMessageListenerContainer;
+
+    /*
+        로컬 복제본은 테스트 간에 유지되므로 테스트마다 다른 Bloom Filter id를 사용한다.
+     */
+
+    @Test
+    @DisplayName("add는 Redis에 먼저 반영되고, 로컬 복제본에서도 바로 조회된다")
+    void add() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testId-add", 1000, 0.01);
+
+        // when
+        localReplicaBloomFilterHandler.add(bloomFilter, "value");
+
+        // then
+        assertThat(localReplicaBloomFilterHandler.mightContain(bloomFilter, "value")).isTrue();
+        assertThat(bloomFilterRedisHandler.mightContain(bloomFilter, "value")).isTrue();
+    }
+
+    @Test
+    @DisplayName("최초 조회 시 Redis 비트맵 전체를 동기화한다")
+    void mightContain_shouldSyncFully_whenFirstAccess() {
+        // given
+        // 다른 노드에서 미리 추가된 데이터
+        BloomFilter bloomFilter = BloomFilter.create("testId-first-access", 1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            bloomFilterRedisHandler.add(bloomFilter, "value" + i);
+        }
+
+        // when, then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(localReplicaBloomFilterHandler.mightContain(bloomFilter, "value" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 추가된 데이터는 백그라운드 동기화 이후 로컬 복제본에 반영된다")
+    void mightContain_shouldSyncInBackground() throws InterruptedException {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testId-background", 1000, 0.01);
+        localReplicaBloomFilterHandler.mightContain(bloomFilter, "value"); // 복제본 생성
+
+        // when
+        // 다른 노드에서 추가된 데이터
+        bloomFilterRedisHandler.add(bloomFilter, "value");
+        TimeUnit.MILLISECONDS.sleep(500);
+
+        // then
+        assertThat(localReplicaBloomFilterHandler.mightContain(bloomFilter, "value")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 핸들러로 추가된 데이터는 비트맵 크기와 관계없이 pub/sub 알림으로 바로 반영된다")
+    void mightContain_shouldApplyAddedNotification() throws InterruptedException {
+        // given
+        // 전체 구간 동기화에 수 초가 걸리는 큰 비트맵 (구간 183개)
+        BloomFilter bloomFilter = BloomFilter.create("testId-notification", 10_000_000, 0.01);
+        localReplicaBloomFilterHandler.mightContain(bloomFilter, "value"); // 복제본 생성
+
+        // 다른 노드의 핸들러 (백그라운드 동기화 없이 알림만 사용)
+        LocalReplicaBloomFilterHandler otherNodeHandler = new LocalReplicaBloomFilterHandler(
+                redisTemplate,
+                bloomFilterRedisHandler,
+                redisMessageListenerContainer
+        );
+
+        // when
+        otherNodeHandler.add(bloomFilter, "value");
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        // then
+        assertThat(localReplicaBloomFilterHandler.mightContain(bloomFilter, "value")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로컬 복제본 조회와 Redis 조회의 실행 시간을 비교한다")
+    void printExecutionTime_mightContain() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testId-benchmark", 1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            localReplicaBloomFilterHandler.add(bloomFilter, "value" + i);
+        }
+
+        int count = 10_000;
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                bloomFilterRedisHandler.mightContainByScript(bloomFilter, "notAddedValue" + i);
+            }
+            long redisMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                localReplicaBloomFilterHandler.mightContain(bloomFilter, "notAddedValue" + i);
+            }
+            long localNanos = (System.nanoTime() - start) / count;
+
+            System.out.println("redisMillis = " + redisMillis + ", localNanosPerLookup = " + localNanos);
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.example.cache.service.strategy.localreplicabloomfilter;
+
+import com.example.cache.service.strategy.bloomfilter.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalReplicaBloomFilterTest {
+
+    @Test
+    @DisplayName("추가된 값은 항상 mightContain=true를 반환한다")
+    void mightContain() {
+        // given
+        LocalReplicaBloomFilter replica = LocalReplicaBloomFilter.create(BloomFilter.create("testId", 1000, 0.01));
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            replica.add("value" + i);
+        }
+
+        // then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(replica.mightContain("value" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 비트맵 byte를 병합하면 Redis와 동일한 비트 순서(byte 내 최상위 비트가 offset 0)로 반영된다")
+    void merge() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create("testId", 1000, 0.01);
+        LocalReplicaBloomFilter replica = LocalReplicaBloomFilter.create(bloomFilter);
+
+        // value의 비트 위치만 1인 Redis 비트맵 구성
+        long[] hashedIndexes = bloomFilter.hash("value");
+        byte[] bitmap = new byte[(int) replica.getByteSize()];
+        for (long hashedIndex : hashedIndexes) {
+            bitmap[(int) (hashedIndex / 8)] |= (byte) (0x80 >>> (hashedIndex % 8));
+        }
+
+        // when
+        // 구간을 나누어 병합
+        int half = bitmap.length / 2;
+        replica.merge(0, Arrays.copyOfRange(bitmap, 0, half));
+        replica.merge(half, Arrays.copyOfRange(bitmap, half, bitmap.length));
+
+        // then
+        assertThat(replica.mightContain("value")).isTrue();
+    }
+
+    @Test
+    @DisplayName("병합은 OR로 수행되어 로컬에서 추가된 비트를 지우지 않는다")
+    void merge_shouldNotClearLocalBits() {
+        // given
+        LocalReplicaBloomFilter replica = LocalReplicaBloomFilter.create(BloomFilter.create("testId", 1000, 0.01));
+        replica.add("value");
+
+        // when
+        // 아직 Redis에 반영되지 않은 빈 비트맵 병합
+        replica.merge(0, new byte[(int) replica.getByteSize()]);
+
+        // then
+        assertThat(replica.mightContain("value")).isTrue();
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.example.cache.service.strategy.nearcache;
+
+import com.example.cache.RedisTestContainerSupport;
+import com.example.cache.common.cache.CacheStrategy;
+import com.example.cache.service.strategy.jitter.JitterCacheHandler;
+import com.example.cache.service.strategy.per.ProbabilisticEarlyRecomputationCacheHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class NearCacheHandlerTest extends RedisTestContainerSupport {
+
+    @Autowired
+    NearCacheHandler nearCacheHandler;
+
+    @Autowired
+    JitterCacheHandler jitterCacheHandler;
+
+    @Autowired
+    ProbabilisticEarlyRecomputationCacheHandler probabilisticEarlyRecomputationCacheHandler;
+
+    // L1 캐시는 테스트 간에 공유되므로(Redis만 매번 초기화됨) 테스트마다 서로 다른 key를 사용한다
+
+    @Test
+    @DisplayName("fetch는 최초 1회만 Data Source를 호출하고 이후에는 캐시를 사용한다")
+    void fetch() {
+        // given
+        AtomicInteger sourceCallCount = new AtomicInteger();
+
+        // when
+        String result1 = fetchData("fetchKey", sourceCallCount); // L1 miss, L2 miss
+        String result2 = fetchData("fetchKey", sourceCallCount); // L1 hit
+        String result3 = fetchData("fetchKey", sourceCallCount); // L1 hit
+
+        // then
+        assertThat(result1).isEqualTo("sourceData");
+        assertThat(result2).isEqualTo("sourceData");
+        assertThat(result3).isEqualTo("sourceData");
+        assertThat(sourceCallCount.get()).isEqualTo(1);
+
+        // L2(Redis)에도 저장되어 있어야 한다
+        assertThat(redisTemplate.opsForValue().get("fetchKey")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("L2에만 데이터가 있으면 L2에서 조회한 뒤 L1을 채운다")
+    void fetch_shouldReadL2_whenL1Missed() {
+        // given: 다른 노드가 L2에만 저장해둔 상태를 가정
+        redisTemplate.opsForValue().set("l2Key", "\"remoteData\"", Duration.ofSeconds(10));
+        AtomicInteger sourceCallCount = new AtomicInteger();
+
+        // when
+        String result1 = fetchData("l2Key", sourceCallCount);
+
+        // L2가 삭제되더라도 L1에서 응답
+        redisTemplate.delete("l2Key");
+        String result2 = fetchData("l2Key", sourceCallCount);
+
+        // then
+        assertThat(result1).isEqualTo("remoteData");
+        assertThat(result2).isEqualTo("remoteData");
+        assertThat(sourceCallCount.get()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("L1은 fetch에 전달된 ttl이 지나면 만료되어 L2를 다시 조회한다")
+    void fetch_shouldExpireL1_afterTtl() throws InterruptedException {
+        // given
+        AtomicInteger sourceCallCount = new AtomicInteger();
+        nearCacheHandler.fetch("test", "ttlKey", Duration.ofMillis(200), () -> "sourceData", String.class);
+
+        // 다른 노드가 L2를 갱신한 상태를 가정
+        redisTemplate.opsForValue().set("ttlKey", "\"remoteData\"", Duration.ofSeconds(10));
+
+        // when
+        String beforeExpired = fetchData("ttlKey", sourceCallCount);
+        Thread.sleep(300);
+        String afterExpired = fetchData("ttlKey", sourceCallCount);
+
+        // then
+        assertThat(beforeExpired).isEqualTo("sourceData");
+        assertThat(afterExpired).isEqualTo("remoteData");
+        assertThat(sourceCallCount.get()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("L2로 사용할 수 없는 전략을 지정하면 생성 시점에 실패한다")
+    void create_shouldFail_whenRemoteStrategyUnsupported() {
+        assertThatThrownBy(() -> new NearCacheHandler(
+                jitterCacheHandler,
+                probabilisticEarlyRecomputationCacheHandler,
+                CacheStrategy.NEAR_CACHE
+        )).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("put 호출 시 L1과 L2가 모두 갱신된다")
+    void put() {
+        // given
+        AtomicInteger sourceCallCount = new AtomicInteger();
+        fetchData("putKey", sourceCallCount);
+
+        // when
+        nearCacheHandler.put("test", "putKey", Duration.ofSeconds(10), "updatedData");
+
+        // then
+        assertThat(fetchData("putKey", sourceCallCount)).isEqualTo("updatedData");
+        assertThat(redisTemplate.opsForValue().get("putKey")).isEqualTo("\"updatedData\"");
+        assertThat(sourceCallCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict 호출 시 L1과 L2가 모두 삭제된다")
+    void evict() {
+        // given
+        AtomicInteger sourceCallCount = new AtomicInteger();
+        fetchData("evictKey", sourceCallCount);
+
+        // when
+        nearCacheHandler.evict("evictKey");
+
+        // then
+        assertThat(redisTemplate.opsForValue().get("evictKey")).isNull();
+
+        // L1도 무효화되었으므로 Data Source를 다시 호출한다
+        fetchData("evictKey", sourceCallCount);
+        assertThat(sourceCallCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("L1 히트와 L2 히트의 조회 시간 차이를 확인한다")
+    void printExecutionTime_fetch() {
+        AtomicInteger sourceCallCount = new AtomicInteger();
+        fetchData("benchmarkKey", sourceCallCount);
+
+        // L1 히트
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            fetchData("benchmarkKey", sourceCallCount);
+        }
+        long l1Nanos = (System.nanoTime() - start) / 1000;
+
+        // L2 히트 (L1 없이 Redis 조회 + 역직렬화)
+        start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            jitterCacheHandler.fetch("test", "benchmarkKey", Duration.ofSeconds(10), () -> "sourceData", String.class);
+        }
+        long l2Nanos = (System.nanoTime() - start) / 1000;
+
+        System.out.println("l1HitNanos = " + l1Nanos);
+        System.out.println("l2HitNanos = " + l2Nanos);
+    }
+
+    private String fetchData(String key, AtomicInteger sourceCallCount) {
+        return nearCacheHandler.fetch(
+                "test",
+                key,
+                Duration.ofSeconds(10),
+                () -> {
+                    sourceCallCount.incrementAndGet();
+                    return "sourceData";
+                },
+                String.class
+        );
+    }
+
+}
@@ -1,9 +1,14 @@
 package com.example.cache.service.strategy.per;
 
+import com.example.cache.serde.DataCodecs;
+import com.example.cache.serde.DataCompressor;
+import com.example.cache.serde.DataType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -11,25 +16,61 @@ import static org.assertj.core.api.Assertions.assertThat;
 class CacheDataTest {
 
     @Test
-    @DisplayName("CacheData 생성 시 데이터가 문자열로 직렬화되고, 다시 원본 타입으로 역직렬화된다")
+    @DisplayName("CacheData 생성 시 데이터가 헤더 뒤에 그대로 직렬화되고, 다시 원본 타입으로 역직렬화된다")
     void parseData() {
         /*
             CacheData 생성 및 직렬화/역직렬화 검증 테스트
 
             - data: Long 타입 데이터
-            - CacheData 내부에서는 문자열로 직렬화되어 저장됨
+            - CacheData 내부에서는 [헤더][payload] 형식으로 저장됨 (payload를 JSON 문자열로 한 번 더 감싸지 않음)
             - parseData()를 통해 다시 원래 타입으로 복원 가능한지 확인
          */
-        CacheData cacheData = CacheData.of(1234L, 1000L, Duration.ofSeconds(10));
+        CacheData cacheData = CacheData.of(1234L, 1000L, Duration.ofSeconds(10), DataCodecs.JSON, DataCompressor.NONE, DataType.OBJECT);
         System.out.println("cacheData = " + cacheData);
 
-        // 직렬화된 문자열 데이터 확인
-        assertThat(cacheData.getData()).isEqualTo("1234");
+        // 헤더 뒤의 payload 확인
+        byte[] bytes = cacheData.toBytes();
+        assertThat(new String(bytes, CacheData.HEADER_SIZE, cacheData.getDataSize(), StandardCharsets.UTF_8))
+                .isEqualTo("1234");
 
         // 역직렬화 후 원본 데이터와 동일한지 확인
         assertThat(cacheData.parseData(Long.class)).isEqualTo(1234L);
     }
 
+    @Test
+    @DisplayName("저장된 값에서 헤더만 읽어서 재계산 여부를 판단하고, payload는 필요할 때 역직렬화한다")
+    void parseOrNull() {
+        // given
+        CacheData cacheData = CacheData.of(
+                List.of("a", "b"),
+                1000L,
+                Duration.ofSeconds(10),
+                DataCodecs.SMILE,
+                DataCompressor.NONE,
+                DataType.OBJECT
+        );
+
+        // when
+        CacheData parsed = CacheData.parseOrNull(cacheData.toBytes());
+
+        // then
+        assertThat(parsed).isNotNull();
+        assertThat(parsed.getComputationTimeMillis()).isEqualTo(1000L);
+        assertThat(parsed.getExpiredAtMillis()).isEqualTo(cacheData.getExpiredAtMillis());
+        assertThat(parsed.parseData(List.class)).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("이전 형식(JSON 문자열)이거나 헤더보다 짧은 값은 파싱하지 않는다")
+    void parseOrNull_invalid() {
+        byte[] legacy = "{\"data\":\"1234\",\"computationTimeMillis\":1000,\"expiredAtMillis\":0}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(CacheData.parseOrNull(null)).isNull();
+        assertThat(CacheData.parseOrNull(legacy)).isNull();
+        assertThat(CacheData.parseOrNull(new byte[]{CacheData.FORMAT_VERSION, 0, 0})).isNull();
+    }
+
     @Test
     @DisplayName("PER 알고리즘에 따라 TTL이 만료되기 전에도 확률적으로 재계산 대상이 될 수 있다")
     void shouldRecompute() throws InterruptedException {
@@ -41,7 +82,7 @@ class CacheDataTest {
             - 시간이 지남에 따라 확률적으로 true가 발생하는지 관찰
             - (결과는 확정적이지 않고 확률적 특성을 가짐)
          */
-        CacheData cacheData = CacheData.of(1234L, 1000L, Duration.ofSeconds(3));
+        CacheData cacheData = CacheData.of(1234L, 1000L, Duration.ofSeconds(3), DataCodecs.JSON, DataCompressor.NONE, DataType.OBJECT);
 
         for (int i = 0; i < 30; i++) {
             boolean result = cacheData.shouldRecompute(1);
@@ -5,8 +5,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,15 +20,19 @@ class ProbabilisticEarlyRecomputationCacheHandlerTest extends RedisTestContainer
     @Autowired
     ProbabilisticEarlyRecomputationCacheHandler cacheHandler;
 
+    @Autowired
+    RedisTemplate<String, byte[]> bytesRedisTemplate;
+
     @Test
     @DisplayName("PER 전략 캐시 put 시 데이터가 정상적으로 저장된다")
     void put() {
         // given, when
-        cacheHandler.put("testKey", Duration.ofSeconds(10), "data");
+        cacheHandler.put("test", "testKey", Duration.ofSeconds(10), "data");
 
         // then
-        String result = redisTemplate.opsForValue().get("testKey");
+        CacheData result = CacheData.parseOrNull(bytesRedisTemplate.opsForValue().get("testKey"));
         assertThat(result).isNotNull();
+        assertThat(result.parseData(String.class)).isEqualTo("data");
         System.out.println("result = " + result);
     }
 
@@ -32,7 +40,7 @@ class ProbabilisticEarlyRecomputationCacheHandlerTest extends RedisTestContainer
     @DisplayName("PER 전략 캐시 evict 호출 시 캐시 데이터가 제거된다")
     void evict() {
         // given
-        cacheHandler.put("testKey", Duration.ofSeconds(10), "data");
+        cacheHandler.put("test", "testKey", Duration.ofSeconds(10), "data");
 
         // when
         cacheHandler.evict("testKey");
@@ -54,8 +62,58 @@ class ProbabilisticEarlyRecomputationCacheHandlerTest extends RedisTestContainer
         assertThat(result3).isEqualTo("sourceData");
     }
 
+    @Test
+    @DisplayName("PER 전략 fetchAll 호출 시 캐시 미스 key만 Data Source에서 한 번에 조회한다")
+    void fetchAll() {
+        // given
+        cacheHandler.put("test", "testKey1", Duration.ofSeconds(10), "cachedData1");
+        List<List<String>> missLoaderCalls = new ArrayList<>();
+
+        // when
+        Map<String, String> result = cacheHandler.fetchAll(
+                "test",
+                List.of("testKey1", "testKey2"),
+                Duration.ofSeconds(10),
+                missedKeys -> {
+                    missLoaderCalls.add(missedKeys);
+                    return Map.of("testKey2", "sourceData2");
+                },
+                String.class
+        );
+
+        // then
+        assertThat(result).containsExactly(
+                Map.entry("testKey1", "cachedData1"),
+                Map.entry("testKey2", "sourceData2")
+        );
+        assertThat(missLoaderCalls).containsExactly(List.of("testKey2"));
+
+        // 재계산된 엔트리도 단건 조회와 동일한 CacheData 형태로 저장된다
+        CacheData cacheData = CacheData.parseOrNull(bytesRedisTemplate.opsForValue().get("testKey2"));
+        assertThat(cacheData).isNotNull();
+        assertThat(cacheData.parseData(String.class)).isEqualTo("sourceData2");
+    }
+
+    @Test
+    @DisplayName("이전 형식(JSON 문자열)으로 저장된 캐시는 파싱하지 못하므로 재계산하여 새 형식으로 저장한다")
+    void fetch_legacyFormat() {
+        // given
+        redisTemplate.opsForValue().set(
+                "testKey",
+                "{\"data\":\"\\\"legacyData\\\"\",\"computationTimeMillis\":100,\"expiredAtMillis\":" + Long.MAX_VALUE + "}"
+        );
+
+        // when
+        String result = fetchData();
+
+        // then
+        assertThat(result).isEqualTo("sourceData");
+        assertThat(CacheData.parseOrNull(bytesRedisTemplate.opsForValue().get("testKey"))).isNotNull();
+    }
+
     private String fetchData() {
         return cacheHandler.fetch(
+                "test",
                 "testKey",
                 Duration.ofSeconds(10),
                 () -> {
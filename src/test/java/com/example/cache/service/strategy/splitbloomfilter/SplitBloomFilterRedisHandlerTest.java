@@ -6,7 +6,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -93,7 +95,7 @@ class SplitBloomFilterRedisHandlerTest extends RedisTestContainerSupport {
 
         // then
         // Bloom Filter 해시 결과
-        List<Long> hashedIndexes = splitBloomFilter.getBloomFilter().hash("value");
+        List<Long> hashedIndexes = Arrays.stream(splitBloomFilter.getBloomFilter().hash("value")).boxed().toList();
 
         // 전체 비트 영역을 순회하며
         // 해시된 위치만 true인지 검증
@@ -135,4 +137,86 @@ class SplitBloomFilterRedisHandlerTest extends RedisTestContainerSupport {
         }
     }
 
+    @Test
+    @DisplayName("Split Bloom Filter에 일괄 추가한 값은 일괄 조회 시 모두 true이고, 단건 조회 결과와 동일하다")
+    void mightContainAll() {
+        // given
+        SplitBloomFilter splitBloomFilter = SplitBloomFilter.create("testId", 1000, 0.01);
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        splitBloomFilterRedisHandler.addAll(splitBloomFilter, values);
+
+        List<String> notAddedValues = IntStream.range(0, 1000)
+                .mapToObj(idx -> "notAddedValue" + idx)
+                .toList();
+
+        // when
+        Map<String, Boolean> result = splitBloomFilterRedisHandler.mightContainAll(splitBloomFilter, values);
+        Map<String, Boolean> notAddedResult = splitBloomFilterRedisHandler.mightContainAll(splitBloomFilter, notAddedValues);
+
+        // then
+        // 추가된 값은 False Negative 없이 모두 true
+        assertThat(result).hasSize(values.size());
+        assertThat(result.values()).containsOnly(true);
+
+        // 추가되지 않은 값은 단건 조회와 동일한 결과 (False Positive 포함)
+        for (String value : notAddedValues) {
+            assertThat(notAddedResult.get(value))
+                    .isEqualTo(splitBloomFilterRedisHandler.mightContain(splitBloomFilter, value));
+        }
+        System.out.println("falsePositiveCount = " + notAddedResult.values().stream().filter(Boolean::booleanValue).count());
+    }
+
+    @Test
+    @DisplayName("Lua 스크립트로 추가/조회한 결과는 파이프라인 추가/조회 결과와 동일하다")
+    void mightContainByScript() {
+        // given
+        // Split 여러 개에 비트가 분산되는 Split Bloom Filter
+        SplitBloomFilter splitBloomFilter = SplitBloomFilter.create("testId", 1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            splitBloomFilterRedisHandler.addByScript(splitBloomFilter, "value" + i);
+        }
+
+        // when, then
+        assertThat(splitBloomFilterRedisHandler.addByScript(splitBloomFilter, "value0")).isTrue();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(splitBloomFilterRedisHandler.mightContain(splitBloomFilter, "value" + i)).isTrue();
+            assertThat(splitBloomFilterRedisHandler.mightContainByScript(splitBloomFilter, "value" + i)).isTrue();
+        }
+        for (int i = 0; i < 1000; i++) {
+            String value = "notAddedValue" + i;
+            assertThat(splitBloomFilterRedisHandler.mightContainByScript(splitBloomFilter, value))
+                    .isEqualTo(splitBloomFilterRedisHandler.mightContain(splitBloomFilter, value));
+        }
+    }
+
+    @Test
+    @DisplayName("BLOCKED 방식에서 추가된 값은 반드시 true이고, 값의 비트는 하나의 Split Key에만 설정된다")
+    void mightContain_blocked() {
+        // given
+        SplitBloomFilter splitBloomFilter = SplitBloomFilter.create("testId", 1000, 0.01, new SplitBloomFilter.Options(SplitBloomFilterLayout.BLOCKED, SplitBloomFilterKeyMode.PLAIN));
+
+        // when
+        splitBloomFilterRedisHandler.add(splitBloomFilter, "value");
+
+        // then
+        // 비트가 설정된 Split Key는 1개
+        long touchedSplitCount = IntStream.range(0, (int) splitBloomFilter.getSplitCount())
+                .filter(splitIndex -> Boolean.TRUE.equals(redisTemplate.hasKey("split-bloom-filter:testId:split:" + splitIndex)))
+                .count();
+        assertThat(touchedSplitCount).isEqualTo(1);
+
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        values.forEach(value -> splitBloomFilterRedisHandler.add(splitBloomFilter, value));
+
+        for (String value : values) {
+            assertThat(splitBloomFilterRedisHandler.mightContain(splitBloomFilter, value)).isTrue();
+            assertThat(splitBloomFilterRedisHandler.mightContainByScript(splitBloomFilter, value)).isTrue();
+        }
+        assertThat(splitBloomFilterRedisHandler.mightContainAll(splitBloomFilter, values).values()).containsOnly(true);
+    }
+
 }
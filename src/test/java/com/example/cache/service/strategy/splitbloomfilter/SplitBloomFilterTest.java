@@ -3,6 +3,9 @@ package com.example.cache.service.strategy.splitbloomfilter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -76,4 +79,59 @@ class SplitBloomFilterTest {
                 .isEqualTo(bitSize - SplitBloomFilter.BIT_SPLIT_UNIT * (splitCount - 1));
     }
 
+    @Test
+    @DisplayName("BLOCKED 방식은 값의 k개 비트 인덱스가 모두 하나의 블록(하나의 split) 안에 있다")
+    void hash_blocked() {
+        SplitBloomFilter splitBloomFilter = SplitBloomFilter.create("testId", 1000, 0.01, new SplitBloomFilter.Options(SplitBloomFilterLayout.BLOCKED, SplitBloomFilterKeyMode.PLAIN));
+        long bitSize = splitBloomFilter.getBloomFilter().getBitSize();
+
+        for (int i = 0; i < 10000; i++) {
+            long[] hashedIndexes = splitBloomFilter.hash("value" + i);
+
+            assertThat(hashedIndexes).hasSize(splitBloomFilter.getBloomFilter().getHashFunctionCount());
+            long blockIndex = hashedIndexes[0] / SplitBloomFilter.BLOCK_BIT_SIZE;
+            for (long hashedIndex : hashedIndexes) {
+                assertThat(hashedIndex).isBetween(0L, bitSize - 1);
+                assertThat(hashedIndex / SplitBloomFilter.BLOCK_BIT_SIZE).isEqualTo(blockIndex);
+                assertThat(splitBloomFilter.findSplitIndex(hashedIndex))
+                        .isEqualTo(splitBloomFilter.findSplitIndex(hashedIndexes[0]));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("같은 m, k에서 BLOCKED 방식의 오차율 증가 폭을 확인한다")
+    void falsePositiveRate_blocked() {
+        for (double falsePositiveRate : new double[]{0.01, 0.001}) {
+            SplitBloomFilter scattered = SplitBloomFilter.create("testId", 100_000, falsePositiveRate);
+            SplitBloomFilter blocked = SplitBloomFilter.create("testId", 100_000, falsePositiveRate, new SplitBloomFilter.Options(SplitBloomFilterLayout.BLOCKED, SplitBloomFilterKeyMode.PLAIN));
+
+            double scatteredFalsePositiveRate = measureFalsePositiveRate(scattered);
+            double blockedFalsePositiveRate = measureFalsePositiveRate(blocked);
+
+            System.out.println("p = " + falsePositiveRate
+                    + ", scatteredFalsePositiveRate = " + scatteredFalsePositiveRate
+                    + ", blockedFalsePositiveRate = " + blockedFalsePositiveRate);
+
+            // 512비트 블록에서는 오차율 증가가 목표 오차율의 2배 이내
+            assertThat(blockedFalsePositiveRate).isLessThan(falsePositiveRate * 2);
+        }
+    }
+
+    private double measureFalsePositiveRate(SplitBloomFilter splitBloomFilter) {
+        BitSet bits = new BitSet((int) splitBloomFilter.getBloomFilter().getBitSize());
+        for (int i = 0; i < splitBloomFilter.getBloomFilter().getDataCount(); i++) {
+            Arrays.stream(splitBloomFilter.hash("value" + i)).forEach(hashedIndex -> bits.set((int) hashedIndex));
+        }
+
+        int testCount = 200_000;
+        int falsePositiveCount = 0;
+        for (int i = 0; i < testCount; i++) {
+            if (Arrays.stream(splitBloomFilter.hash("notAddedValue" + i)).allMatch(hashedIndex -> bits.get((int) hashedIndex))) {
+                falsePositiveCount++;
+            }
+        }
+        return (double) falsePositiveCount / testCount;
+    }
+
 }
@@ -1,12 +1,19 @@
 package com.example.cache.service.strategy.splitshardedbloomfilter;
 
 import com.example.cache.RedisTestContainerSupport;
+import com.example.cache.service.strategy.splitbloomfilter.SplitBloomFilter;
+import com.example.cache.service.strategy.splitbloomfilter.SplitBloomFilterKeyMode;
+import com.example.cache.service.strategy.splitbloomfilter.SplitBloomFilterLayout;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -56,4 +63,75 @@ class SplitShardedBloomFilterRedisHandlerTest extends RedisTestContainerSupport
         }
     }
 
+    @Test
+    @DisplayName("Split + Sharding 구조에 일괄 추가한 값은 일괄 조회 시 모두 true이고, 단건 조회 결과와 동일하다")
+    void mightContainAll() {
+        // given
+        SplitShardedBloomFilter splitShardedBloomFilter = SplitShardedBloomFilter.create("testId", 1000, 0.01, 4);
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        splitShardedBloomFilterRedisHandler.addAll(splitShardedBloomFilter, values);
+
+        List<String> notAddedValues = IntStream.range(0, 1000)
+                .mapToObj(idx -> "notAddedValue" + idx)
+                .toList();
+
+        // when
+        Map<String, Boolean> result = splitShardedBloomFilterRedisHandler.mightContainAll(splitShardedBloomFilter, values);
+        Map<String, Boolean> notAddedResult = splitShardedBloomFilterRedisHandler.mightContainAll(splitShardedBloomFilter, notAddedValues);
+
+        // then
+        // 추가된 값은 False Negative 없이 모두 true
+        assertThat(result).hasSize(values.size());
+        assertThat(result.values()).containsOnly(true);
+
+        // 추가되지 않은 값은 단건 조회와 동일한 결과 (False Positive 포함)
+        for (String value : notAddedValues) {
+            assertThat(notAddedResult.get(value))
+                    .isEqualTo(splitShardedBloomFilterRedisHandler.mightContain(splitShardedBloomFilter, value));
+        }
+        System.out.println("falsePositiveCount = " + notAddedResult.values().stream().filter(Boolean::booleanValue).count());
+    }
+
+    @Test
+    @DisplayName("HASH_TAGGED 방식에서 Shard의 모든 Split Key는 같은 Slot이고, Shard는 서로 다른 Slot으로 분산된다")
+    void mightContain_hashTagged() {
+        // given
+        SplitShardedBloomFilter splitShardedBloomFilter = SplitShardedBloomFilter.create(
+                "testId", 1000, 0.01, 4,
+                new SplitBloomFilter.Options(SplitBloomFilterLayout.SCATTERED, SplitBloomFilterKeyMode.HASH_TAGGED)
+        );
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+
+        // when
+        splitShardedBloomFilterRedisHandler.addAll(splitShardedBloomFilter, values);
+
+        // then
+        // 기존 형식의 Key는 생성되지 않음
+        assertThat(redisTemplate.keys("split-bloom-filter:testId:*")).isEmpty();
+
+        Set<Integer> shardSlots = splitShardedBloomFilter.getShards().stream()
+                .map(shard -> {
+                    Set<String> keys = redisTemplate.keys("split-bloom-filter:{" + shard.getId() + "}:split:*");
+                    assertThat(keys).hasSize((int) shard.getSplitCount());
+
+                    Set<Integer> slots = keys.stream().map(ClusterSlotHashUtil::calculateSlot).collect(Collectors.toSet());
+                    assertThat(slots).hasSize(1);
+                    return slots.iterator().next();
+                })
+                .collect(Collectors.toSet());
+        System.out.println("shardSlots = " + shardSlots);
+        assertThat(shardSlots).hasSize(splitShardedBloomFilter.getShardCount());
+
+        // 추가된 값은 단건/일괄/Lua 조회 모두 true
+        assertThat(splitShardedBloomFilterRedisHandler.mightContainAll(splitShardedBloomFilter, values).values()).containsOnly(true);
+        for (String value : values) {
+            assertThat(splitShardedBloomFilterRedisHandler.mightContain(splitShardedBloomFilter, value)).isTrue();
+            assertThat(splitShardedBloomFilterRedisHandler.mightContainByScript(splitShardedBloomFilter, value)).isTrue();
+        }
+    }
+
 }
@@ -1,14 +1,22 @@
 package com.example.cache.service.strategy.splitshardedsubbloomfilter;
 
 import com.example.cache.RedisTestContainerSupport;
+import com.example.cache.common.distributedlock.DistributedLockProvider;
+import com.example.cache.service.strategy.splitbloomfilter.SplitBloomFilterRedisHandler;
 import com.example.cache.service.strategy.splitshardedbloomfilter.SplitShardedBloomFilter;
+import com.example.cache.service.strategy.splitshardedbloomfilter.SplitShardedBloomFilterRedisHandler;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -18,6 +26,24 @@ class SplitShardedSubBloomFilterRedisHandlerTest extends RedisTestContainerSuppo
     @Autowired
     SplitShardedSubBloomFilterRedisHandler handler;
 
+    @Autowired
+    SplitShardedBloomFilterRedisHandler splitShardedBloomFilterRedisHandler;
+
+    @Autowired
+    SplitBloomFilterRedisHandler splitBloomFilterRedisHandler;
+
+    @Autowired
+    DistributedLockProvider distributedLockProvider;
+
+    @Autowired
+    RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 테스트에서 로컬에 캐시된 서브 필터 개수 제거
+        handler.delete(SplitShardedSubBloomFilter.create("testId", 1000, 0.01, 4));
+    }
+
     @Test
     @DisplayName("값을 추가하면 활성화된 서브 필터에 데이터가 저장된다")
     void add() {
@@ -28,60 +54,75 @@ class SplitShardedSubBloomFilterRedisHandlerTest extends RedisTestContainerSuppo
         // when: 값 추가
         handler.add(splitShardedSubBloomFilter, "value");
 
-        // then: 서브 필터는 아직 추가되지 않고, 데이터 개수만 증가
+        // then: 서브 필터는 아직 추가되지 않고, 데이터 개수만 백그라운드에서 증가
+        awaitUntil(() -> getDataCount(splitShardedSubBloomFilter.findActivatedFilter(0)) == 1);
         assertThat(getSubFilterCount(splitShardedSubBloomFilter)).isEqualTo(0);
-        assertThat(getDataCount(splitShardedSubBloomFilter.findActivatedFilter(0)))
-                .isEqualTo(1);
     }
 
     @Test
-    @DisplayName("필터가 가득 차면 새로운 서브 필터가 추가된다")
-    void add_shouldAddSubFilter_whenFilterIsFull() {
-        // given: 첫 번째 서브 필터가 가득 차기 직전 상태
+    @DisplayName("활성 필터의 데이터 개수가 임계치에 도달하면 가득 차기 전에 백그라운드에서 새로운 서브 필터가 추가된다")
+    void add_shouldAddSubFilter_whenFilterIsNearlyFull() {
+        // given: 첫 번째 필터가 임계치(90%)에 도달하기 직전 상태
         SplitShardedSubBloomFilter splitShardedSubBloomFilter =
                 SplitShardedSubBloomFilter.create("testId", 1000, 0.01, 4);
 
-        int count = 1000 - 1;
+        int count = 900 - 1;
         for (int i = 0; i < count; i++) {
             handler.add(splitShardedSubBloomFilter, "value" + i);
         }
 
+        awaitUntil(() -> getDataCount(splitShardedSubBloomFilter.findActivatedFilter(0)) == 899);
         assertThat(getSubFilterCount(splitShardedSubBloomFilter)).isEqualTo(0);
-        assertThat(getDataCount(splitShardedSubBloomFilter.findActivatedFilter(0)))
-                .isEqualTo(999);
 
-        // when: 한 건을 더 추가하여 필터가 가득 참
-        handler.add(splitShardedSubBloomFilter, "value1000");
+        // when: 한 건을 더 추가하여 임계치에 도달
+        handler.add(splitShardedSubBloomFilter, "value900");
 
-        // then: 새로운 서브 필터가 생성되고 활성화됨
-        assertThat(getSubFilterCount(splitShardedSubBloomFilter)).isEqualTo(1);
-        assertThat(getDataCount(splitShardedSubBloomFilter.findActivatedFilter(1)))
-                .isEqualTo(0);
+        // then: 새로운 서브 필터가 생성되고, 이후 데이터는 새로운 서브 필터에 추가됨
+        awaitUntil(() -> getSubFilterCount(splitShardedSubBloomFilter) == 1);
+        awaitUntil(() -> getDataCount(splitShardedSubBloomFilter.findActivatedFilter(0)) == 900);
+
+        handler.add(splitShardedSubBloomFilter, "value901");
+        awaitUntil(() -> getDataCount(splitShardedSubBloomFilter.findActivatedFilter(1)) == 1);
+        assertThat(getDataCount(splitShardedSubBloomFilter.findActivatedFilter(0))).isEqualTo(900);
     }
 
     @Test
-    @DisplayName("서브 필터 개수가 최대치에 도달하면 더 이상 추가되지 않는다")
-    void add_shouldNotAddSubFilter_whenSubFilterCountReachesMaxLimit() {
-        // given: 최대 서브 필터 개수까지 모두 채운 상태
+    @DisplayName("서브 필터 개수 제한이 없으면 데이터가 늘어나는 만큼 서브 필터가 계속 추가된다")
+    void add_shouldGrowWithoutLimit() {
+        // given
         SplitShardedSubBloomFilter splitShardedSubBloomFilter =
                 SplitShardedSubBloomFilter.create("testId", 1000, 0.01, 4);
 
-        int count = 1000 + 2000 + 4000 - 1;
-        for (int i = 0; i < count; i++) {
-            handler.add(splitShardedSubBloomFilter, "value" + i);
+        // when: 각 필터를 임계치까지 채움 (용량 1000, 2000, 4000의 90%)
+        addUntilGrown(splitShardedSubBloomFilter, 900, 1);
+        addUntilGrown(splitShardedSubBloomFilter, 1800, 2);
+        addUntilGrown(splitShardedSubBloomFilter, 3600, 3);
+
+        // then: 기존 최대 개수(2)를 넘어서 서브 필터가 추가됨
+        assertThat(getSubFilterCount(splitShardedSubBloomFilter)).isEqualTo(3);
+        for (int i = 0; i < 900 + 1800 + 3600; i++) {
+            assertThat(handler.mightContain(splitShardedSubBloomFilter, "value" + i)).isTrue();
         }
+    }
 
-        assertThat(getSubFilterCount(splitShardedSubBloomFilter)).isEqualTo(2);
-        assertThat(getDataCount(splitShardedSubBloomFilter.findActivatedFilter(2)))
-                .isEqualTo(3999);
+    @Test
+    @DisplayName("서브 필터 개수가 최대치에 도달하면 더 이상 추가되지 않는다")
+    void add_shouldNotAddSubFilter_whenSubFilterCountReachesMaxLimit() {
+        // given: 최대 서브 필터 개수(2)까지 모두 추가한 상태
+        SplitShardedSubBloomFilter splitShardedSubBloomFilter =
+                SplitShardedSubBloomFilter.create("testId", 1000, 0.01, 4, 2);
+
+        addUntilGrown(splitShardedSubBloomFilter, 900, 1);
+        addUntilGrown(splitShardedSubBloomFilter, 1800, 2);
 
-        // when: 최대 개수를 초과하는 데이터 추가
-        handler.add(splitShardedSubBloomFilter, "new value");
+        // when: 마지막 필터의 임계치를 넘는 데이터 추가
+        for (int i = 0; i < 4000; i++) {
+            handler.add(splitShardedSubBloomFilter, "new value" + i);
+        }
 
         // then: 서브 필터는 추가되지 않고, 마지막 필터에만 데이터가 추가됨
+        awaitUntil(() -> getDataCount(splitShardedSubBloomFilter.findActivatedFilter(2)) == 4000);
         assertThat(getSubFilterCount(splitShardedSubBloomFilter)).isEqualTo(2);
-        assertThat(getDataCount(splitShardedSubBloomFilter.findActivatedFilter(2)))
-                .isEqualTo(4000);
     }
 
     @Test
@@ -117,6 +158,43 @@ class SplitShardedSubBloomFilterRedisHandlerTest extends RedisTestContainerSuppo
         }
     }
 
+    @Test
+    @DisplayName("다른 노드가 서브 필터를 추가하고 값을 넣은 직후, 서브 필터 개수가 아직 반영되지 않은 노드에서도 값이 조회된다")
+    void mightContain_whenSubFilterCountIsStale() {
+        // given
+        // 다른 노드: 알림 수신, 백그라운드 동기화를 시작하지 않아서 로컬에 캐시된 서브 필터 개수가 갱신되지 않음
+        SplitShardedSubBloomFilterRedisHandler staleHandler = new SplitShardedSubBloomFilterRedisHandler(
+                redisTemplate,
+                distributedLockProvider,
+                splitShardedBloomFilterRedisHandler,
+                splitBloomFilterRedisHandler,
+                redisMessageListenerContainer
+        );
+        SplitShardedSubBloomFilter splitShardedSubBloomFilter =
+                SplitShardedSubBloomFilter.create("testId", 1000, 0.01, 4);
+        staleHandler.mightContain(splitShardedSubBloomFilter, "value"); // 서브 필터 개수 0을 캐시
+
+        // 현재 노드: 서브 필터를 추가하고, 이후 값은 서브 필터에 저장
+        addUntilGrown(splitShardedSubBloomFilter, 900, 1);
+        List<String> values = IntStream.range(0, 100)
+                .mapToObj(idx -> "newValue" + idx)
+                .toList();
+        values.forEach(value -> handler.add(splitShardedSubBloomFilter, value));
+        awaitUntil(() -> getDataCount(splitShardedSubBloomFilter.findActivatedFilter(1)) == values.size());
+
+        // 기본 필터만 조회하면 대부분 없는 값으로 조회됨 (False Positive 제외)
+        SplitShardedBloomFilter baseFilter = splitShardedSubBloomFilter.findActivatedFilter(0);
+        assertThat(values.stream().filter(value -> splitShardedBloomFilterRedisHandler.mightContain(baseFilter, value)).count())
+                .isLessThan(values.size() / 10);
+
+        // when, then
+        assertThat(staleHandler.mightContainAll(splitShardedSubBloomFilter, values).values()).containsOnly(true);
+        for (String value : values) {
+            assertThat(staleHandler.mightContain(splitShardedSubBloomFilter, value)).isTrue();
+            assertThat(staleHandler.mightContainByScript(splitShardedSubBloomFilter, value)).isTrue();
+        }
+    }
+
     @Test
     @DisplayName("SplitShardedSubBloomFilter 초기화 시 예외 없이 수행된다")
     void init() {
@@ -145,6 +223,82 @@ class SplitShardedSubBloomFilterRedisHandlerTest extends RedisTestContainerSuppo
                 .isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("단건 조회는 서브 필터 별로 순차 조회한 결과와 동일하고, 서브 필터가 늘어나도 조회 시간이 일정하다")
+    void printExecutionTime_mightContain() {
+        // given: 서브 필터 3개까지 확장된 상태
+        SplitShardedSubBloomFilter splitShardedSubBloomFilter =
+                SplitShardedSubBloomFilter.create("testId", 1000, 0.01, 4);
+        addUntilGrown(splitShardedSubBloomFilter, 900, 1);
+        addUntilGrown(splitShardedSubBloomFilter, 1800, 2);
+        addUntilGrown(splitShardedSubBloomFilter, 3600, 3);
+        List<SplitShardedBloomFilter> filters = splitShardedSubBloomFilter.findAll(3);
+
+        // when, then: 기존 방식(서브 필터 별 순차 조회)과 결과 비교
+        for (int i = 0; i < 1000; i++) {
+            String value = "notAddedValue" + i;
+            assertThat(handler.mightContain(splitShardedSubBloomFilter, value))
+                    .isEqualTo(legacyMightContain(filters, value));
+        }
+
+        // 대부분의 조회는 없는 값이므로 모든 서브 필터를 확인해야 하는 경우로 측정
+        int count = 1000;
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                legacyMightContain(filters, "notAddedValue" + i);
+            }
+            long legacyMicros = (System.nanoTime() - start) / count / 1000;
+
+            start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                handler.mightContain(splitShardedSubBloomFilter, "notAddedValue" + i);
+            }
+            long micros = (System.nanoTime() - start) / count / 1000;
+
+            System.out.println("legacyMicros = " + legacyMicros + ", micros = " + micros);
+        }
+    }
+
+    /**
+     * 기존 방식: 서브 필터 별로 파이프라인을 실행하며 순차 조회
+     */
+    private boolean legacyMightContain(List<SplitShardedBloomFilter> filters, String value) {
+        return filters.stream()
+                .anyMatch(filter -> splitShardedBloomFilterRedisHandler.mightContain(filter, value));
+    }
+
+    /**
+     * 현재 활성 필터에 값을 추가하고, 백그라운드에서 서브 필터가 추가될 때까지 대기
+     * - 값은 이전에 추가한 값에 이어서 "value" + index 형태로 추가
+     */
+    private void addUntilGrown(SplitShardedSubBloomFilter splitShardedSubBloomFilter, int count, int expectedSubFilterCount) {
+        int start = IntStream.range(0, expectedSubFilterCount - 1)
+                .map(i -> 900 * (1 << i))
+                .sum();
+        for (int i = start; i < start + count; i++) {
+            handler.add(splitShardedSubBloomFilter, "value" + i);
+        }
+        awaitUntil(() -> getSubFilterCount(splitShardedSubBloomFilter) == expectedSubFilterCount);
+        // 이후 추가되는 값이 새로운 서브 필터에 저장되도록 로컬 서브 필터 개수가 반영될 때까지 대기
+        awaitUntil(() -> getDataCount(splitShardedSubBloomFilter.findActivatedFilter(expectedSubFilterCount - 1)) == count);
+    }
+
+    private void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("condition not satisfied within timeout");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
     /**
      * Redis에 저장된 서브 필터별 데이터 개수 조회
      */
@@ -167,4 +321,70 @@ class SplitShardedSubBloomFilterRedisHandlerTest extends RedisTestContainerSuppo
         return result == null ? 0 : Integer.parseInt(result);
     }
 
+    @Test
+    @DisplayName("Split + Sharding + Sub Filter 구조에 일괄 추가한 값은 일괄 조회 시 모두 true이고, 단건 조회 결과와 동일하다")
+    void mightContainAll() {
+        // given
+        SplitShardedSubBloomFilter splitShardedSubBloomFilter = SplitShardedSubBloomFilter.create("testId", 1000, 0.01, 4);
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        handler.addAll(splitShardedSubBloomFilter, values);
+
+        // 첫 일괄 추가로 기본 필터가 임계치를 넘어 서브 필터가 추가되고, 이후 값은 서브 필터에 저장된다
+        awaitUntil(() -> getSubFilterCount(splitShardedSubBloomFilter) == 1);
+        List<String> subFilterValues = IntStream.range(1000, 1500)
+                .mapToObj(idx -> "value" + idx)
+                .toList();
+        handler.addAll(splitShardedSubBloomFilter, subFilterValues);
+        awaitUntil(() -> getDataCount(splitShardedSubBloomFilter.findActivatedFilter(1)) == 500);
+        assertThat(getSubFilterCount(splitShardedSubBloomFilter)).isEqualTo(1);
+
+        List<String> notAddedValues = IntStream.range(0, 1000)
+                .mapToObj(idx -> "notAddedValue" + idx)
+                .toList();
+
+        // when
+        Map<String, Boolean> result = handler.mightContainAll(
+                splitShardedSubBloomFilter,
+                Stream.concat(values.stream(), subFilterValues.stream()).toList()
+        );
+        Map<String, Boolean> notAddedResult = handler.mightContainAll(splitShardedSubBloomFilter, notAddedValues);
+
+        // then
+        // 추가된 값은 False Negative 없이 모두 true
+        assertThat(result).hasSize(values.size() + subFilterValues.size());
+        assertThat(result.values()).containsOnly(true);
+
+        // 추가되지 않은 값은 단건 조회와 동일한 결과 (False Positive 포함)
+        for (String value : notAddedValues) {
+            assertThat(notAddedResult.get(value))
+                    .isEqualTo(handler.mightContain(splitShardedSubBloomFilter, value));
+        }
+        System.out.println("falsePositiveCount = " + notAddedResult.values().stream().filter(Boolean::booleanValue).count());
+    }
+
+    @Test
+    @DisplayName("Lua 스크립트 조회는 서브 필터에 저장된 데이터까지 조회하며, 기존 조회 결과와 동일하다")
+    void mightContainByScript() {
+        // given
+        // 기본 필터를 임계치까지 채워서 서브 필터를 추가하고, 이후 데이터는 서브 필터에 저장
+        SplitShardedSubBloomFilter splitShardedSubBloomFilter =
+                SplitShardedSubBloomFilter.create("testId", 1000, 0.01, 4);
+        addUntilGrown(splitShardedSubBloomFilter, 900, 1);
+        for (int i = 900; i < 1500; i++) {
+            handler.add(splitShardedSubBloomFilter, "value" + i);
+        }
+
+        // when, then
+        for (int i = 0; i < 1500; i++) {
+            assertThat(handler.mightContainByScript(splitShardedSubBloomFilter, "value" + i)).isTrue();
+        }
+        for (int i = 0; i < 1000; i++) {
+            String value = "notAddedValue" + i;
+            assertThat(handler.mightContainByScript(splitShardedSubBloomFilter, value))
+                    .isEqualTo(handler.mightContain(splitShardedSubBloomFilter, value));
+        }
+    }
+
 }
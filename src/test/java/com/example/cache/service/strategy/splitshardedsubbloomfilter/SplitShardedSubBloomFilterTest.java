@@ -48,6 +48,23 @@ class SplitShardedSubBloomFilterTest {
         assertThat(subFilter2.getFalsePositiveRate()).isEqualTo(0.00125);
     }
 
+    @Test
+    @DisplayName("같은 index의 Sub Filter는 한 번만 생성하고 재사용한다")
+    void findSubFilter_shouldReuseSubFilter() {
+        // given
+        SplitShardedSubBloomFilter splitShardedSubBloomFilter = SplitShardedSubBloomFilter.create(
+                "testId", 1000, 0.01, 4
+        );
+
+        // when
+        SplitShardedBloomFilter subFilter = splitShardedSubBloomFilter.findSubFilter(1);
+
+        // then
+        assertThat(splitShardedSubBloomFilter.findSubFilter(1)).isSameAs(subFilter);
+        assertThat(splitShardedSubBloomFilter.findActivatedFilter(2)).isSameAs(subFilter);
+        assertThat(splitShardedSubBloomFilter.findAll(2).get(2)).isSameAs(subFilter);
+    }
+
     @Test
     @DisplayName("Sub Filter가 없으면 기본 SplitShardedBloomFilter가 활성 필터로 사용된다")
     void findActivatedFilter_shouldReturnOriginFilter_whenSubFilterNotExists() {
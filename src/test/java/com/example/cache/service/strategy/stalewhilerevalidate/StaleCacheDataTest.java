@@ -0,0 +1,60 @@
+package com.example.cache.service.strategy.stalewhilerevalidate;
+
+import com.example.cache.serde.DataCodecs;
+import com.example.cache.serde.DataCompressor;
+import com.example.cache.serde.DataType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaleCacheDataTest {
+
+    @Test
+    @DisplayName("StaleCacheData 생성 시 데이터가 헤더 뒤에 그대로 직렬화되고, 다시 원본 타입으로 역직렬화된다")
+    void parseData() {
+        StaleCacheData staleCacheData = StaleCacheData.of(1234L, Duration.ofSeconds(10), DataCodecs.JSON, DataCompressor.NONE, DataType.OBJECT);
+
+        byte[] bytes = staleCacheData.toBytes();
+        assertThat(new String(bytes, StaleCacheData.HEADER_SIZE, staleCacheData.getDataSize(), StandardCharsets.UTF_8))
+                .isEqualTo("1234");
+        assertThat(staleCacheData.parseData(Long.class)).isEqualTo(1234L);
+    }
+
+    @Test
+    @DisplayName("저장된 값에서 헤더만 읽고, payload는 필요할 때 역직렬화한다")
+    void parseOrNull() {
+        StaleCacheData staleCacheData = StaleCacheData.of(1234L, Duration.ofSeconds(10), DataCodecs.JSON, DataCompressor.NONE, DataType.OBJECT);
+
+        StaleCacheData parsed = StaleCacheData.parseOrNull(staleCacheData.toBytes());
+
+        assertThat(parsed).isNotNull();
+        assertThat(parsed.getExpiredAtMillis()).isEqualTo(staleCacheData.getExpiredAtMillis());
+        assertThat(parsed.parseData(Long.class)).isEqualTo(1234L);
+    }
+
+    @Test
+    @DisplayName("이전 형식(JSON 문자열)이거나 헤더보다 짧은 값은 파싱하지 않는다")
+    void parseOrNull_invalid() {
+        byte[] legacy = "{\"data\":\"1234\",\"expiredAtMillis\":0}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(StaleCacheData.parseOrNull(null)).isNull();
+        assertThat(StaleCacheData.parseOrNull(legacy)).isNull();
+        assertThat(StaleCacheData.parseOrNull(new byte[]{StaleCacheData.FORMAT_VERSION, 0})).isNull();
+    }
+
+    @Test
+    @DisplayName("fresh TTL이 지나면 만료된 데이터로 취급된다")
+    void isExpired() throws InterruptedException {
+        StaleCacheData staleCacheData = StaleCacheData.of(1234L, Duration.ofMillis(100), DataCodecs.JSON, DataCompressor.NONE, DataType.OBJECT);
+        assertThat(staleCacheData.isExpired()).isFalse();
+
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(staleCacheData.isExpired()).isTrue();
+    }
+
+}
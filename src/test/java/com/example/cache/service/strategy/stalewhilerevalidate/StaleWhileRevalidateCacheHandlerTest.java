@@ -0,0 +1,228 @@
+package com.example.cache.service.strategy.stalewhilerevalidate;
+
+import com.example.cache.RedisTestContainerSupport;
+import com.example.cache.common.distributedlock.DistributedLockProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StaleWhileRevalidateCacheHandlerTest extends RedisTestContainerSupport {
+
+    @Autowired
+    StaleWhileRevalidateCacheHandler cacheHandler;
+
+    @Autowired
+    DistributedLockProvider distributedLockProvider;
+
+    @Test
+    @DisplayName("put 시 fresh TTL보다 긴 stale TTL로 저장된다")
+    void put() {
+        // given, when
+        cacheHandler.put("test", "testKey", Duration.ofSeconds(10), "data");
+
+        // then
+        Long ttlSeconds = redisTemplate.getExpire("testKey", TimeUnit.SECONDS);
+        assertThat(ttlSeconds).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("fetch는 최초 1회만 Data Source를 호출하고 이후에는 캐시를 사용한다")
+    void fetch() {
+        AtomicInteger sourceCallCount = new AtomicInteger();
+
+        assertThat(fetchData(sourceCallCount, "sourceData")).isEqualTo("sourceData");
+        assertThat(fetchData(sourceCallCount, "sourceData")).isEqualTo("sourceData");
+        assertThat(fetchData(sourceCallCount, "sourceData")).isEqualTo("sourceData");
+        assertThat(sourceCallCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 재계산 중이면 만료된 stale 데이터를 응답한다")
+    void fetch_shouldReturnStaleData_whenOtherNodeIsRefreshing() throws InterruptedException {
+        // given: 만료된 데이터 + 다른 노드가 재계산 락을 획득한 상태
+        cacheHandler.put("test", "testKey", Duration.ofMillis(100), "staleData");
+        TimeUnit.MILLISECONDS.sleep(200);
+        distributedLockProvider.lockOrNull("stale-while-revalidate:refresh:testKey", Duration.ofSeconds(3));
+
+        // when
+        AtomicInteger sourceCallCount = new AtomicInteger();
+        String result = fetchData(sourceCallCount, "newData");
+
+        // then
+        assertThat(result).isEqualTo("staleData");
+        assertThat(sourceCallCount.get()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("만료된 key에 동시 요청이 몰려도 Data Source는 1번만 호출된다")
+    void fetch_shouldRecomputeOnlyOnce_whenExpired() throws Exception {
+        // given: 만료된 stale 데이터
+        cacheHandler.put("test", "testKey", Duration.ofMillis(100), "staleData");
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        // when: 여러 노드에서 동시에 조회하는 상황을 가정 (스레드 = 노드)
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger sourceCallCount = new AtomicInteger();
+
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return cacheHandler.fetch(
+                        "test",
+                        "testKey",
+                        Duration.ofSeconds(10),
+                        () -> {
+                            sourceCallCount.incrementAndGet();
+                            sleep(300);
+                            return "newData";
+                        },
+                        String.class
+                );
+            }));
+        }
+        startLatch.countDown();
+
+        // then: 락을 획득한 1개만 재계산하고, 나머지는 stale 데이터로 응답
+        for (Future<String> future : futures) {
+            assertThat(future.get()).isIn("staleData", "newData");
+        }
+        assertThat(sourceCallCount.get()).isEqualTo(1);
+        assertThat(fetchData(sourceCallCount, "neverCalled")).isEqualTo("newData");
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("stale 데이터가 없고 다른 노드가 재계산 중이면 재계산 결과를 기다린다")
+    void fetch_shouldWaitForRefresh_whenNoStaleData() throws Exception {
+        // given: 다른 노드가 재계산 락을 획득하고, 잠시 후 결과를 저장
+        distributedLockProvider.lockOrNull("stale-while-revalidate:refresh:testKey", Duration.ofSeconds(3));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> {
+            sleep(300);
+            cacheHandler.put("test", "testKey", Duration.ofSeconds(10), "refreshedData");
+        });
+
+        // when
+        AtomicInteger sourceCallCount = new AtomicInteger();
+        String result = fetchData(sourceCallCount, "neverCalled");
+
+        // then
+        assertThat(result).isEqualTo("refreshedData");
+        assertThat(sourceCallCount.get()).isEqualTo(0);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("fetchAll은 캐시 미스 key와 락을 획득한 stale key만 Data Source에서 한 번에 조회하고, 다른 노드가 재계산 중인 key는 stale 데이터를 응답한다")
+    void fetchAll() throws InterruptedException {
+        // given
+        cacheHandler.put("test", "freshKey", Duration.ofSeconds(10), "freshData");
+        cacheHandler.put("test", "staleKey", Duration.ofMillis(100), "staleData");
+        cacheHandler.put("test", "lockedStaleKey", Duration.ofMillis(100), "lockedStaleData");
+        TimeUnit.MILLISECONDS.sleep(200);
+        // 다른 노드가 lockedStaleKey를 재계산 중
+        distributedLockProvider.lockOrNull("stale-while-revalidate:refresh:lockedStaleKey", Duration.ofSeconds(3));
+        List<List<String>> missLoaderCalls = new ArrayList<>();
+
+        // when
+        Map<String, String> result = cacheHandler.fetchAll(
+                "test",
+                List.of("freshKey", "staleKey", "lockedStaleKey", "missedKey"),
+                Duration.ofSeconds(10),
+                refreshKeys -> {
+                    missLoaderCalls.add(refreshKeys);
+                    return Map.of("staleKey", "refreshedData", "missedKey", "sourceData");
+                },
+                String.class
+        );
+
+        // then
+        assertThat(result).containsExactly(
+                Map.entry("freshKey", "freshData"),
+                Map.entry("staleKey", "refreshedData"),
+                Map.entry("lockedStaleKey", "lockedStaleData"),
+                Map.entry("missedKey", "sourceData")
+        );
+        assertThat(missLoaderCalls).containsExactly(List.of("missedKey", "staleKey"));
+        assertThat(redisTemplate.getExpire("missedKey", TimeUnit.SECONDS)).isGreaterThan(10);
+        // 재계산 후 락이 해제된다
+        assertThat(redisTemplate.hasKey("distributed-lock:stale-while-revalidate:refresh:staleKey")).isFalse();
+    }
+
+    @Test
+    @DisplayName("fetchAll은 모든 key가 fresh이면 Data Source를 호출하지 않는다")
+    void fetchAll_allFresh() {
+        // given
+        cacheHandler.put("test", "testKey1", Duration.ofSeconds(10), "data1");
+        cacheHandler.put("test", "testKey2", Duration.ofSeconds(10), "data2");
+        AtomicInteger missLoaderCallCount = new AtomicInteger();
+
+        // when
+        Map<String, String> result = cacheHandler.fetchAll(
+                "test",
+                List.of("testKey1", "testKey2"),
+                Duration.ofSeconds(10),
+                refreshKeys -> {
+                    missLoaderCallCount.incrementAndGet();
+                    return Map.of();
+                },
+                String.class
+        );
+
+        // then
+        assertThat(result).containsExactly(
+                Map.entry("testKey1", "data1"),
+                Map.entry("testKey2", "data2")
+        );
+        assertThat(missLoaderCallCount.get()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("evict 호출 시 캐시 데이터가 삭제된다")
+    void evict() {
+        cacheHandler.put("test", "testKey", Duration.ofSeconds(10), "data");
+
+        cacheHandler.evict("testKey");
+
+        assertThat(redisTemplate.opsForValue().get("testKey")).isNull();
+    }
+
+    private String fetchData(AtomicInteger sourceCallCount, String sourceData) {
+        return cacheHandler.fetch(
+                "test",
+                "testKey",
+                Duration.ofSeconds(10),
+                () -> {
+                    sourceCallCount.incrementAndGet();
+                    return sourceData;
+                },
+                String.class
+        );
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}